@@ -48,7 +48,7 @@ import org.redisson.config.Config;
 public class RedissonSessionManager extends ManagerBase implements Lifecycle {
 
     public enum ReadMode {REDIS, MEMORY}
-    public enum UpdateMode {DEFAULT, AFTER_REQUEST}
+    public enum UpdateMode {DEFAULT, AFTER_REQUEST, AFTER_REQUEST_DELTA}
     
     private final Log log = LogFactory.getLog(RedissonSessionManager.class);
 
@@ -59,6 +59,8 @@ public class RedissonSessionManager extends ManagerBase implements Lifecycle {
     private ReadMode readMode = ReadMode.MEMORY;
     private UpdateMode updateMode = UpdateMode.DEFAULT;
     private String keyPrefix = "";
+
+    private long accessUpdateInterval;
     
     public String getUpdateMode() {
         return updateMode.toString();
@@ -84,6 +86,22 @@ public class RedissonSessionManager extends ManagerBase implements Lifecycle {
         return configPath;
     }
 
+    public long getAccessUpdateInterval() {
+        return accessUpdateInterval;
+    }
+
+    /**
+     * Defines minimal interval in milliseconds between session access time updates stored in Redis.
+     * Session access within this interval is tracked only locally.
+     * Should be much less than session timeout.
+     * <code>0</code> means update on each access.
+     * 
+     * @param accessUpdateInterval - interval in milliseconds
+     */
+    public void setAccessUpdateInterval(long accessUpdateInterval) {
+        this.accessUpdateInterval = accessUpdateInterval;
+    }
+
     public String getKeyPrefix() {
         return keyPrefix;
     }
@@ -201,7 +219,7 @@ public class RedissonSessionManager extends ManagerBase implements Lifecycle {
     public void start() throws LifecycleException {
         redisson = buildClient();
         
-        if (updateMode == UpdateMode.AFTER_REQUEST) {
+        if (updateMode == UpdateMode.AFTER_REQUEST || updateMode == UpdateMode.AFTER_REQUEST_DELTA) {
             getEngine().getPipeline().addValve(new UpdateValve(this));
         }
         
@@ -284,7 +302,7 @@ public class RedissonSessionManager extends ManagerBase implements Lifecycle {
             return;
         }
         
-        if (updateMode == UpdateMode.AFTER_REQUEST) {
+        if (updateMode == UpdateMode.AFTER_REQUEST || updateMode == UpdateMode.AFTER_REQUEST_DELTA) {
             RedissonSession sess = (RedissonSession) findSession(session.getId());
             sess.save();
         }
@@ -13,6 +13,9 @@ import org.apache.http.impl.client.BasicCookieStore;
 import org.junit.Assert;
 import org.junit.Test;
 import org.redisson.Redisson;
+import org.redisson.api.Node;
+import org.redisson.api.Node.InfoSection;
+import org.redisson.api.RMap;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
 
@@ -184,6 +187,109 @@ public class RedissonSessionManagerTest {
         Assert.assertEquals(0, r.getKeys().count());
     }
     
+    @Test
+    public void testUpdateDelta() throws Exception {
+        File f = Paths.get("").toAbsolutePath().resolve("src/test/webapp/WEB-INF/redisson.yaml").toFile();
+        Config config = Config.fromYAML(f);
+        RedissonClient r = Redisson.create(config);
+        
+        TomcatServer server = new TomcatServer("myapp", 8080, "/src/test/", "src/test/webapp/META-INF/context-delta.xml");
+        server.start();
+
+        Executor executor = Executor.newInstance();
+        BasicCookieStore cookieStore = new BasicCookieStore();
+        executor.use(cookieStore);
+        
+        write(executor, "test1", "1");
+        write(executor, "test2", "2");
+        
+        String sessionId = cookieStore.getCookies().get(0).getValue();
+        RMap<String, Object> map = r.getMap("redisson:tomcat_session:" + sessionId);
+        Assert.assertEquals("1", map.get("test1"));
+        Assert.assertEquals("2", map.get("test2"));
+        
+        // unchanged attribute isn't written again
+        map.put("test1", "stored");
+        write(executor, "test2", "3");
+        Assert.assertEquals("stored", map.get("test1"));
+        Assert.assertEquals("3", map.get("test2"));
+        
+        Executor.closeIdleConnections();
+        server.stop();
+        r.shutdown();
+    }
+    
+    @Test
+    public void testUpdateSingleBatch() throws Exception {
+        File f = Paths.get("").toAbsolutePath().resolve("src/test/webapp/WEB-INF/redisson.yaml").toFile();
+        Config config = Config.fromYAML(f);
+        RedissonClient r = Redisson.create(config);
+        
+        TomcatServer server = new TomcatServer("myapp", 8080, "/src/test/", "src/test/webapp/META-INF/context-access.xml");
+        server.start();
+
+        Executor executor = Executor.newInstance();
+        BasicCookieStore cookieStore = new BasicCookieStore();
+        executor.use(cookieStore);
+        
+        write(executor, "test", "1");
+        long calls = getCalls(r, "hmset");
+        write(executor, "test", "2");
+        read(executor, "test", "2");
+        // session state and expiration are stored by single batch per request
+        Assert.assertEquals(calls + 2, getCalls(r, "hmset"));
+        
+        String sessionId = cookieStore.getCookies().get(0).getValue();
+        RMap<String, Object> map = r.getMap("redisson:tomcat_session:" + sessionId);
+        Assert.assertEquals("2", map.get("test"));
+        Assert.assertTrue(map.remainTimeToLive() > 0);
+        
+        Executor.closeIdleConnections();
+        server.stop();
+        r.shutdown();
+    }
+    
+    @Test
+    public void testAccessUpdateInterval() throws Exception {
+        File f = Paths.get("").toAbsolutePath().resolve("src/test/webapp/WEB-INF/redisson.yaml").toFile();
+        Config config = Config.fromYAML(f);
+        RedissonClient r = Redisson.create(config);
+        
+        TomcatServer server = new TomcatServer("myapp", 8080, "/src/test/", "src/test/webapp/META-INF/context-access.xml");
+        server.start();
+
+        Executor executor = Executor.newInstance();
+        BasicCookieStore cookieStore = new BasicCookieStore();
+        executor.use(cookieStore);
+        
+        write(executor, "test", "1");
+        long calls = getCalls(r, "hmset");
+        read(executor, "test", "1");
+        read(executor, "test", "1");
+        // access time updates are skipped within interval
+        Assert.assertEquals(calls + 2, getCalls(r, "hmset"));
+        
+        Thread.sleep(6000);
+        
+        read(executor, "test", "1");
+        // access time update and session save
+        Assert.assertEquals(calls + 4, getCalls(r, "hmset"));
+        
+        Executor.closeIdleConnections();
+        server.stop();
+        r.shutdown();
+    }
+    
+    private long getCalls(RedissonClient redisson, String command) {
+        Node node = redisson.getNodesGroup().getNodes().iterator().next();
+        String stats = node.info(InfoSection.COMMANDSTATS).get("cmdstat_" + command);
+        if (stats == null) {
+            return 0;
+        }
+        String calls = stats.split(",")[0];
+        return Long.valueOf(calls.substring(calls.indexOf('=') + 1));
+    }
+    
     private void write(Executor executor, String key, String value) throws IOException, ClientProtocolException {
         String url = "http://localhost:8080/myapp/write?key=" + key + "&value=" + value;
         String response = executor.execute(Request.Get(url)).returnContent().asString();
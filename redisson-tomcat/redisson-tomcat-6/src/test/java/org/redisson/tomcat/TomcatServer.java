@@ -42,6 +42,13 @@ public class TomcatServer {
      * @throws Exception
      */
     public TomcatServer(String contextPath, int port, String appBase) {
+        this(contextPath, port, appBase, "src/test/webapp/META-INF/context.xml");
+    }
+    
+    /**
+     * @param contextXml path to context.xml applied to the application
+     */
+    public TomcatServer(String contextPath, int port, String appBase, String contextXml) {
         if(contextPath == null || appBase == null || appBase.length() == 0) {
             throw new IllegalArgumentException("Context path or appbase should not be null");
         }
@@ -58,7 +65,7 @@ public class TomcatServer {
         localHost.setAutoDeploy(false);
 
         StandardContext rootContext = (StandardContext) server.createContext(contextPath, "webapp");
-        String s = Paths.get("").toAbsolutePath().resolve("src/test/webapp/META-INF/context.xml").toString();
+        String s = Paths.get("").toAbsolutePath().resolve(contextXml).toString();
         rootContext.setDefaultContextXml(s);
         localHost.addChild(rootContext);
 
@@ -15,18 +15,29 @@
  */
 package org.redisson.tomcat;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.catalina.session.StandardSession;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
 import org.redisson.api.RMap;
+import org.redisson.api.RMapAsync;
 import org.redisson.api.RTopic;
+import org.redisson.misc.Hash;
 import org.redisson.tomcat.RedissonSessionManager.ReadMode;
 import org.redisson.tomcat.RedissonSessionManager.UpdateMode;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Redisson Session object for Apache Tomcat
  * 
@@ -41,6 +52,8 @@ public class RedissonSession extends StandardSession {
     private RTopic<AttributeMessage> topic;
     private final RedissonSessionManager.ReadMode readMode;
     private final UpdateMode updateMode;
+    private long lastAccessUpdateTime;
+    private final Map<String, Long> storedHashes = new ConcurrentHashMap<String, Long>();
     
     public RedissonSession(RedissonSessionManager manager, RedissonSessionManager.ReadMode readMode, UpdateMode updateMode) {
         super(manager);
@@ -75,12 +88,39 @@ public class RedissonSession extends StandardSession {
     }
     
     public void delete() {
-        map.delete();
+        RBatch batch = createBatch();
+        batch.getMap(map.getName()).deleteAsync();
         if (readMode == ReadMode.MEMORY) {
-            topic.publish(new AttributesClearMessage(getId()));
+            batch.getTopic(getTopicName()).publishAsync(new AttributesClearMessage(getId()));
         }
+        batch.execute();
         map = null;
     }
+
+    private RBatch createBatch() {
+        return redissonManager.getRedisson().createBatch(BatchOptions.defaults());
+    }
+
+    private String getTopicName() {
+        return topic.getChannelNames().get(0);
+    }
+
+    /**
+     * Stores attributes, publishes them in <code>MEMORY</code> read mode
+     * and optionally updates session expiration in single batch.
+     */
+    private void putAll(Map<String, Object> newMap, boolean updateExpiration) {
+        RBatch batch = createBatch();
+        RMapAsync<String, Object> batchMap = batch.getMap(map.getName());
+        batchMap.putAllAsync(newMap);
+        if (readMode == ReadMode.MEMORY) {
+            batch.getTopic(getTopicName()).publishAsync(new AttributesPutAllMessage(getId(), newMap));
+        }
+        if (updateExpiration && maxInactiveInterval >= 0) {
+            batchMap.expireAsync(maxInactiveInterval, TimeUnit.SECONDS);
+        }
+        batch.execute();
+    }
     
     @Override
     public void setCreationTime(long time) {
@@ -91,10 +131,7 @@ public class RedissonSession extends StandardSession {
             newMap.put("session:creationTime", creationTime);
             newMap.put("session:lastAccessedTime", lastAccessedTime);
             newMap.put("session:thisAccessedTime", thisAccessedTime);
-            map.putAll(newMap);
-            if (readMode == ReadMode.MEMORY) {
-                topic.publish(new AttributesPutAllMessage(getId(), newMap));
-            }
+            putAll(newMap, false);
         }
     }
     
@@ -103,16 +140,16 @@ public class RedissonSession extends StandardSession {
         super.access();
         
         if (map != null) {
+            long interval = redissonManager.getAccessUpdateInterval();
+            if (interval > 0 && thisAccessedTime - lastAccessUpdateTime < interval) {
+                return;
+            }
+            lastAccessUpdateTime = thisAccessedTime;
+
             Map<String, Object> newMap = new HashMap<String, Object>(2);
             newMap.put("session:lastAccessedTime", lastAccessedTime);
             newMap.put("session:thisAccessedTime", thisAccessedTime);
-            map.putAll(newMap);
-            if (readMode == ReadMode.MEMORY) {
-                topic.publish(new AttributesPutAllMessage(getId(), newMap));
-            }
-            if (getMaxInactiveInterval() >= 0) {
-                map.expire(getMaxInactiveInterval(), TimeUnit.SECONDS);
-            }
+            putAll(newMap, true);
         }
     }
     
@@ -121,18 +158,22 @@ public class RedissonSession extends StandardSession {
         super.setMaxInactiveInterval(interval);
         
         if (map != null) {
-            fastPut("session:maxInactiveInterval", maxInactiveInterval);
-            if (maxInactiveInterval >= 0) {
-                map.expire(getMaxInactiveInterval(), TimeUnit.SECONDS);
-            }
+            Map<String, Object> newMap = new HashMap<String, Object>(1);
+            newMap.put("session:maxInactiveInterval", maxInactiveInterval);
+            putAll(newMap, true);
         }
     }
 
     private void fastPut(String name, Object value) {
-        map.fastPut(name, value);
-        if (readMode == ReadMode.MEMORY) {
-            topic.publish(new AttributeUpdateMessage(getId(), name, value));
+        if (readMode != ReadMode.MEMORY) {
+            map.fastPut(name, value);
+            return;
         }
+
+        RBatch batch = createBatch();
+        batch.getMap(map.getName()).fastPutAsync(name, value);
+        batch.getTopic(getTopicName()).publishAsync(new AttributeUpdateMessage(getId(), name, value));
+        batch.execute();
     }
     
     @Override
@@ -189,10 +230,15 @@ public class RedissonSession extends StandardSession {
         super.removeAttributeInternal(name, notify);
         
         if (updateMode == UpdateMode.DEFAULT && map != null) {
-            map.fastRemove(name);
-            if (readMode == ReadMode.MEMORY) {
-                topic.publish(new AttributeRemoveMessage(getId(), name));
+            if (readMode != ReadMode.MEMORY) {
+                map.fastRemove(name);
+                return;
             }
+
+            RBatch batch = createBatch();
+            batch.getMap(map.getName()).fastRemoveAsync(name);
+            batch.getTopic(getTopicName()).publishAsync(new AttributeRemoveMessage(getId(), name));
+            batch.execute();
         }
     }
     
@@ -211,17 +257,92 @@ public class RedissonSession extends StandardSession {
             }
         }
         
-        map.putAll(newMap);
-        if (readMode == ReadMode.MEMORY) {
-            topic.publish(new AttributesPutAllMessage(getId(), newMap));
+        if (updateMode == UpdateMode.AFTER_REQUEST_DELTA) {
+            saveDelta(newMap);
+            return;
+        }
+        putAll(newMap, true);
+    }
+
+    /**
+     * Stores and publishes only attributes which have been added, changed 
+     * or removed since previous save. Attributes are compared by hash of serialized state.
+     * Concurrent requests of the same session save their deltas one by one.
+     */
+    private void saveDelta(Map<String, Object> newMap) {
+        synchronized (storedHashes) {
+            try {
+                writeDelta(newMap);
+            } catch (RuntimeException e) {
+                // stored state is unknown, so all attributes are written on next save
+                storedHashes.clear();
+                throw e;
+            }
+        }
+    }
+    
+    private void writeDelta(Map<String, Object> newMap) {
+        Map<String, Object> changedMap = new HashMap<String, Object>();
+        for (Entry<String, Object> entry : newMap.entrySet()) {
+            long hash = hash(entry.getValue());
+            Long storedHash = storedHashes.put(entry.getKey(), hash);
+            if (storedHash == null || storedHash != hash) {
+                changedMap.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        List<String> removedNames = new ArrayList<String>();
+        for (Iterator<String> iterator = storedHashes.keySet().iterator(); iterator.hasNext();) {
+            String name = iterator.next();
+            if (!newMap.containsKey(name)) {
+                removedNames.add(name);
+                iterator.remove();
+            }
+        }
+
+        RBatch batch = createBatch();
+        RMapAsync<String, Object> batchMap = batch.getMap(map.getName());
+        if (!changedMap.isEmpty()) {
+            batchMap.putAllAsync(changedMap);
+            if (readMode == ReadMode.MEMORY) {
+                batch.getTopic(getTopicName()).publishAsync(new AttributesPutAllMessage(getId(), changedMap));
+            }
+        }
+        if (!removedNames.isEmpty()) {
+            batchMap.fastRemoveAsync(removedNames.toArray(new String[removedNames.size()]));
+            if (readMode == ReadMode.MEMORY) {
+                for (String name : removedNames) {
+                    batch.getTopic(getTopicName()).publishAsync(new AttributeRemoveMessage(getId(), name));
+                }
+            }
         }
-        
         if (maxInactiveInterval >= 0) {
-            map.expire(getMaxInactiveInterval(), TimeUnit.SECONDS);
+            batchMap.expireAsync(maxInactiveInterval, TimeUnit.SECONDS);
+        }
+        batch.execute();
+    }
+
+    private long hash(Object value) {
+        ByteBuf state = null;
+        try {
+            state = redissonManager.getRedisson().getConfig().getCodec().getMapValueEncoder().encode(value);
+            return Hash.hash64(state);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (state != null) {
+                state.release();
+            }
         }
     }
     
     public void load(Map<String, Object> attrs) {
+        if (updateMode == UpdateMode.AFTER_REQUEST_DELTA) {
+            for (Entry<String, Object> entry : attrs.entrySet()) {
+                storedHashes.put(entry.getKey(), hash(entry.getValue()));
+            }
+        }
+
         Long creationTime = (Long) attrs.remove("session:creationTime");
         if (creationTime != null) {
             this.creationTime = creationTime;
@@ -1,9 +1,11 @@
 package org.redisson.tomcat;
 
 import java.net.MalformedURLException;
+import java.nio.file.Paths;
 
 import javax.servlet.ServletException;
 
+import org.apache.catalina.Context;
 import org.apache.catalina.LifecycleException;
 import org.apache.catalina.startup.Tomcat;
 import org.slf4j.Logger;
@@ -19,6 +21,13 @@ public class TomcatServer {
     private static final boolean isInfo = LOG.isInfoEnabled();
 
     public TomcatServer(String contextPath, int port, String appBase) throws MalformedURLException, ServletException {
+        this(contextPath, port, appBase, null);
+    }
+    
+    /**
+     * @param contextXml path to context.xml used instead of webapp's META-INF/context.xml
+     */
+    public TomcatServer(String contextPath, int port, String appBase, String contextXml) throws MalformedURLException, ServletException {
         if(contextPath == null || appBase == null || appBase.length() == 0) {
             throw new IllegalArgumentException("Context path or appbase should not be null");
         }
@@ -30,7 +39,10 @@ public class TomcatServer {
         tomcat.setPort(port);
         tomcat.getHost().setAppBase(".");
 
-        tomcat.addWebapp(contextPath, appBase + "/webapp");
+        Context context = tomcat.addWebapp(contextPath, appBase + "/webapp");
+        if (contextXml != null) {
+            context.setConfigFile(Paths.get("").toAbsolutePath().resolve(contextXml).toUri().toURL());
+        }
     }
 
     /**
@@ -15,12 +15,26 @@
  */
 package org.redisson;
 
+import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Queue;
 
+import org.redisson.api.RFuture;
 import org.redisson.client.RedisClient;
+import org.redisson.client.RedisException;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
 
 /**
+ * Iterator over SCAN-like command pages.
+ * <p>
+ * If <code>prefetchSize</code> is greater than zero, pages are loaded 
+ * asynchronously ahead of the page being consumed using {@link #iteratorAsync(RedisClient, long)}.
+ * Pages are loaded synchronously if subclass doesn't override it.
  * 
  * @author Nikita Koksharov
  *
@@ -37,6 +51,21 @@ public abstract class BaseIterator<V, E> implements Iterator<V> {
     private boolean currentElementRemoved;
     protected E value;
 
+    private final int prefetchSize;
+    private final Queue<RFuture<? extends ScanResult<E>>> pages = new ArrayDeque<RFuture<? extends ScanResult<E>>>();
+    private boolean fetching;
+    private boolean paused;
+    private RedisClient pausedClient;
+    private long pausedPos;
+    
+    public BaseIterator() {
+        this(0);
+    }
+    
+    public BaseIterator(int prefetchSize) {
+        this.prefetchSize = prefetchSize;
+    }
+    
     @Override
     public boolean hasNext() {
         if (lastIter == null || !lastIter.hasNext()) {
@@ -51,7 +80,7 @@ public abstract class BaseIterator<V, E> implements Iterator<V> {
                 finished = false;
             }
             do {
-                ScanResult<E> res = iterator(client, nextIterPos);
+                ScanResult<E> res = nextPage();
                 
                 client = res.getRedisClient();
                 
@@ -77,12 +106,134 @@ public abstract class BaseIterator<V, E> implements Iterator<V> {
         return lastIter.hasNext();
     }
     
+    /**
+     * Returns <code>true</code> if {@link #hasNext()} 
+     * could be invoked without waiting for Redis response.
+     * Loaded empty pages with non-zero cursor are skipped,
+     * since {@link #hasNext()} would wait for the following page.
+     * Starts loading of the next page otherwise.
+     * 
+     * @return <code>true</code> if iterator is ready
+     */
+    boolean isReady() {
+        if (finished || (lastIter != null && lastIter.hasNext())) {
+            return true;
+        }
+        if (prefetchSize == 0) {
+            return false;
+        }
+        
+        while (true) {
+            synchronized (pages) {
+                RFuture<? extends ScanResult<E>> page = pages.peek();
+                if (page == null) {
+                    fetch(client, nextIterPos);
+                    return false;
+                }
+                if (!page.isDone()) {
+                    return false;
+                }
+                if (!page.isSuccess() 
+                        || page.getNow().getPos() == 0 
+                            || !page.getNow().getValues().isEmpty()) {
+                    return true;
+                }
+            }
+            
+            // page is loaded already, so it's taken without waiting
+            ScanResult<E> res = nextPage();
+            client = res.getRedisClient();
+            lastIter = res.getValues().iterator();
+            nextIterPos = res.getPos();
+        }
+    }
+    
+    private ScanResult<E> nextPage() {
+        if (prefetchSize == 0) {
+            return iterator(client, nextIterPos);
+        }
+
+        RFuture<? extends ScanResult<E>> page;
+        synchronized (pages) {
+            if (pages.isEmpty()) {
+                fetch(client, nextIterPos);
+            }
+            page = pages.poll();
+            if (paused && pages.size() < prefetchSize) {
+                paused = false;
+                fetch(pausedClient, pausedPos);
+            }
+        }
+        
+        page.awaitUninterruptibly();
+        if (!page.isSuccess()) {
+            if (page.cause() instanceof RedisException) {
+                throw (RedisException) page.cause();
+            }
+            throw new RedisException("Unexpected exception while processing command", page.cause());
+        }
+        return page.getNow();
+    }
+    
+    private void fetch(RedisClient client, long pos) {
+        if (fetching) {
+            return;
+        }
+        fetching = true;
+        
+        // page is completed after the next page request has been sent
+        final RPromise<ScanResult<E>> page = new RedissonPromise<ScanResult<E>>();
+        pages.add(page);
+        RFuture<? extends ScanResult<E>> future = iteratorAsync(client, pos);
+        future.addListener(new FutureListener<ScanResult<E>>() {
+            @Override
+            public void operationComplete(Future<ScanResult<E>> future) throws Exception {
+                synchronized (pages) {
+                    fetching = false;
+                    if (future.isSuccess() && future.getNow().getPos() != 0) {
+                        ScanResult<E> res = future.getNow();
+                        if (pages.size() < prefetchSize) {
+                            fetch(res.getRedisClient(), res.getPos());
+                        } else {
+                            paused = true;
+                            pausedClient = res.getRedisClient();
+                            pausedPos = res.getPos();
+                        }
+                    }
+                }
+                
+                if (future.isSuccess()) {
+                    page.trySuccess(future.getNow());
+                } else {
+                    page.tryFailure(future.cause());
+                }
+                onPageLoaded();
+            }
+        });
+    }
+    
+    /**
+     * Invoked once prefetched page has been loaded
+     */
+    protected void onPageLoaded() {
+    }
+    
     protected boolean tryAgain() {
         return false;
     }
 
     protected abstract ScanResult<E> iterator(RedisClient client, long nextIterPos);
 
+    protected RFuture<? extends ScanResult<E>> iteratorAsync(RedisClient client, long nextIterPos) {
+        RPromise<ScanResult<E>> result = new RedissonPromise<ScanResult<E>>();
+        try {
+            result.trySuccess(iterator(client, nextIterPos));
+        } catch (RuntimeException e) {
+            result.tryFailure(e);
+        }
+        return result;
+    }
+    
     @Override
     public V next() {
         if (!hasNext()) {
@@ -22,7 +22,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
@@ -77,6 +76,8 @@ public abstract class BaseRemoteService {
 
     private static final Logger log = LoggerFactory.getLogger(BaseRemoteService.class);
 
+    private static final int RESPONSES_BATCH_SIZE = 100;
+
     private final Map<Class<?>, String> requestQueueNameCache = PlatformDependent.newConcurrentHashMap();
     private final ConcurrentMap<Method, List<String>> methodSignaturesCache = PlatformDependent.newConcurrentHashMap();
 
@@ -429,87 +430,43 @@ public abstract class BaseRemoteService {
             final RequestId requestId, boolean insertFirst) {
         final RPromise<T> responseFuture = new RedissonPromise<T>();
 
-        ResponseEntry entry;
-        synchronized (responses) {
-            entry = responses.get(responseQueueName);
-            if (entry == null) {
-                entry = new ResponseEntry();
-                ResponseEntry oldEntry = responses.putIfAbsent(responseQueueName, entry);
-                if (oldEntry != null) {
-                    entry = oldEntry;
-                }
+        ResponseEntry e = responses.get(responseQueueName);
+        if (e == null) {
+            e = new ResponseEntry();
+            ResponseEntry oldEntry = responses.putIfAbsent(responseQueueName, e);
+            if (oldEntry != null) {
+                e = oldEntry;
             }
+        }
+        final ResponseEntry entry = e;
             
-            responseFuture.addListener(new FutureListener<T>() {
-                @Override
-                public void operationComplete(Future<T> future) throws Exception {
-                    if (future.isCancelled()) {
-                        synchronized (responses) {
-                            ResponseEntry entry = responses.get(responseQueueName);
-                            List<Result> list = entry.getResponses().get(requestId);
-                            if (list == null) {
-                                return;
-                            }
-                            
-                            for (Iterator<Result> iterator = list.iterator(); iterator.hasNext();) {
-                                Result result = iterator.next();
-                                if (result.getPromise() == responseFuture) {
-                                    result.getScheduledFuture().cancel(true);
-                                    iterator.remove();
-                                }
-                            }
-                            if (list.isEmpty()) {
-                                entry.getResponses().remove(requestId);
-                            }
-
-                            if (entry.getResponses().isEmpty()) {
-                                responses.remove(responseQueueName, entry);
-                            }
-                        }
-                    }
-                    
+        ScheduledFuture<?> future = commandExecutor.getConnectionManager().getGroup().schedule(new Runnable() {
+            @Override
+            public void run() {
+                RemoteServiceTimeoutException ex = new RemoteServiceTimeoutException("No response after " + timeout + "ms");
+                if (responseFuture.tryFailure(ex)) {
+                    entry.remove(requestId, responseFuture);
                 }
-            });
-            
-            ScheduledFuture<?> future = commandExecutor.getConnectionManager().getGroup().schedule(new Runnable() {
-                @Override
-                public void run() {
-                    synchronized (responses) {
-                        ResponseEntry entry = responses.get(responseQueueName);
-                        if (entry == null) {
-                            return;
-                        }
-                        
-                        RemoteServiceTimeoutException ex = new RemoteServiceTimeoutException("No response after " + timeout + "ms");
-                        if (responseFuture.tryFailure(ex)) {
-                            List<Result> list = entry.getResponses().get(requestId);
-                            list.remove(0);
-                            if (list.isEmpty()) {
-                                entry.getResponses().remove(requestId);
-                            }
-                            if (entry.getResponses().isEmpty()) {
-                                responses.remove(responseQueueName, entry);
-                            }
-                        }
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+
+        entry.add(requestId, new Result(responseFuture, future), insertFirst);
+        
+        responseFuture.addListener(new FutureListener<T>() {
+            @Override
+            public void operationComplete(Future<T> future) throws Exception {
+                if (future.isCancelled()) {
+                    Result result = entry.remove(requestId, responseFuture);
+                    if (result != null) {
+                        result.getScheduledFuture().cancel(true);
                     }
                 }
-            }, timeout, TimeUnit.MILLISECONDS);
-
-            final Map<RequestId, List<Result>> entryResponses = entry.getResponses();
-            List<Result> list = entryResponses.get(requestId);
-            if (list == null) {
-                list = new ArrayList<Result>(3);
-                entryResponses.put(requestId, list);
-            }
-            
-            Result res = new Result(responseFuture, future);
-            if (insertFirst) {
-                list.add(0, res);
-            } else {
-                list.add(res);
             }
+        });
+        if (responseFuture.isDone()) {
+            // timed out before it has been added
+            entry.remove(requestId, responseFuture);
         }
-
         
         pollTasks(entry);
         return responseFuture;
@@ -520,6 +477,10 @@ public abstract class BaseRemoteService {
             return;
         }
         
+        takeResponse(entry);
+    }
+    
+    private void takeResponse(final ResponseEntry entry) {
         RBlockingQueue<RRemoteServiceResponse> responseQueue = redisson.getBlockingQueue(responseQueueName, codec);
         RFuture<RRemoteServiceResponse> future = responseQueue.takeAsync();
         future.addListener(new FutureListener<RRemoteServiceResponse>() {
@@ -528,48 +489,76 @@ public abstract class BaseRemoteService {
             public void operationComplete(Future<RRemoteServiceResponse> future) throws Exception {
                 if (!future.isSuccess()) {
                     log.error("Can't get response from " + responseQueueName, future.cause());
+                    entry.getStarted().set(false);
                     return;
                 }
                 
-                RRemoteServiceResponse response = future.getNow();
-                RPromise<RRemoteServiceResponse> promise;
-                synchronized (responses) {
-                    ResponseEntry entry = responses.get(responseQueueName);
-                    if (entry == null) {
-                        return;
-                    }
-                    
-                    RequestId key = new RequestId(response.getId());
-                    List<Result> list = entry.getResponses().get(key);
-                    if (list == null) {
-                        RBlockingQueue<RRemoteServiceResponse> responseQueue = redisson.getBlockingQueue(responseQueueName, codec);
-                        responseQueue.takeAsync().addListener(this);
-                        return;
-                    }
-                    
-                    Result res = list.remove(0);
-                    if (list.isEmpty()) {
-                        entry.getResponses().remove(key);
-                    }
+                handleResponse(entry, future.getNow());
+                drainResponses(entry);
+            }
+        });
+    }
 
-                    promise = res.getPromise();
-                    res.getScheduledFuture().cancel(true);
-                    
-                    if (entry.getResponses().isEmpty()) {
-                        responses.remove(responseQueueName, entry);
-                    } else {
-                        RBlockingQueue<RRemoteServiceResponse> responseQueue = redisson.getBlockingQueue(responseQueueName, codec);
-                        responseQueue.takeAsync().addListener(this);
-                    }
+    /**
+     * Loads responses accumulated in queue using single request 
+     * instead of blocking request per response.
+     */
+    private void drainResponses(final ResponseEntry entry) {
+        if (!isPolling(entry)) {
+            return;
+        }
+        
+        RBlockingQueue<RRemoteServiceResponse> responseQueue = redisson.getBlockingQueue(responseQueueName, codec);
+        final List<RRemoteServiceResponse> drainedResponses = new ArrayList<RRemoteServiceResponse>();
+        RFuture<Integer> future = responseQueue.drainToAsync(drainedResponses, RESPONSES_BATCH_SIZE);
+        future.addListener(new FutureListener<Integer>() {
+            @Override
+            public void operationComplete(Future<Integer> future) throws Exception {
+                if (!future.isSuccess()) {
+                    log.error("Can't get responses from " + responseQueueName, future.cause());
+                    entry.getStarted().set(false);
+                    return;
                 }
-
-                if (promise != null) {
-                    promise.trySuccess(response);
+                
+                for (RRemoteServiceResponse response : drainedResponses) {
+                    handleResponse(entry, response);
+                }
+                
+                if (drainedResponses.size() == RESPONSES_BATCH_SIZE) {
+                    drainResponses(entry);
+                } else if (isPolling(entry)) {
+                    takeResponse(entry);
                 }
             }
         });
     }
     
+    /**
+     * Stops polling if there are no pending responses. 
+     * Returns <code>true</code> if polling should be continued.
+     */
+    private boolean isPolling(ResponseEntry entry) {
+        if (!entry.getResponses().isEmpty()) {
+            return true;
+        }
+        
+        entry.getStarted().set(false);
+        // response could be registered before flag reset
+        return !entry.getResponses().isEmpty() 
+                    && entry.getStarted().compareAndSet(false, true);
+    }
+    
+    private void handleResponse(ResponseEntry entry, RRemoteServiceResponse response) {
+        Result res = entry.poll(new RequestId(response.getId()));
+        if (res == null) {
+            return;
+        }
+        
+        res.getScheduledFuture().cancel(true);
+        RPromise<RRemoteServiceResponse> promise = res.getPromise();
+        promise.trySuccess(response);
+    }
+    
     private <T> T sync(final Class<T> remoteInterface, final RemoteInvocationOptions options) {
         // local copy of the options, to prevent mutation
         final RemoteInvocationOptions optionsCopy = new RemoteInvocationOptions(options);
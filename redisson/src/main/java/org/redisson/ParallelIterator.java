@@ -0,0 +1,95 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Iterator which consumes multiple prefetching iterators concurrently.
+ * Values are returned from any iterator which has loaded page, 
+ * so order between iterators isn't defined.
+ * Only ready iterators are polled, so slow node 
+ * or node returning empty pages doesn't block the others.
+ * <p>
+ * Added iterators should invoke {@link #onPageLoaded()} 
+ * once page has been loaded.
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <V> value type
+ */
+class ParallelIterator<V> implements Iterator<V> {
+
+    private final List<BaseIterator<V, ?>> iterators = new ArrayList<BaseIterator<V, ?>>();
+    private final Semaphore loadedPages = new Semaphore(0);
+    private BaseIterator<V, ?> current;
+    private BaseIterator<V, ?> lastIterator;
+    
+    public void add(BaseIterator<V, ?> iterator) {
+        iterators.add(iterator);
+        // starts loading of the first page
+        iterator.isReady();
+    }
+    
+    public void onPageLoaded() {
+        loadedPages.release();
+    }
+    
+    @Override
+    public boolean hasNext() {
+        while (!iterators.isEmpty()) {
+            for (Iterator<BaseIterator<V, ?>> iterator = iterators.iterator(); iterator.hasNext();) {
+                BaseIterator<V, ?> it = iterator.next();
+                if (!it.isReady()) {
+                    continue;
+                }
+                
+                if (it.hasNext()) {
+                    current = it;
+                    return true;
+                }
+                iterator.remove();
+            }
+            
+            if (!iterators.isEmpty()) {
+                loadedPages.acquireUninterruptibly();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No such element");
+        }
+        lastIterator = current;
+        return current.next();
+    }
+
+    @Override
+    public void remove() {
+        if (lastIterator == null) {
+            throw new IllegalStateException();
+        }
+        lastIterator.remove();
+    }
+
+}
@@ -16,6 +16,7 @@
 package org.redisson;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.redisson.api.RFuture;
@@ -31,6 +32,12 @@ import io.netty.util.TimerTask;
 import io.netty.util.concurrent.FutureListener;
 
 /**
+ * Transfers due elements by invoking {@link #pushTaskAsync()}.
+ * <p>
+ * Notifications about new queue head received while transfer 
+ * is in progress are coalesced into single extra transfer.
+ * Timer isn't rescheduled if it's already set to fire 
+ * within {@link #RESCHEDULE_THRESHOLD} of the new start time.
  * 
  * @author Nikita Koksharov
  *
@@ -38,6 +45,11 @@ import io.netty.util.concurrent.FutureListener;
 public abstract class QueueTransferTask {
     
     private static final Logger log = LoggerFactory.getLogger(QueueTransferTask.class);
+    
+    /**
+     * Reschedule threshold in milliseconds
+     */
+    static final long RESCHEDULE_THRESHOLD = 10;
 
     public static class TimeoutTask {
         
@@ -62,6 +74,8 @@ public abstract class QueueTransferTask {
     
     private int usage = 1;
     private final AtomicReference<TimeoutTask> lastTimeout = new AtomicReference<TimeoutTask>();
+    private final AtomicBoolean pushInProgress = new AtomicBoolean();
+    private volatile boolean pushRequested;
     private final ConnectionManager connectionManager;
     
     public QueueTransferTask(ConnectionManager connectionManager) {
@@ -106,7 +120,8 @@ public abstract class QueueTransferTask {
 
     private void scheduleTask(final Long startTime) {
         TimeoutTask oldTimeout = lastTimeout.get();
-        if (startTime == null || (oldTimeout != null && oldTimeout.getStartTime() < startTime)) {
+        if (startTime == null 
+                || (oldTimeout != null && oldTimeout.getStartTime() - RESCHEDULE_THRESHOLD < startTime)) {
             return;
         }
         
@@ -140,11 +155,22 @@ public abstract class QueueTransferTask {
     protected abstract RFuture<Long> pushTaskAsync();
     
     private void pushTask() {
+        pushRequested = true;
+        if (!pushInProgress.compareAndSet(false, true)) {
+            // will be handled once current transfer completes
+            return;
+        }
+        pushRequested = false;
+        
         RFuture<Long> startTimeFuture = pushTaskAsync();
         startTimeFuture.addListener(new FutureListener<Long>() {
             @Override
             public void operationComplete(io.netty.util.concurrent.Future<Long> future) throws Exception {
                 if (!future.isSuccess()) {
+                    // notifications coalesced during failed transfer are dropped,
+                    // retry transfers all elements which are due by that time
+                    pushRequested = false;
+                    pushInProgress.set(false);
                     if (future.cause() instanceof RedissonShutdownException) {
                         return;
                     }
@@ -153,7 +179,10 @@ public abstract class QueueTransferTask {
                     return;
                 }
                 
-                if (future.getNow() != null) {
+                pushInProgress.set(false);
+                if (pushRequested) {
+                    pushTask();
+                } else if (future.getNow() != null) {
                     scheduleTask(future.getNow());
                 }
             }
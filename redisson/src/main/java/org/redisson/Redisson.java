@@ -49,6 +49,7 @@ import org.redisson.api.RListMultimap;
 import org.redisson.api.RListMultimapCache;
 import org.redisson.api.RLiveObjectService;
 import org.redisson.api.RLocalCachedMap;
+import org.redisson.api.RLocalCachedMapCache;
 import org.redisson.api.RLock;
 import org.redisson.api.RLongAdder;
 import org.redisson.api.RMap;
@@ -64,6 +65,7 @@ import org.redisson.api.RRateLimiter;
 import org.redisson.api.RReadWriteLock;
 import org.redisson.api.RRemoteService;
 import org.redisson.api.RScheduledExecutorService;
+import org.redisson.api.RScoredPriorityQueue;
 import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RScript;
 import org.redisson.api.RSemaphore;
@@ -76,6 +78,7 @@ import org.redisson.api.RTopic;
 import org.redisson.api.RTransaction;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.RedissonReactiveClient;
+import org.redisson.api.ScoreExtractor;
 import org.redisson.api.TransactionOptions;
 import org.redisson.client.codec.Codec;
 import org.redisson.command.CommandExecutor;
@@ -119,7 +122,7 @@ public class Redisson implements RedissonClient {
         Config configCopy = new Config(config);
         
         connectionManager = ConfigSupport.createConnectionManager(configCopy);
-        evictionScheduler = new EvictionScheduler(connectionManager.getCommandExecutor());
+        evictionScheduler = new EvictionScheduler(connectionManager.getCommandExecutor(), configCopy.getEvictionMaxTasks());
     }
     
     public EvictionScheduler getEvictionScheduler() {
@@ -270,6 +273,16 @@ public class Redisson implements RedissonClient {
         return new RedissonLocalCachedMap<K, V>(codec, connectionManager.getCommandExecutor(), name, options, evictionScheduler, this);
     }
 
+    @Override
+    public <K, V> RLocalCachedMapCache<K, V> getLocalCachedMapCache(String name, LocalCachedMapOptions<K, V> options) {
+        return new RedissonLocalCachedMapCache<K, V>(evictionScheduler, connectionManager.getCommandExecutor(), name, this, options);
+    }
+
+    @Override
+    public <K, V> RLocalCachedMapCache<K, V> getLocalCachedMapCache(String name, Codec codec, LocalCachedMapOptions<K, V> options) {
+        return new RedissonLocalCachedMapCache<K, V>(codec, evictionScheduler, connectionManager.getCommandExecutor(), name, this, options);
+    }
+
     @Override
     public <K, V> RMap<K, V> getMap(String name) {
         return new RedissonMap<K, V>(connectionManager.getCommandExecutor(), name, this, null);
@@ -666,6 +679,16 @@ public class Redisson implements RedissonClient {
     public <V> RPriorityQueue<V> getPriorityQueue(String name, Codec codec) {
         return new RedissonPriorityQueue<V>(codec, connectionManager.getCommandExecutor(), name, this);
     }
+
+    @Override
+    public <V> RScoredPriorityQueue<V> getScoredPriorityQueue(String name, ScoreExtractor<? super V> scoreExtractor) {
+        return new RedissonScoredPriorityQueue<V>(connectionManager.getCommandExecutor(), name, this, scoreExtractor);
+    }
+
+    @Override
+    public <V> RScoredPriorityQueue<V> getScoredPriorityQueue(String name, Codec codec, ScoreExtractor<? super V> scoreExtractor) {
+        return new RedissonScoredPriorityQueue<V>(codec, connectionManager.getCommandExecutor(), name, this, scoreExtractor);
+    }
     
     @Override
     public <V> RPriorityBlockingQueue<V> getPriorityBlockingQueue(String name) {
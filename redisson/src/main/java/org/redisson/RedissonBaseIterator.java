@@ -25,6 +25,13 @@ import org.redisson.client.protocol.decoder.ScanObjectEntry;
  */
 abstract class RedissonBaseIterator<V> extends BaseIterator<V, ScanObjectEntry> {
 
+    RedissonBaseIterator() {
+    }
+    
+    RedissonBaseIterator(int prefetchSize) {
+        super(prefetchSize);
+    }
+
     @Override
     protected V getValue(ScanObjectEntry entry) {
         return (V) entry.getObj();
@@ -29,6 +29,13 @@ import org.redisson.client.protocol.decoder.ScanObjectEntry;
  */
 public abstract class RedissonBaseMapIterator<V> extends BaseIterator<V, Map.Entry<ScanObjectEntry, ScanObjectEntry>> {
 
+    public RedissonBaseMapIterator() {
+    }
+    
+    public RedissonBaseMapIterator(int prefetchSize) {
+        super(prefetchSize);
+    }
+
     @SuppressWarnings("unchecked")
     protected V getValue(final Map.Entry<ScanObjectEntry, ScanObjectEntry> entry) {
         return (V)new AbstractMap.SimpleEntry(entry.getKey().getObj(), entry.getValue().getObj()) {
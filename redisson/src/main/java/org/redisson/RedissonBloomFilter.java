@@ -29,7 +29,10 @@
 package org.redisson;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -62,6 +65,11 @@ import io.netty.buffer.ByteBuf;
  */
 public class RedissonBloomFilter<T> extends RedissonExpirable implements RBloomFilter<T> {
 
+    /**
+     * Max amount of bit operations sent in single batch by bulk methods
+     */
+    private static final int BATCH_SIZE = 10000;
+    
     private volatile long size;
     private volatile int hashIterations;
 
@@ -189,6 +197,107 @@ public class RedissonBloomFilter<T> extends RedissonExpirable implements RBloomF
         }
     }
 
+    @Override
+    public long addAll(Collection<? extends T> objects) {
+        long added = 0;
+        for (Boolean result : execute(objects, true)) {
+            if (result) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    @Override
+    public boolean containsAll(Collection<? extends T> objects) {
+        for (Boolean result : execute(objects, false)) {
+            if (!result) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public List<Boolean> containsEach(Collection<? extends T> objects) {
+        return execute(objects, false);
+    }
+
+    /**
+     * Sets or checks bits of all objects. Objects are hashed once and
+     * their bits are sent in batches of <code>BATCH_SIZE</code> operations
+     * with single config check per batch.
+     * 
+     * @param objects - objects
+     * @param set - <code>true</code> to set bits, <code>false</code> to check them
+     * @return list with result per object. For set operation result is <code>true</code>
+     *         if object has been added, for check operation it's <code>true</code>
+     *         if object could be contained.
+     */
+    private List<Boolean> execute(Collection<? extends T> objects, boolean set) {
+        List<long[]> hashes = new ArrayList<long[]>(objects.size());
+        for (T object : objects) {
+            hashes.add(hash(object));
+        }
+
+        List<Boolean> result = new ArrayList<Boolean>(objects.size());
+        int index = 0;
+        while (index < hashes.size()) {
+            if (size == 0) {
+                readConfig();
+            }
+
+            int hashIterations = this.hashIterations;
+            long size = this.size;
+
+            int chunkSize = Math.max(1, BATCH_SIZE / hashIterations);
+            List<long[]> chunk = hashes.subList(index, Math.min(hashes.size(), index + chunkSize));
+
+            CommandBatchService executorService = new CommandBatchService(commandExecutor.getConnectionManager());
+            addConfigCheck(hashIterations, size, executorService);
+            RBitSetAsync bs = createBitSet(executorService);
+            List<RFuture<Boolean>> futures = new ArrayList<RFuture<Boolean>>(chunk.size() * hashIterations);
+            for (long[] hash : chunk) {
+                long[] indexes = hash(hash[0], hash[1], hashIterations, size);
+                for (int i = 0; i < indexes.length; i++) {
+                    if (set) {
+                        futures.add(bs.setAsync(indexes[i]));
+                    } else {
+                        futures.add(bs.getAsync(indexes[i]));
+                    }
+                }
+            }
+
+            try {
+                executorService.execute();
+            } catch (RedisException e) {
+                if (!e.getMessage().contains("Bloom filter config has been changed")) {
+                    throw e;
+                }
+                // config has been changed, retry chunk with new config
+                readConfig();
+                continue;
+            }
+
+            Iterator<RFuture<Boolean>> iterator = futures.iterator();
+            for (int j = 0; j < chunk.size(); j++) {
+                boolean allSet = true;
+                for (int i = 0; i < hashIterations; i++) {
+                    if (!iterator.next().getNow()) {
+                        allSet = false;
+                    }
+                }
+                if (set) {
+                    result.add(!allSet);
+                } else {
+                    result.add(allSet);
+                }
+            }
+            index += chunk.size();
+        }
+        return result;
+    }
+
     protected RBitSetAsync createBitSet(CommandBatchService executorService) {
         return new RedissonBitSet(executorService, getName());
     }
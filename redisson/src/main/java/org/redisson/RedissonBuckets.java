@@ -20,9 +20,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.redisson.api.RBucket;
 import org.redisson.api.RBuckets;
@@ -32,10 +33,16 @@ import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.codec.CompositeCodec;
+import org.redisson.command.CommandBatchService;
 import org.redisson.command.CommandExecutor;
+import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.connection.decoder.MapGetAllDecoder;
+import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
 
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+
 /**
  * 
  * @author Nikita Koksharov
@@ -95,8 +102,47 @@ public class RedissonBuckets implements RBuckets {
             return RedissonPromise.<Map<String, V>>newSucceededFuture(emptyMap);
         }
 
-        RedisCommand<Map<Object, Object>> command = new RedisCommand<Map<Object, Object>>("MGET", new MapGetAllDecoder(Arrays.<Object>asList(keys), 0));
-        return commandExecutor.readAsync(keys[0], new CompositeCodec(StringCodec.INSTANCE, codec, codec), command, keys);
+        Codec commandCodec = new CompositeCodec(StringCodec.INSTANCE, codec, codec);
+        final List<String> keysList = Arrays.asList(keys);
+        List<List<String>> groups = groupBySlot(keysList);
+        if (groups.size() == 1) {
+            RedisCommand<Map<Object, Object>> command = new RedisCommand<Map<Object, Object>>("MGET", new MapGetAllDecoder(Arrays.<Object>asList(keys), 0));
+            return commandExecutor.readAsync(keys[0], commandCodec, command, keys);
+        }
+        
+        CommandBatchService executorService = new CommandBatchService(commandExecutor.getConnectionManager());
+        for (List<String> group : groups) {
+            RedisCommand<Map<Object, Object>> command = new RedisCommand<Map<Object, Object>>("MGET", new MapGetAllDecoder(new ArrayList<Object>(group), 0));
+            executorService.readAsync(getEntry(group), commandCodec, command, group.toArray());
+        }
+        
+        final RPromise<Map<String, V>> result = new RedissonPromise<Map<String, V>>();
+        RFuture<List<?>> future = executorService.executeAsync();
+        future.addListener(new FutureListener<List<?>>() {
+            @Override
+            public void operationComplete(Future<List<?>> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+                
+                Map<String, V> values = new HashMap<String, V>();
+                for (Object res : future.getNow()) {
+                    values.putAll((Map<String, V>) res);
+                }
+                
+                // keep order of requested keys
+                Map<String, V> orderedValues = new LinkedHashMap<String, V>(values.size());
+                for (String key : keysList) {
+                    V value = values.get(key);
+                    if (value != null) {
+                        orderedValues.put(key, value);
+                    }
+                }
+                result.trySuccess(orderedValues);
+            }
+        });
+        return result;
     }
 
     @Override
@@ -105,17 +151,69 @@ public class RedissonBuckets implements RBuckets {
             return RedissonPromise.newSucceededFuture(false);
         }
 
-        List<Object> params = new ArrayList<Object>(buckets.size());
-        for (Entry<String, ?> entry : buckets.entrySet()) {
-            params.add(entry.getKey());
-            try {
-                params.add(codec.getValueEncoder().encode(entry.getValue()));
-            } catch (IOException e) {
-                throw new IllegalArgumentException(e);
-            }
+        final List<List<String>> groups = groupBySlot(buckets.keySet());
+        if (groups.size() == 1) {
+            Object[] params = encode(groups.get(0), buckets);
+            return commandExecutor.writeAsync(groups.get(0).get(0), RedisCommands.MSETNX, params);
         }
 
-        return commandExecutor.writeAsync(params.get(0).toString(), RedisCommands.MSETNX, params.toArray());
+        CommandBatchService executorService = new CommandBatchService(commandExecutor.getConnectionManager());
+        for (List<String> group : groups) {
+            executorService.writeAsync(getEntry(group), codec, RedisCommands.MSETNX, encode(group, buckets));
+        }
+        
+        final RPromise<Boolean> result = new RedissonPromise<Boolean>();
+        RFuture<List<?>> future = executorService.executeAsync();
+        future.addListener(new FutureListener<List<?>>() {
+            @Override
+            public void operationComplete(Future<List<?>> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+
+                List<List<String>> setGroups = new ArrayList<List<String>>();
+                List<?> responses = future.getNow();
+                for (int i = 0; i < responses.size(); i++) {
+                    if ((Boolean) responses.get(i)) {
+                        setGroups.add(groups.get(i));
+                    }
+                }
+                if (setGroups.size() == groups.size()) {
+                    result.trySuccess(true);
+                    return;
+                }
+                if (setGroups.isEmpty()) {
+                    result.trySuccess(false);
+                    return;
+                }
+                
+                rollback(setGroups, result);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Removes buckets set by slots which succeeded 
+     * while MSETNX failed for the other slots.
+     */
+    private void rollback(List<List<String>> setGroups, final RPromise<Boolean> result) {
+        CommandBatchService executorService = new CommandBatchService(commandExecutor.getConnectionManager());
+        for (List<String> group : setGroups) {
+            executorService.writeAsync(getEntry(group), codec, RedisCommands.DEL, group.toArray());
+        }
+        RFuture<List<?>> future = executorService.executeAsync();
+        future.addListener(new FutureListener<List<?>>() {
+            @Override
+            public void operationComplete(Future<List<?>> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+                result.trySuccess(false);
+            }
+        });
     }
 
     @Override
@@ -124,17 +222,70 @@ public class RedissonBuckets implements RBuckets {
             return RedissonPromise.newSucceededFuture(null);
         }
 
-        List<Object> params = new ArrayList<Object>(buckets.size());
-        for (Entry<String, ?> entry : buckets.entrySet()) {
-            params.add(entry.getKey());
+        List<List<String>> groups = groupBySlot(buckets.keySet());
+        if (groups.size() == 1) {
+            Object[] params = encode(groups.get(0), buckets);
+            return commandExecutor.writeAsync(groups.get(0).get(0), RedisCommands.MSET, params);
+        }
+        
+        CommandBatchService executorService = new CommandBatchService(commandExecutor.getConnectionManager());
+        for (List<String> group : groups) {
+            executorService.writeAsync(getEntry(group), codec, RedisCommands.MSET, encode(group, buckets));
+        }
+        
+        final RPromise<Void> result = new RedissonPromise<Void>();
+        RFuture<List<?>> future = executorService.executeAsync();
+        future.addListener(new FutureListener<List<?>>() {
+            @Override
+            public void operationComplete(Future<List<?>> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+                result.trySuccess(null);
+            }
+        });
+        return result;
+    }
+
+    private Object[] encode(List<String> keys, Map<String, ?> buckets) {
+        List<Object> params = new ArrayList<Object>(keys.size()*2);
+        for (String key : keys) {
+            params.add(key);
             try {
-                params.add(codec.getValueEncoder().encode(entry.getValue()));
+                params.add(codec.getValueEncoder().encode(buckets.get(key)));
             } catch (IOException e) {
                 throw new IllegalArgumentException(e);
             }
         }
-
-        return commandExecutor.writeAsync(params.get(0).toString(), RedisCommands.MSET, params.toArray());
+        return params.toArray();
+    }
+    
+    private MasterSlaveEntry getEntry(List<String> keys) {
+        int slot = commandExecutor.getConnectionManager().calcSlot(keys.get(0));
+        return commandExecutor.getConnectionManager().getEntry(slot);
+    }
+    
+    /**
+     * Groups keys by slot, since multi-key commands 
+     * can't be applied to keys from different slots in cluster mode.
+     */
+    private List<List<String>> groupBySlot(Collection<String> keys) {
+        if (!commandExecutor.getConnectionManager().isClusterMode()) {
+            return Collections.<List<String>>singletonList(new ArrayList<String>(keys));
+        }
+        
+        Map<Integer, List<String>> slot2keys = new LinkedHashMap<Integer, List<String>>();
+        for (String key : keys) {
+            int slot = commandExecutor.getConnectionManager().calcSlot(key);
+            List<String> list = slot2keys.get(slot);
+            if (list == null) {
+                list = new ArrayList<String>();
+                slot2keys.put(slot, list);
+            }
+            list.add(key);
+        }
+        return new ArrayList<List<String>>(slot2keys.values());
     }
 
 }
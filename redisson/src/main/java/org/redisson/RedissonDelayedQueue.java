@@ -15,11 +15,13 @@
  */
 package org.redisson;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
 
@@ -30,6 +32,8 @@ import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.LongCodec;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.misc.CountableListener;
+import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
 
 import io.netty.util.internal.PlatformDependent;
@@ -42,6 +46,9 @@ import io.netty.util.internal.PlatformDependent;
  */
 public class RedissonDelayedQueue<V> extends RedissonExpirable implements RDelayedQueue<V> {
 
+    private static final int TRANSFER_BATCH_SIZE = 100;
+    private static final int OFFER_BATCH_SIZE = 1000;
+    
     private final QueueTransferService queueTransferService;
     private final String channelName;
     private final String queueName;
@@ -60,11 +67,13 @@ public class RedissonDelayedQueue<V> extends RedissonExpirable implements RDelay
                 return commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
                         "local expiredValues = redis.call('zrangebyscore', KEYS[2], 0, ARGV[1], 'limit', 0, ARGV[2]); "
                       + "if #expiredValues > 0 then "
+                          + "local values = {}; "
                           + "for i, v in ipairs(expiredValues) do "
                               + "local randomId, value = struct.unpack('dLc0', v);"
-                              + "redis.call('rpush', KEYS[1], value);"
+                              + "table.insert(values, value);"
                               + "redis.call('lrem', KEYS[3], 1, v);"
                           + "end; "
+                          + "redis.call('rpush', KEYS[1], unpack(values));"
                           + "redis.call('zrem', KEYS[2], unpack(expiredValues));"
                       + "end; "
                         // get startTime from scheduler queue head task
@@ -74,7 +83,7 @@ public class RedissonDelayedQueue<V> extends RedissonExpirable implements RDelay
                       + "end "
                       + "return nil;",
                       Arrays.<Object>asList(getName(), timeoutSetName, queueName), 
-                      System.currentTimeMillis(), 100);
+                      System.currentTimeMillis(), TRANSFER_BATCH_SIZE);
             }
             
             @Override
@@ -112,6 +121,73 @@ public class RedissonDelayedQueue<V> extends RedissonExpirable implements RDelay
               timeout, randomId, encode(e));
     }
 
+    @Override
+    public void offerAll(Collection<? extends V> elements, long delay, TimeUnit timeUnit) {
+        get(offerAllAsync(elements, delay, timeUnit));
+    }
+    
+    @Override
+    public RFuture<Void> offerAllAsync(Collection<? extends V> elements, long delay, TimeUnit timeUnit) {
+        long timeout = System.currentTimeMillis() + timeUnit.toMillis(delay);
+        
+        List<Object> args = new ArrayList<Object>(elements.size() * 3);
+        for (V element : elements) {
+            args.add(timeout);
+            args.add(PlatformDependent.threadLocalRandom().nextLong());
+            args.add(encode(element));
+        }
+        return offerAllAsync(args);
+    }
+    
+    @Override
+    public void offerAll(Map<? extends V, Long> elements, TimeUnit timeUnit) {
+        get(offerAllAsync(elements, timeUnit));
+    }
+    
+    @Override
+    public RFuture<Void> offerAllAsync(Map<? extends V, Long> elements, TimeUnit timeUnit) {
+        long currentTime = System.currentTimeMillis();
+        
+        List<Object> args = new ArrayList<Object>(elements.size() * 3);
+        for (Map.Entry<? extends V, Long> entry : elements.entrySet()) {
+            args.add(currentTime + timeUnit.toMillis(entry.getValue()));
+            args.add(PlatformDependent.threadLocalRandom().nextLong());
+            args.add(encode(entry.getKey()));
+        }
+        return offerAllAsync(args);
+    }
+    
+    private RFuture<Void> offerAllAsync(List<Object> args) {
+        if (args.isEmpty()) {
+            return RedissonPromise.<Void>newSucceededFuture(null);
+        }
+        
+        int chunkSize = OFFER_BATCH_SIZE * 3;
+        int chunks = (args.size() + chunkSize - 1) / chunkSize;
+        RPromise<Void> result = new RedissonPromise<Void>();
+        CountableListener<Void> listener = new CountableListener<Void>(result, null, chunks);
+        for (int i = 0; i < args.size(); i += chunkSize) {
+            List<Object> chunk = args.subList(i, Math.min(args.size(), i + chunkSize));
+            RFuture<Void> future = commandExecutor.evalWriteAsync(getName(), codec, RedisCommands.EVAL_VOID,
+                    "local head = redis.call('zrange', KEYS[2], 0, 0); "
+                  + "for i = 1, #ARGV, 3 do "
+                      + "local value = struct.pack('dLc0', tonumber(ARGV[i+1]), string.len(ARGV[i+2]), ARGV[i+2]);" 
+                      + "redis.call('zadd', KEYS[2], ARGV[i], value);"
+                      + "redis.call('rpush', KEYS[3], value);"
+                  + "end; "
+                    // publish startTime of queue head once per chunk 
+                    // if it has been changed by added elements
+                  + "local v = redis.call('zrange', KEYS[2], 0, 0, 'WITHSCORES'); "
+                  + "if v[1] ~= head[1] then "
+                     + "redis.call('publish', KEYS[4], v[2]); "
+                  + "end;",
+                  Arrays.<Object>asList(getName(), timeoutSetName, queueName, channelName), 
+                  chunk.toArray());
+            future.addListener(listener);
+        }
+        return result;
+    }
+    
     @Override
     public boolean add(V e) {
         throw new UnsupportedOperationException("Use 'offer' method with timeout param");
@@ -103,26 +103,57 @@ public class RedissonKeys implements RKeys {
     }
 
 
+    @Override
+    public Iterable<String> getKeysByPatternParallel(final String pattern, final int count) {
+        return new Iterable<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                int prefetchSize = Math.max(1, commandExecutor.getConnectionManager().getCfg().getIteratorPrefetchSize());
+                ParallelIterator<String> result = new ParallelIterator<String>();
+                for (MasterSlaveEntry entry : commandExecutor.getConnectionManager().getEntrySet()) {
+                    result.add(createKeysIterator(entry, pattern, count, prefetchSize, result));
+                }
+                return result;
+            }
+        };
+    }
+
     @Override
     public Iterable<String> getKeys() {
         return getKeysByPattern(null);
     }
 
-    private ListScanResult<ScanObjectEntry> scanIterator(RedisClient client, MasterSlaveEntry entry, long startPos, String pattern, int count) {
+    private RFuture<ListScanResult<ScanObjectEntry>> scanIteratorAsync(RedisClient client, MasterSlaveEntry entry, long startPos, String pattern, int count) {
         if (pattern == null) {
-            RFuture<ListScanResult<ScanObjectEntry>> f = commandExecutor.readAsync(client, entry, new ScanCodec(StringCodec.INSTANCE), RedisCommands.SCAN, startPos, "COUNT", count);
-            return commandExecutor.get(f);
+            return commandExecutor.readAsync(client, entry, new ScanCodec(StringCodec.INSTANCE), RedisCommands.SCAN, startPos, "COUNT", count);
         }
-        RFuture<ListScanResult<ScanObjectEntry>> f = commandExecutor.readAsync(client, entry, new ScanCodec(StringCodec.INSTANCE), RedisCommands.SCAN, startPos, "MATCH", pattern, "COUNT", count);
-        return commandExecutor.get(f);
+        return commandExecutor.readAsync(client, entry, new ScanCodec(StringCodec.INSTANCE), RedisCommands.SCAN, startPos, "MATCH", pattern, "COUNT", count);
     }
 
-    private Iterator<String> createKeysIterator(final MasterSlaveEntry entry, final String pattern, final int count) {
-        return new RedissonBaseIterator<String>() {
+    private Iterator<String> createKeysIterator(MasterSlaveEntry entry, String pattern, int count) {
+        int prefetchSize = commandExecutor.getConnectionManager().getCfg().getIteratorPrefetchSize();
+        return createKeysIterator(entry, pattern, count, prefetchSize, null);
+    }
+    
+    private RedissonBaseIterator<String> createKeysIterator(final MasterSlaveEntry entry, final String pattern, final int count, 
+            int prefetchSize, final ParallelIterator<String> parallelIterator) {
+        return new RedissonBaseIterator<String>(prefetchSize) {
 
             @Override
             protected ListScanResult<ScanObjectEntry> iterator(RedisClient client, long nextIterPos) {
-                return RedissonKeys.this.scanIterator(client, entry, nextIterPos, pattern, count);
+                return commandExecutor.get(scanIteratorAsync(client, entry, nextIterPos, pattern, count));
+            }
+
+            @Override
+            protected RFuture<ListScanResult<ScanObjectEntry>> iteratorAsync(RedisClient client, long nextIterPos) {
+                return scanIteratorAsync(client, entry, nextIterPos, pattern, count);
+            }
+            
+            @Override
+            protected void onPageLoaded() {
+                if (parallelIterator != null) {
+                    parallelIterator.onPageLoaded();
+                }
             }
 
             @Override
@@ -49,6 +49,7 @@ import org.redisson.cache.LocalCachedMapUpdate;
 import org.redisson.cache.LocalCachedMessageCodec;
 import org.redisson.cache.NoneCacheMap;
 import org.redisson.cache.ReferenceCacheMap;
+import org.redisson.cache.WTinyLFUCacheMap;
 import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.LongCodec;
 import org.redisson.client.codec.StringCodec;
@@ -185,6 +186,10 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
     }
     
     protected Cache<CacheKey, CacheValue> createCache(LocalCachedMapOptions<K, V> options) {
+        return newCache(options);
+    }
+    
+    static Cache<CacheKey, CacheValue> newCache(LocalCachedMapOptions<?, ?> options) {
         if (options.getEvictionPolicy() == EvictionPolicy.NONE) {
             return new NoneCacheMap<CacheKey, CacheValue>(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
         }
@@ -194,6 +199,9 @@ public class RedissonLocalCachedMap<K, V> extends RedissonMap<K, V> implements R
         if (options.getEvictionPolicy() == EvictionPolicy.LFU) {
             return new LFUCacheMap<CacheKey, CacheValue>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
         }
+        if (options.getEvictionPolicy() == EvictionPolicy.W_TINY_LFU) {
+            return new WTinyLFUCacheMap<CacheKey, CacheValue>(options.getCacheSize(), options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
+        }
         if (options.getEvictionPolicy() == EvictionPolicy.SOFT) {
             return ReferenceCacheMap.soft(options.getTimeToLiveInMillis(), options.getMaxIdleInMillis());
         }
@@ -0,0 +1,429 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.RedissonLocalCachedMap.CacheValue;
+import org.redisson.api.LocalCachedMapOptions;
+import org.redisson.api.LocalCachedMapOptions.ReconnectionStrategy;
+import org.redisson.api.LocalCachedMapOptions.SyncStrategy;
+import org.redisson.api.RFuture;
+import org.redisson.api.RLocalCachedMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.map.event.EntryCreatedListener;
+import org.redisson.api.map.event.EntryEvent;
+import org.redisson.api.map.event.EntryExpiredListener;
+import org.redisson.api.map.event.EntryRemovedListener;
+import org.redisson.api.map.event.EntryUpdatedListener;
+import org.redisson.cache.Cache;
+import org.redisson.cache.CacheKey;
+import org.redisson.cache.LocalCacheListener;
+import org.redisson.cache.LocalCachedMapClear;
+import org.redisson.cache.LocalCachedMessageCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.eviction.EvictionScheduler;
+import org.redisson.misc.Hash;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+
+/**
+ * Map-based cache with local entry cache.
+ * <p>
+ * Entry is cached locally with time to live limited by remaining time to live
+ * and max idle time of entry stored in Redis. Local reads don't prolong
+ * entry idle time in Redis, so local copy expires no later than the entry itself.
+ * <p>
+ * Local copies are invalidated by entry events published by map cache scripts,
+ * so changes made through plain {@link org.redisson.api.RMapCache} instances
+ * and expired entries are handled as well. Map deletion and local cache clearing
+ * are distributed through invalidation topic of {@link LocalCacheListener}.
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <K> key
+ * @param <V> value
+ */
+@SuppressWarnings("serial")
+public class RedissonLocalCachedMapCache<K, V> extends RedissonMapCache<K, V> implements RLocalCachedMapCache<K, V> {
+
+    private final List<Integer> entryListenerIds = new ArrayList<Integer>();
+    private LocalCachedMapOptions<K, V> localCacheOptions;
+    private byte[] instanceId;
+    private Cache<CacheKey, CacheValue> cache;
+    private int invalidateEntryOnChange;
+    private LocalCacheListener listener;
+    
+    public RedissonLocalCachedMapCache(EvictionScheduler evictionScheduler, CommandAsyncExecutor commandExecutor,
+            String name, RedissonClient redisson, LocalCachedMapOptions<K, V> options) {
+        super(evictionScheduler, commandExecutor, name, redisson, options);
+        init(name, options);
+    }
+
+    public RedissonLocalCachedMapCache(Codec codec, EvictionScheduler evictionScheduler, CommandAsyncExecutor commandExecutor,
+            String name, RedissonClient redisson, LocalCachedMapOptions<K, V> options) {
+        super(codec, evictionScheduler, commandExecutor, name, redisson, options);
+        init(name, options);
+    }
+    
+    private void init(String name, LocalCachedMapOptions<K, V> options) {
+        if (options.getReconnectionStrategy() == ReconnectionStrategy.LOAD) {
+            throw new IllegalArgumentException("ReconnectionStrategy.LOAD isn't supported by local cached map cache");
+        }
+        
+        localCacheOptions = options;
+        instanceId = RedissonLocalCachedMap.generateId();
+        if (options.getSyncStrategy() != SyncStrategy.NONE) {
+            invalidateEntryOnChange = 1;
+        }
+        
+        cache = RedissonLocalCachedMap.newCache(options);
+        listener = new LocalCacheListener(name, commandExecutor, cache, this, instanceId, codec, options, 0) {
+            
+            @Override
+            protected void updateCache(ByteBuf keyBuf, ByteBuf valueBuf) throws IOException {
+                // entry ttl is unknown here, so it's loaded on next read
+                cache.remove(toCacheKey(keyBuf));
+            }
+            
+        };
+        listener.add();
+        
+        if (options.getSyncStrategy() != SyncStrategy.NONE) {
+            addEntryListeners();
+        }
+    }
+
+    private void addEntryListeners() {
+        entryListenerIds.add(addListener(new EntryCreatedListener<K, V>() {
+            @Override
+            public void onCreated(EntryEvent<K, V> event) {
+                cache.remove(toCacheKey(event.getKey()));
+            }
+        }));
+        entryListenerIds.add(addListener(new EntryUpdatedListener<K, V>() {
+            @Override
+            public void onUpdated(EntryEvent<K, V> event) {
+                cache.remove(toCacheKey(event.getKey()));
+            }
+        }));
+        entryListenerIds.add(addListener(new EntryRemovedListener<K, V>() {
+            @Override
+            public void onRemoved(EntryEvent<K, V> event) {
+                cache.remove(toCacheKey(event.getKey()));
+            }
+        }));
+        entryListenerIds.add(addListener(new EntryExpiredListener<K, V>() {
+            @Override
+            public void onExpired(EntryEvent<K, V> event) {
+                cache.remove(toCacheKey(event.getKey()));
+            }
+        }));
+    }
+    
+    public CacheKey toCacheKey(Object key) {
+        ByteBuf encoded = encodeMapKey(key);
+        try {
+            return toCacheKey(encoded);
+        } finally {
+            encoded.release();
+        }
+    }
+    
+    private CacheKey toCacheKey(ByteBuf encodedKey) {
+        return new CacheKey(Hash.hash128toArray(encodedKey));
+    }
+    
+    private void cachePut(CacheKey cacheKey, Object key, Object value, long ttl, long maxIdleTime) {
+        if (listener.isDisabled(cacheKey)) {
+            return;
+        }
+        
+        long localTtl = localCacheOptions.getTimeToLiveInMillis();
+        if (ttl > 0) {
+            localTtl = localTtl > 0 ? Math.min(localTtl, ttl) : ttl;
+        }
+        // local reads don't update entry idle time in Redis
+        if (maxIdleTime > 0) {
+            localTtl = localTtl > 0 ? Math.min(localTtl, maxIdleTime) : maxIdleTime;
+        }
+        
+        cache.put(cacheKey, new CacheValue(key, value), 
+                localTtl, TimeUnit.MILLISECONDS, localCacheOptions.getMaxIdleInMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    private void invalidate(Object key) {
+        cache.remove(toCacheKey(key));
+    }
+    
+    @Override
+    public RFuture<Boolean> containsKeyAsync(Object key) {
+        checkKey(key);
+        
+        CacheKey cacheKey = toCacheKey(key);
+        if (!cache.containsKey(cacheKey)) {
+            return super.containsKeyAsync(key);
+        }
+        return RedissonPromise.newSucceededFuture(true);
+    }
+    
+    @Override
+    public RFuture<V> getAsync(K key) {
+        checkKey(key);
+
+        CacheKey cacheKey = toCacheKey(key);
+        CacheValue cacheValue = cache.get(cacheKey);
+        if (cacheValue != null && cacheValue.getValue() != null) {
+            return RedissonPromise.newSucceededFuture((V)cacheValue.getValue());
+        }
+        
+        return super.getAsync(key);
+    }
+    
+    @Override
+    public RFuture<V> getOperationAsync(final K key) {
+        final CacheKey cacheKey = toCacheKey(key);
+        final RPromise<V> result = new RedissonPromise<V>();
+        RFuture<List<Object>> future = commandExecutor.evalWriteAsync(getName(key), codec, RedisCommands.EVAL_MAP_VALUE_LIST,
+                "local value = redis.call('hget', KEYS[1], ARGV[2]); "
+                        + "if value == false then "
+                            + "return {}; "
+                        + "end; "
+                        + "local t, val = struct.unpack('dLc0', value); "
+                        + "local expireDate = 92233720368547758; " +
+                        "local expireDateScore = redis.call('zscore', KEYS[2], ARGV[2]); "
+                        + "if expireDateScore ~= false then "
+                            + "expireDate = tonumber(expireDateScore) "
+                        + "end; "
+                        + "local ttl = 0; "
+                        + "if expireDateScore ~= false then "
+                            + "ttl = expireDate - tonumber(ARGV[1]); "
+                        + "end; "
+                        + "if t ~= 0 then "
+                            + "local expireIdle = redis.call('zscore', KEYS[3], ARGV[2]); "
+                            + "if expireIdle ~= false then "
+                                + "if tonumber(expireIdle) > tonumber(ARGV[1]) then "
+                                    + "redis.call('zadd', KEYS[3], t + tonumber(ARGV[1]), ARGV[2]); "
+                                + "end; "
+                                + "expireDate = math.min(expireDate, tonumber(expireIdle)) "
+                            + "end; "
+                        + "end; "
+                        + "if expireDate <= tonumber(ARGV[1]) then "
+                            + "return {}; "
+                        + "end; "
+                        + "local maxSize = tonumber(redis.call('hget', KEYS[5], 'max-size')); " +
+                        "if maxSize ~= nil and maxSize ~= 0 then " +
+                        "   redis.call('zadd', KEYS[4], tonumber(ARGV[1]), ARGV[2]); " +
+                        "end; "
+                        + "return {val, ttl, t}; ",
+                Arrays.<Object>asList(getName(key), getTimeoutSetNameByKey(key), getIdleSetNameByKey(key), getLastAccessTimeSetNameByKey(key), getOptionsName(key)),
+                System.currentTimeMillis(), encodeMapKey(key));
+        future.addListener(new FutureListener<List<Object>>() {
+            @Override
+            public void operationComplete(Future<List<Object>> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+                
+                List<Object> res = future.getNow();
+                if (res == null || res.isEmpty()) {
+                    result.trySuccess(null);
+                    return;
+                }
+                
+                V value = (V) res.get(0);
+                long ttl = ((Number) res.get(1)).longValue();
+                long maxIdleTime = ((Number) res.get(2)).longValue();
+                cachePut(cacheKey, key, value, ttl, maxIdleTime);
+                result.trySuccess(value);
+            }
+        });
+        return result;
+    }
+    
+    @Override
+    protected RFuture<V> putOperationAsync(K key, V value) {
+        invalidate(key);
+        return super.putOperationAsync(key, value);
+    }
+    
+    @Override
+    protected RFuture<V> putOperationAsync(K key, V value, long ttlTimeout, long maxIdleTimeout, long maxIdleDelta) {
+        invalidate(key);
+        return super.putOperationAsync(key, value, ttlTimeout, maxIdleTimeout, maxIdleDelta);
+    }
+    
+    @Override
+    protected RFuture<V> putIfAbsentOperationAsync(K key, V value) {
+        invalidate(key);
+        return super.putIfAbsentOperationAsync(key, value);
+    }
+    
+    @Override
+    public RFuture<V> putIfAbsentAsync(K key, V value, long ttl, TimeUnit ttlUnit, long maxIdleTime, TimeUnit maxIdleUnit) {
+        invalidate(key);
+        return super.putIfAbsentAsync(key, value, ttl, ttlUnit, maxIdleTime, maxIdleUnit);
+    }
+    
+    @Override
+    protected RFuture<Boolean> fastPutOperationAsync(K key, V value) {
+        invalidate(key);
+        return super.fastPutOperationAsync(key, value);
+    }
+    
+    @Override
+    protected RFuture<Boolean> fastPutOperationAsync(K key, V value, long ttl, TimeUnit ttlUnit, long maxIdleTime, TimeUnit maxIdleUnit) {
+        invalidate(key);
+        return super.fastPutOperationAsync(key, value, ttl, ttlUnit, maxIdleTime, maxIdleUnit);
+    }
+    
+    @Override
+    protected RFuture<Boolean> fastPutIfAbsentOperationAsync(K key, V value) {
+        invalidate(key);
+        return super.fastPutIfAbsentOperationAsync(key, value);
+    }
+    
+    @Override
+    public RFuture<Boolean> fastPutIfAbsentAsync(K key, V value, long ttl, TimeUnit ttlUnit, long maxIdleTime, TimeUnit maxIdleUnit) {
+        invalidate(key);
+        return super.fastPutIfAbsentAsync(key, value, ttl, ttlUnit, maxIdleTime, maxIdleUnit);
+    }
+    
+    @Override
+    protected RFuture<Void> putAllOperationAsync(Map<? extends K, ? extends V> map) {
+        for (K key : map.keySet()) {
+            invalidate(key);
+        }
+        return super.putAllOperationAsync(map);
+    }
+    
+    @Override
+    protected RFuture<V> addAndGetOperationAsync(K key, Number value) {
+        invalidate(key);
+        return super.addAndGetOperationAsync(key, value);
+    }
+    
+    @Override
+    protected RFuture<Boolean> replaceOperationAsync(K key, V oldValue, V newValue) {
+        invalidate(key);
+        return super.replaceOperationAsync(key, oldValue, newValue);
+    }
+    
+    @Override
+    protected RFuture<V> replaceOperationAsync(K key, V value) {
+        invalidate(key);
+        return super.replaceOperationAsync(key, value);
+    }
+    
+    @Override
+    protected RFuture<Boolean> fastReplaceOperationAsync(K key, V value) {
+        invalidate(key);
+        return super.fastReplaceOperationAsync(key, value);
+    }
+    
+    @Override
+    protected RFuture<Boolean> removeOperationAsync(Object key, Object value) {
+        invalidate(key);
+        return super.removeOperationAsync(key, value);
+    }
+    
+    @Override
+    protected RFuture<V> removeOperationAsync(K key) {
+        invalidate(key);
+        return super.removeOperationAsync(key);
+    }
+    
+    @Override
+    protected RFuture<Long> fastRemoveOperationAsync(K... keys) {
+        for (K key : keys) {
+            invalidate(key);
+        }
+        return super.fastRemoveOperationAsync(keys);
+    }
+    
+    @Override
+    protected RFuture<List<Long>> fastRemoveOperationBatchAsync(K... keys) {
+        for (K key : keys) {
+            invalidate(key);
+        }
+        return super.fastRemoveOperationBatchAsync(keys);
+    }
+    
+    @Override
+    public RFuture<Boolean> deleteAsync() {
+        cache.clear();
+        ByteBuf msgEncoded = encode(new LocalCachedMapClear());
+        return commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                "if redis.call('del', KEYS[1], KEYS[2], KEYS[3], KEYS[4], KEYS[5]) > 0 and ARGV[2] ~= '0' then "
+                + "redis.call('publish', KEYS[6], ARGV[1]); "
+                + "return 1;" 
+              + "end; "
+              + "return 0;",
+              Arrays.<Object>asList(getName(), getTimeoutSetName(), getIdleSetName(), getLastAccessTimeSetName(), 
+                                      getOptionsName(), listener.getInvalidationTopicName()), 
+              msgEncoded, invalidateEntryOnChange);
+    }
+    
+    @Override
+    public void destroy() {
+        for (Integer listenerId : entryListenerIds) {
+            removeListener(listenerId);
+        }
+        entryListenerIds.clear();
+        listener.remove();
+    }
+    
+    @Override
+    public void preloadCache() {
+        // entries are loaded one by one along with their ttl and max idle time
+        for (K key : super.keySet()) {
+            get(key);
+        }
+    }
+    
+    @Override
+    public void clearLocalCache() {
+        get(clearLocalCacheAsync());
+    }
+    
+    @Override
+    public RFuture<Void> clearLocalCacheAsync() {
+        return listener.clearLocalCacheAsync();
+    }
+    
+    @Override
+    public ByteBuf encode(Object value) {
+        try {
+            return LocalCachedMessageCodec.INSTANCE.getValueEncoder().encode(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+    
+}
@@ -18,7 +18,6 @@ package org.redisson;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -34,14 +33,11 @@ import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonPromise;
 import org.redisson.pubsub.LockPubSub;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import io.netty.util.Timeout;
 import io.netty.util.TimerTask;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
-import io.netty.util.internal.PlatformDependent;
 
 /**
  * Distributed implementation of {@link java.util.concurrent.locks.Lock}
@@ -55,15 +51,17 @@ import io.netty.util.internal.PlatformDependent;
  */
 public class RedissonLock extends RedissonExpirable implements RLock {
 
-    private static final Logger log = LoggerFactory.getLogger(RedissonLock.class);
-    
-    private static final ConcurrentMap<String, Timeout> expirationRenewalMap = PlatformDependent.newConcurrentHashMap();
     protected long internalLockLeaseTime;
 
     final UUID id;
 
     protected static final LockPubSub PUBSUB = new LockPubSub();
 
+    /**
+     * Amount of slots per shared channel
+     */
+    static final int SHARED_CHANNEL_SLOTS = 256;
+
     final CommandAsyncExecutor commandExecutor;
 
     public RedissonLock(CommandAsyncExecutor commandExecutor, String name) {
@@ -81,6 +79,24 @@ public class RedissonLock extends RedissonExpirable implements RLock {
         return prefixName("redisson_lock__channel", getName());
     }
 
+    boolean isSharedChannel() {
+        return commandExecutor.getConnectionManager().getCfg().isSharedLockChannels();
+    }
+
+    /**
+     * Returns name of channel shared by all locks in the same range of slots.
+     * Lock channel name is published to it on unlock.
+     * 
+     * @return channel name or empty string if shared channels aren't used
+     */
+    String getSharedChannelName() {
+        if (!isSharedChannel()) {
+            return "";
+        }
+        int slot = commandExecutor.getConnectionManager().calcSlot(getName());
+        return "redisson_lock__shared_channel:" + slot / SHARED_CHANNEL_SLOTS;
+    }
+
     String getLockName(long threadId) {
         return id + ":" + threadId;
     }
@@ -196,50 +212,12 @@ public class RedissonLock extends RedissonExpirable implements RLock {
     }
 
     private void scheduleExpirationRenewal(final long threadId) {
-        if (expirationRenewalMap.containsKey(getEntryName())) {
-            return;
-        }
-
-        Timeout task = commandExecutor.getConnectionManager().newTimeout(new TimerTask() {
-            @Override
-            public void run(Timeout timeout) throws Exception {
-                
-                RFuture<Boolean> future = commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
-                        "if (redis.call('hexists', KEYS[1], ARGV[2]) == 1) then " +
-                            "redis.call('pexpire', KEYS[1], ARGV[1]); " +
-                            "return 1; " +
-                        "end; " +
-                        "return 0;",
-                          Collections.<Object>singletonList(getName()), internalLockLeaseTime, getLockName(threadId));
-                
-                future.addListener(new FutureListener<Boolean>() {
-                    @Override
-                    public void operationComplete(Future<Boolean> future) throws Exception {
-                        expirationRenewalMap.remove(getEntryName());
-                        if (!future.isSuccess()) {
-                            log.error("Can't update lock " + getName() + " expiration", future.cause());
-                            return;
-                        }
-                        
-                        if (future.getNow()) {
-                            // reschedule itself
-                            scheduleExpirationRenewal(threadId);
-                        }
-                    }
-                });
-            }
-        }, internalLockLeaseTime / 3, TimeUnit.MILLISECONDS);
-
-        if (expirationRenewalMap.putIfAbsent(getEntryName(), task) != null) {
-            task.cancel();
-        }
+        commandExecutor.getConnectionManager().getRenewalScheduler()
+                    .schedule(getEntryName(), getName(), getLockName(threadId), internalLockLeaseTime);
     }
 
     void cancelExpirationRenewal() {
-        Timeout task = expirationRenewalMap.remove(getEntryName());
-        if (task != null) {
-            task.cancel();
-        }
+        commandExecutor.getConnectionManager().getRenewalScheduler().cancel(getEntryName());
     }
 
     <T> RFuture<T> tryLockInnerAsync(long leaseTime, TimeUnit unit, long threadId, RedisStrictCommand<T> command) {
@@ -344,14 +322,26 @@ public class RedissonLock extends RedissonExpirable implements RLock {
     }
 
     protected RedissonLockEntry getEntry(long threadId) {
+        if (isSharedChannel()) {
+            return PUBSUB.getSharedEntry(id.toString(), getChannelName());
+        }
         return PUBSUB.getEntry(getEntryName());
     }
 
     protected RFuture<RedissonLockEntry> subscribe(long threadId) {
+        if (isSharedChannel()) {
+            return PUBSUB.subscribeShared(id.toString(), getChannelName(), getSharedChannelName(), 
+                    commandExecutor.getConnectionManager().getSubscribeService());
+        }
         return PUBSUB.subscribe(getEntryName(), getChannelName(), commandExecutor.getConnectionManager().getSubscribeService());
     }
 
     protected void unsubscribe(RFuture<RedissonLockEntry> future, long threadId) {
+        if (isSharedChannel()) {
+            PUBSUB.unsubscribeShared(future.getNow(), id.toString(), getChannelName(), 
+                    commandExecutor.getConnectionManager().getSubscribeService());
+            return;
+        }
         PUBSUB.unsubscribe(future.getNow(), getEntryName(), getChannelName(), commandExecutor.getConnectionManager().getSubscribeService());
     }
 
@@ -399,11 +389,14 @@ public class RedissonLock extends RedissonExpirable implements RLock {
         return commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
                 "if (redis.call('del', KEYS[1]) == 1) then "
                 + "redis.call('publish', KEYS[2], ARGV[1]); "
+                + "if ARGV[2] ~= '' then "
+                    + "redis.call('publish', ARGV[2], KEYS[2]); "
+                + "end; "
                 + "return 1 "
                 + "else "
                 + "return 0 "
                 + "end",
-                Arrays.<Object>asList(getName(), getChannelName()), LockPubSub.unlockMessage);
+                Arrays.<Object>asList(getName(), getChannelName()), LockPubSub.unlockMessage, getSharedChannelName());
     }
 
     @Override
@@ -447,6 +440,9 @@ public class RedissonLock extends RedissonExpirable implements RLock {
         return commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
                 "if (redis.call('exists', KEYS[1]) == 0) then " +
                     "redis.call('publish', KEYS[2], ARGV[1]); " +
+                    "if ARGV[4] ~= '' then " +
+                        "redis.call('publish', ARGV[4], KEYS[2]); " +
+                    "end; " +
                     "return 1; " +
                 "end;" +
                 "if (redis.call('hexists', KEYS[1], ARGV[3]) == 0) then " +
@@ -459,10 +455,14 @@ public class RedissonLock extends RedissonExpirable implements RLock {
                 "else " +
                     "redis.call('del', KEYS[1]); " +
                     "redis.call('publish', KEYS[2], ARGV[1]); " +
+                    "if ARGV[4] ~= '' then " +
+                        "redis.call('publish', ARGV[4], KEYS[2]); " +
+                    "end; " +
                     "return 1; "+
                 "end; " +
                 "return nil;",
-                Arrays.<Object>asList(getName(), getChannelName()), LockPubSub.unlockMessage, internalLockLeaseTime, getLockName(threadId));
+                Arrays.<Object>asList(getName(), getChannelName()), 
+                LockPubSub.unlockMessage, internalLockLeaseTime, getLockName(threadId), getSharedChannelName());
 
     }
     
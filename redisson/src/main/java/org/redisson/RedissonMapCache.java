@@ -19,10 +19,14 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.redisson.api.MapOptions;
 import org.redisson.api.RFuture;
@@ -57,8 +61,14 @@ import org.redisson.codec.MapCacheEventCodec;
 import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.connection.decoder.MapGetAllDecoder;
 import org.redisson.eviction.EvictionScheduler;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
 
@@ -83,6 +93,13 @@ import io.netty.util.concurrent.FutureListener;
  */
 public class RedissonMapCache<K, V> extends RedissonMap<K, V> implements RMapCache<K, V> {
 
+    private static final Logger log = LoggerFactory.getLogger(RedissonMapCache.class);
+    
+    private static final int ACCESS_TIMES_BATCH_SIZE = 1000;
+    
+    private final ConcurrentMap<K, Long> accessTimes = new ConcurrentHashMap<K, Long>();
+    private final AtomicBoolean accessTimesFlushScheduled = new AtomicBoolean();
+
     public RedissonMapCache(EvictionScheduler evictionScheduler, CommandAsyncExecutor commandExecutor,
                             String name, RedissonClient redisson, MapOptions<K, V> options) {
         super(commandExecutor, name, redisson, options);
@@ -451,6 +468,10 @@ public class RedissonMapCache<K, V> extends RedissonMap<K, V> implements RMapCac
 
     @Override
     public RFuture<V> getOperationAsync(K key) {
+        if (options != null && options.getAccessTimeFlushInterval() > 0) {
+            return getOperationFromSlaveAsync(key);
+        }
+        
         return commandExecutor.evalWriteAsync(getName(key), codec, RedisCommands.EVAL_MAP_VALUE,
                 "local value = redis.call('hget', KEYS[1], ARGV[2]); "
                         + "if value == false then "
@@ -483,6 +504,163 @@ public class RedissonMapCache<K, V> extends RedissonMap<K, V> implements RMapCac
                 System.currentTimeMillis(), encodeMapKey(key));
     }
 
+    private RFuture<V> getOperationFromSlaveAsync(final K key) {
+        final RPromise<V> result = new RedissonPromise<V>();
+        RFuture<List<Object>> future = commandExecutor.evalReadAsync(getName(key), codec, RedisCommands.EVAL_MAP_VALUE_LIST,
+                "local value = redis.call('hget', KEYS[1], ARGV[2]); "
+                        + "if value == false then "
+                            + "return {}; "
+                        + "end; "
+                        + "local t, val = struct.unpack('dLc0', value); "
+                        + "local expireDate = 92233720368547758; " +
+                        "local expireDateScore = redis.call('zscore', KEYS[2], ARGV[2]); "
+                        + "if expireDateScore ~= false then "
+                            + "expireDate = tonumber(expireDateScore) "
+                        + "end; "
+                        + "if t ~= 0 then "
+                            + "local expireIdle = redis.call('zscore', KEYS[3], ARGV[2]); "
+                            + "if expireIdle ~= false then "
+                                + "expireDate = math.min(expireDate, tonumber(expireIdle)) "
+                            + "end; "
+                        + "end; "
+                        + "if expireDate <= tonumber(ARGV[1]) then "
+                            + "return {}; "
+                        + "end; "
+                        + "local maxSize = tonumber(redis.call('hget', KEYS[4], 'max-size')); "
+                        + "if maxSize == nil then "
+                            + "maxSize = 0; "
+                        + "end; "
+                        + "return {val, t, maxSize}; ",
+                Arrays.<Object>asList(getName(key), getTimeoutSetNameByKey(key), getIdleSetNameByKey(key), getOptionsName(key)),
+                System.currentTimeMillis(), encodeMapKey(key));
+        future.addListener(new FutureListener<List<Object>>() {
+            @Override
+            public void operationComplete(Future<List<Object>> future) throws Exception {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+                
+                List<Object> res = future.getNow();
+                if (res == null || res.isEmpty()) {
+                    result.trySuccess(null);
+                    return;
+                }
+                
+                long maxIdleTime = ((Number) res.get(1)).longValue();
+                long maxSize = ((Number) res.get(2)).longValue();
+                if (maxIdleTime != 0 || maxSize != 0) {
+                    touch(key);
+                }
+                result.trySuccess((V) res.get(0));
+            }
+        });
+        return result;
+    }
+    
+    private void touch(K key) {
+        accessTimes.put(key, System.currentTimeMillis());
+        scheduleAccessTimesFlush();
+    }
+
+    private void scheduleAccessTimesFlush() {
+        if (!accessTimesFlushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        if (commandExecutor.getConnectionManager().isShuttingDown()) {
+            return;
+        }
+        
+        commandExecutor.getConnectionManager().newTimeout(new TimerTask() {
+            @Override
+            public void run(Timeout timeout) throws Exception {
+                flushAccessTimes();
+            }
+        }, options.getAccessTimeFlushInterval(), TimeUnit.MILLISECONDS);
+    }
+    
+    private void flushAccessTimes() {
+        accessTimesFlushScheduled.set(false);
+        
+        Map<K, Long> batch = new HashMap<K, Long>();
+        for (Entry<K, Long> entry : accessTimes.entrySet()) {
+            // newer access time remains for the next flush
+            if (accessTimes.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+            if (batch.size() == ACCESS_TIMES_BATCH_SIZE) {
+                flushAccessTimes(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushAccessTimes(batch);
+        }
+    }
+
+    private void flushAccessTimes(Map<K, Long> batch) {
+        final Map<K, Long> times = new HashMap<K, Long>(batch);
+        List<Object> params = new ArrayList<Object>(times.size()*2 + 1);
+        params.add(System.currentTimeMillis());
+        for (Entry<K, Long> entry : times.entrySet()) {
+            params.add(encodeMapKey(entry.getKey()));
+            params.add(entry.getValue());
+        }
+        
+        RFuture<Long> future = commandExecutor.evalWriteAsync(getName(), LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                "local currentTime = tonumber(ARGV[1]); "
+              + "local maxSize = tonumber(redis.call('hget', KEYS[4], 'max-size')); "
+              + "local idleArgs = {}; "
+              + "local accessArgs = {}; "
+              + "for i = 2, #ARGV, 2 do "
+                  + "local key = ARGV[i]; "
+                  + "local accessTime = tonumber(ARGV[i+1]); "
+                  + "local value = redis.call('hget', KEYS[1], key); "
+                  + "if value ~= false then "
+                      + "local t, val = struct.unpack('dLc0', value); "
+                      + "if t ~= 0 then "
+                          + "local expireIdle = redis.call('zscore', KEYS[2], key); "
+                          // expired entry shouldn't be revived
+                          + "if expireIdle ~= false and tonumber(expireIdle) > currentTime "
+                                  + "and tonumber(expireIdle) < accessTime + t then "
+                              + "table.insert(idleArgs, accessTime + t); "
+                              + "table.insert(idleArgs, key); "
+                          + "end; "
+                      + "end; "
+                      + "if maxSize ~= nil and maxSize ~= 0 then "
+                          + "local lastAccess = redis.call('zscore', KEYS[3], key); "
+                          + "if lastAccess == false or tonumber(lastAccess) < accessTime then "
+                              + "table.insert(accessArgs, accessTime); "
+                              + "table.insert(accessArgs, key); "
+                          + "end; "
+                      + "end; "
+                  + "end; "
+              + "end; "
+              + "if #idleArgs > 0 then "
+                  + "redis.call('zadd', KEYS[2], unpack(idleArgs)); "
+              + "end; "
+              + "if #accessArgs > 0 then "
+                  + "redis.call('zadd', KEYS[3], unpack(accessArgs)); "
+              + "end; "
+              + "return #idleArgs / 2; ",
+              Arrays.<Object>asList(getName(), getIdleSetName(), getLastAccessTimeSetName(), getOptionsName()),
+              params.toArray());
+        future.addListener(new FutureListener<Long>() {
+            @Override
+            public void operationComplete(Future<Long> future) throws Exception {
+                if (future.isSuccess()) {
+                    return;
+                }
+                
+                log.error("Can't update access time of entries in " + getName(), future.cause());
+                for (Entry<K, Long> entry : times.entrySet()) {
+                    accessTimes.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+                scheduleAccessTimesFlush();
+            }
+        });
+    }
+    
     @Override
     public V put(K key, V value, long ttl, TimeUnit unit) {
         return get(putAsync(key, value, ttl, unit));
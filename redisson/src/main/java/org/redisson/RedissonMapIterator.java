@@ -17,7 +17,9 @@ package org.redisson;
 
 import java.util.Map.Entry;
 
+import org.redisson.api.RFuture;
 import org.redisson.client.RedisClient;
+import org.redisson.client.protocol.decoder.MapScanResult;
 import org.redisson.client.protocol.decoder.ScanObjectEntry;
 
 /**
@@ -32,6 +34,7 @@ public class RedissonMapIterator<M> extends RedissonBaseMapIterator<M> {
     private final String pattern;
 
     public RedissonMapIterator(RedissonMap map, String pattern) {
+        super(map.getIteratorPrefetchSize());
         this.map = map;
         this.pattern = pattern;
     }
@@ -46,6 +49,11 @@ public class RedissonMapIterator<M> extends RedissonBaseMapIterator<M> {
         return map.scanIterator(map.getName(), client, nextIterPos, pattern);
     }
 
+    @Override
+    protected RFuture<MapScanResult<ScanObjectEntry, ScanObjectEntry>> iteratorAsync(RedisClient client, long nextIterPos) {
+        return map.scanIteratorAsync(map.getName(), client, nextIterPos, pattern);
+    }
+    
     @Override
     protected void remove(Entry<ScanObjectEntry, ScanObjectEntry> value) {
         map.fastRemove(value.getKey().getObj());
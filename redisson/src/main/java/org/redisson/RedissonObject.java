@@ -82,6 +82,16 @@ public abstract class RedissonObject implements RObject {
         return seconds;
     }
 
+    /**
+     * Returns amount of pages loaded ahead by SCAN-based iterators.
+     * Objects which define own synchronous scan logic should return <code>0</code>.
+     * 
+     * @return amount of pages
+     */
+    protected int getIteratorPrefetchSize() {
+        return commandExecutor.getConnectionManager().getCfg().getIteratorPrefetchSize();
+    }
+    
     @Override
     public String getName() {
         return name;
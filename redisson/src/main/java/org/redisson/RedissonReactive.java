@@ -117,7 +117,7 @@ public class RedissonReactive implements RedissonReactiveClient {
         
         connectionManager = ConfigSupport.createConnectionManager(configCopy);
         commandExecutor = new CommandReactiveService(connectionManager);
-        evictionScheduler = new EvictionScheduler(commandExecutor);
+        evictionScheduler = new EvictionScheduler(commandExecutor, configCopy.getEvictionMaxTasks());
         codecProvider = config.getReferenceCodecProvider();
     }
 
@@ -92,6 +92,9 @@ public class RedissonReadLock extends RedissonLock implements RLock {
                 "local mode = redis.call('hget', KEYS[1], 'mode'); " +
                 "if (mode == false) then " +
                     "redis.call('publish', KEYS[2], ARGV[1]); " +
+                    "if ARGV[3] ~= '' then " +
+                        "redis.call('publish', ARGV[3], KEYS[2]); " +
+                    "end; " +
                     "return 1; " +
                 "end; " +
                 "local lockExists = redis.call('hexists', KEYS[1], ARGV[2]); " +
@@ -129,9 +132,12 @@ public class RedissonReadLock extends RedissonLock implements RLock {
                     
                 "redis.call('del', KEYS[1]); " +
                 "redis.call('publish', KEYS[2], ARGV[1]); " +
+                "if ARGV[3] ~= '' then " +
+                    "redis.call('publish', ARGV[3], KEYS[2]); " +
+                "end; " +
                 "return 1; ",
                 Arrays.<Object>asList(getName(), getChannelName(), timeoutPrefix, keyPrefix), 
-                LockPubSub.unlockMessage, getLockName(threadId));
+                LockPubSub.unlockMessage, getLockName(threadId), getSharedChannelName());
     }
     
     @Override
@@ -145,10 +151,13 @@ public class RedissonReadLock extends RedissonLock implements RLock {
                 "if (redis.call('hget', KEYS[1], 'mode') == 'read') then " +
                     "redis.call('del', KEYS[1]); " +
                     "redis.call('publish', KEYS[2], ARGV[1]); " +
+                    "if ARGV[2] ~= '' then " +
+                        "redis.call('publish', ARGV[2], KEYS[2]); " +
+                    "end; " +
                     "return 1; " +
                 "end; " +
                 "return 0; ",
-                Arrays.<Object>asList(getName(), getChannelName()), LockPubSub.unlockMessage);
+                Arrays.<Object>asList(getName(), getChannelName()), LockPubSub.unlockMessage, getSharedChannelName());
 
           result.addListener(new FutureListener<Boolean>() {
               @Override
@@ -0,0 +1,138 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.redisson.api.RFuture;
+import org.redisson.api.RScoredPriorityQueue;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.ScoreExtractor;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.misc.RedissonPromise;
+
+/**
+ * Priority queue backed by Redis sorted set.
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <V> value type
+ */
+public class RedissonScoredPriorityQueue<V> extends RedissonScoredSortedSet<V> implements RScoredPriorityQueue<V> {
+
+    private final ScoreExtractor<? super V> scoreExtractor;
+
+    public RedissonScoredPriorityQueue(CommandAsyncExecutor commandExecutor, String name, RedissonClient redisson, ScoreExtractor<? super V> scoreExtractor) {
+        super(commandExecutor, name, redisson);
+        this.scoreExtractor = scoreExtractor;
+    }
+
+    public RedissonScoredPriorityQueue(Codec codec, CommandAsyncExecutor commandExecutor, String name, RedissonClient redisson, ScoreExtractor<? super V> scoreExtractor) {
+        super(codec, commandExecutor, name, redisson);
+        this.scoreExtractor = scoreExtractor;
+    }
+
+    @Override
+    public ScoreExtractor<? super V> getScoreExtractor() {
+        return scoreExtractor;
+    }
+
+    @Override
+    public boolean add(V value) {
+        return get(addAsync(value));
+    }
+
+    @Override
+    public RFuture<Boolean> addAsync(V value) {
+        return addAsync(scoreExtractor.getScore(value), value);
+    }
+
+    @Override
+    public boolean offer(V value) {
+        return add(value);
+    }
+
+    @Override
+    public RFuture<Boolean> offerAsync(V value) {
+        return addAsync(value);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends V> values) {
+        return get(addAllAsync(values));
+    }
+
+    @Override
+    public RFuture<Boolean> addAllAsync(Collection<? extends V> values) {
+        if (values.isEmpty()) {
+            return RedissonPromise.newSucceededFuture(false);
+        }
+
+        List<Object> params = new ArrayList<Object>(values.size()*2+1);
+        params.add(getName());
+        for (V value : values) {
+            params.add(BigDecimal.valueOf(scoreExtractor.getScore(value)).toPlainString());
+            params.add(encode(value));
+        }
+
+        return commandExecutor.writeAsync(getName(), codec, RedisCommands.ZADD_BOOL, params.toArray());
+    }
+
+    @Override
+    public V poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public RFuture<V> pollAsync() {
+        return pollFirstAsync();
+    }
+
+    @Override
+    public V peek() {
+        return first();
+    }
+
+    @Override
+    public RFuture<V> peekAsync() {
+        return firstAsync();
+    }
+
+    @Override
+    public V remove() {
+        V value = poll();
+        if (value == null) {
+            throw new NoSuchElementException();
+        }
+        return value;
+    }
+
+    @Override
+    public V element() {
+        V value = peek();
+        if (value == null) {
+            throw new NoSuchElementException();
+        }
+        return value;
+    }
+
+}
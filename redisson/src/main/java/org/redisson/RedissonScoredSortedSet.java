@@ -361,18 +361,22 @@ public class RedissonScoredSortedSet<V> extends RedissonExpirable implements RSc
         return commandExecutor.readAsync(getName(), codec, RedisCommands.ZRANK_INT, getName(), encode(o));
     }
 
-    private ListScanResult<ScanObjectEntry> scanIterator(RedisClient client, long startPos) {
-        RFuture<ListScanResult<ScanObjectEntry>> f = commandExecutor.readAsync(client, getName(), new ScanCodec(codec), RedisCommands.ZSCAN, getName(), startPos);
-        return get(f);
+    private RFuture<ListScanResult<ScanObjectEntry>> scanIteratorAsync(RedisClient client, long startPos) {
+        return commandExecutor.readAsync(client, getName(), new ScanCodec(codec), RedisCommands.ZSCAN, getName(), startPos);
     }
 
     @Override
     public Iterator<V> iterator() {
-        return new RedissonBaseIterator<V>() {
+        return new RedissonBaseIterator<V>(getIteratorPrefetchSize()) {
 
             @Override
             protected ListScanResult<ScanObjectEntry> iterator(RedisClient client, long nextIterPos) {
-                return scanIterator(client, nextIterPos);
+                return get(scanIteratorAsync(client, nextIterPos));
+            }
+
+            @Override
+            protected RFuture<ListScanResult<ScanObjectEntry>> iteratorAsync(RedisClient client, long nextIterPos) {
+                return scanIteratorAsync(client, nextIterPos);
             }
 
             @Override
@@ -95,24 +95,23 @@ public class RedissonSet<V> extends RedissonExpirable implements RSet<V>, ScanIt
 
     @Override
     public ListScanResult<ScanObjectEntry> scanIterator(String name, RedisClient client, long startPos, String pattern) {
-        if (pattern == null) {
-            RFuture<ListScanResult<ScanObjectEntry>> f = commandExecutor.readAsync(client, name, new ScanCodec(codec), RedisCommands.SSCAN, name, startPos);
-            return get(f);
-        }
-
-        RFuture<ListScanResult<ScanObjectEntry>> f = commandExecutor.readAsync(client, name, new ScanCodec(codec), RedisCommands.SSCAN, name, startPos, "MATCH", pattern);
-        return get(f);
+        return get(scanIteratorAsync(name, client, startPos, pattern));
     }
 
     @Override
     public Iterator<V> iterator(final String pattern) {
-        return new RedissonBaseIterator<V>() {
+        return new RedissonBaseIterator<V>(getIteratorPrefetchSize()) {
 
             @Override
             protected ListScanResult<ScanObjectEntry> iterator(RedisClient client, long nextIterPos) {
                 return scanIterator(getName(), client, nextIterPos, pattern);
             }
 
+            @Override
+            protected RFuture<ListScanResult<ScanObjectEntry>> iteratorAsync(RedisClient client, long nextIterPos) {
+                return scanIteratorAsync(getName(), client, nextIterPos, pattern);
+            }
+
             @Override
             protected void remove(ScanObjectEntry value) {
                 RedissonSet.this.remove((V)value.getObj());
@@ -569,7 +568,10 @@ public class RedissonSet<V> extends RedissonExpirable implements RSet<V>, ScanIt
     @Override
     public RFuture<ListScanResult<ScanObjectEntry>> scanIteratorAsync(String name, RedisClient client, long startPos,
             String pattern) {
-        throw new UnsupportedOperationException();
+        if (pattern == null) {
+            return commandExecutor.readAsync(client, name, new ScanCodec(codec), RedisCommands.SSCAN, name, startPos);
+        }
+        return commandExecutor.readAsync(client, name, new ScanCodec(codec), RedisCommands.SSCAN, name, startPos, "MATCH", pattern);
     }
     
 }
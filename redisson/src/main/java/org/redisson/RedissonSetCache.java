@@ -158,13 +158,18 @@ public class RedissonSetCache<V> extends RedissonExpirable implements RSetCache<
 
     @Override
     public Iterator<V> iterator(final String pattern) {
-        return new RedissonBaseIterator<V>() {
+        return new RedissonBaseIterator<V>(getIteratorPrefetchSize()) {
 
             @Override
             protected ListScanResult<ScanObjectEntry> iterator(RedisClient client, long nextIterPos) {
                 return scanIterator(getName(), client, nextIterPos, pattern);
             }
 
+            @Override
+            protected RFuture<ListScanResult<ScanObjectEntry>> iteratorAsync(RedisClient client, long nextIterPos) {
+                return scanIteratorAsync(getName(), client, nextIterPos, pattern);
+            }
+
             @Override
             protected void remove(ScanObjectEntry value) {
                 RedissonSetCache.this.remove((V)value.getObj());
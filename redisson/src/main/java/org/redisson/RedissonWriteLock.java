@@ -84,6 +84,9 @@ public class RedissonWriteLock extends RedissonLock implements RLock {
                 "local mode = redis.call('hget', KEYS[1], 'mode'); " +
                 "if (mode == false) then " +
                     "redis.call('publish', KEYS[2], ARGV[1]); " +
+                    "if ARGV[4] ~= '' then " +
+                        "redis.call('publish', ARGV[4], KEYS[2]); " +
+                    "end; " +
                     "return 1; " +
                 "end;" +
                 "if (mode == 'write') then " +
@@ -100,6 +103,9 @@ public class RedissonWriteLock extends RedissonLock implements RLock {
                             "if (redis.call('hlen', KEYS[1]) == 1) then " +
                                 "redis.call('del', KEYS[1]); " +
                                 "redis.call('publish', KEYS[2], ARGV[1]); " + 
+                                "if ARGV[4] ~= '' then " +
+                                    "redis.call('publish', ARGV[4], KEYS[2]); " +
+                                "end; " +
                             "else " +
                                 // has unlocked read-locks
                                 "redis.call('hset', KEYS[1], 'mode', 'read'); " +
@@ -110,7 +116,7 @@ public class RedissonWriteLock extends RedissonLock implements RLock {
                 "end; "
                 + "return nil;",
         Arrays.<Object>asList(getName(), getChannelName()), 
-        LockPubSub.unlockMessage, internalLockLeaseTime, getLockName(threadId));
+        LockPubSub.unlockMessage, internalLockLeaseTime, getLockName(threadId), getSharedChannelName());
     }
     
     @Override
@@ -124,10 +130,13 @@ public class RedissonWriteLock extends RedissonLock implements RLock {
               "if (redis.call('hget', KEYS[1], 'mode') == 'write') then " +
                   "redis.call('del', KEYS[1]); " +
                   "redis.call('publish', KEYS[2], ARGV[1]); " +
+                  "if ARGV[2] ~= '' then " +
+                      "redis.call('publish', ARGV[2], KEYS[2]); " +
+                  "end; " +
                   "return 1; " +
               "end; " +
               "return 0; ",
-              Arrays.<Object>asList(getName(), getChannelName()), LockPubSub.unlockMessage);
+              Arrays.<Object>asList(getName(), getChannelName()), LockPubSub.unlockMessage, getSharedChannelName());
 
         result.addListener(new FutureListener<Boolean>() {
             @Override
@@ -109,6 +109,13 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
          */
         LFU, 
         
+        /**
+         * Window TinyLFU cache. Admits new entries 
+         * only if they are accessed more frequently than evicted ones.
+         * Reads don't require locking.
+         */
+        W_TINY_LFU, 
+        
         /**
          * Cache with Soft Reference used for values.
          * All references will be collected by GC
@@ -339,5 +346,10 @@ public class LocalCachedMapOptions<K, V> extends MapOptions<K, V> {
     public LocalCachedMapOptions<K, V> loader(MapLoader<K, V> loader) {
         return (LocalCachedMapOptions<K, V>) super.loader(loader);
     }
+    
+    @Override
+    public LocalCachedMapOptions<K, V> accessTimeFlushInterval(long interval, TimeUnit unit) {
+        return (LocalCachedMapOptions<K, V>) super.accessTimeFlushInterval(interval, unit);
+    }
 
 }
@@ -15,6 +15,8 @@
  */
 package org.redisson.api;
 
+import java.util.concurrent.TimeUnit;
+
 import org.redisson.api.map.MapLoader;
 import org.redisson.api.map.MapWriter;
 
@@ -49,6 +51,7 @@ public class MapOptions<K, V> {
     private MapWriter<K, V> writer;
     private WriteMode writeMode = WriteMode.WRITE_THROUGH;
     private int writeBehindThreads = 1;
+    private long accessTimeFlushInterval;
     
     protected MapOptions() {
     }
@@ -135,4 +138,28 @@ public class MapOptions<K, V> {
         return loader;
     }
 
+    /**
+     * Sets interval of entry access time updates. Used by {@link RMapCache} only.
+     * <p>
+     * If defined then get operation is executed as read-only script
+     * and may be routed to slave nodes according to <code>readMode</code> setting.
+     * Access time of entries with max idle time is collected locally and
+     * written to Redis in one batch per map once per interval.
+     * So entry idle time could be updated with delay up to this interval,
+     * which should be much lower than entry max idle time.
+     * <p>
+     * Default is <code>0</code> - access time is updated by each get operation on master node.
+     * 
+     * @param interval - flush interval
+     * @param unit - time unit
+     * @return MapOptions instance
+     */
+    public MapOptions<K, V> accessTimeFlushInterval(long interval, TimeUnit unit) {
+        this.accessTimeFlushInterval = unit.toMillis(interval);
+        return this;
+    }
+    public long getAccessTimeFlushInterval() {
+        return accessTimeFlushInterval;
+    }
+
 }
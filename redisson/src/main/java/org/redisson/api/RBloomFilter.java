@@ -15,6 +15,9 @@
  */
 package org.redisson.api;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Bloom filter based on Highway 128-bit hash.
  *
@@ -28,6 +31,34 @@ public interface RBloomFilter<T> extends RExpirable {
 
     boolean contains(T object);
 
+    /**
+     * Adds all objects to Bloom filter.
+     * Objects are hashed on client side and sent in batches.
+     *
+     * @param objects - objects to add
+     * @return amount of objects which have been added,
+     *         i.e. weren't contained in Bloom filter before
+     */
+    long addAll(Collection<? extends T> objects);
+
+    /**
+     * Checks if all objects could be contained in Bloom filter.
+     *
+     * @param objects - objects to check
+     * @return <code>true</code> if all objects could be contained
+     *         <code>false</code> if at least one object is not contained
+     */
+    boolean containsAll(Collection<? extends T> objects);
+
+    /**
+     * Checks each object against Bloom filter.
+     *
+     * @param objects - objects to check
+     * @return list of results in iteration order of <code>objects</code>.
+     *         Result is <code>true</code> if object could be contained
+     */
+    List<Boolean> containsEach(Collection<? extends T> objects);
+
     /**
      * Initializes Bloom filter params (size and hashIterations)
      * calculated from <code>expectedInsertions</code> and <code>falseProbability</code>
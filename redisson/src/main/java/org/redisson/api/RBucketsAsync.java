@@ -27,6 +27,9 @@ public interface RBucketsAsync {
     /**
      * Returns Redis object mapped by key. Result Map is not contains
      * key-value entry for null values.
+     * <p>
+     * In cluster mode keys are grouped by slot and loaded 
+     * from all involved nodes in parallel.
      * 
      * @param <V> type of value
      * @param keys - keys
@@ -38,6 +41,10 @@ public interface RBucketsAsync {
      * Try to save objects mapped by Redis key.
      * If at least one of them is already exist then 
      * don't set none of them.
+     * <p>
+     * In cluster mode buckets are grouped by slot and each group is set atomically.
+     * If buckets from one of slots already exist then buckets from the other slots 
+     * set by this operation are deleted, so they might be visible for a short time.
      *
      * @param buckets - map of buckets
      * @return <code>true</code> if object has been set overwise <code>false</code>
@@ -15,6 +15,8 @@
  */
 package org.redisson.api;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -46,4 +48,50 @@ public interface RDelayedQueue<V> extends RQueue<V>, RDestroyable {
      */
     RFuture<Void> offerAsync(V e, long delay, TimeUnit timeUnit);
     
+    /**
+     * Inserts elements into this queue with 
+     * specified transfer delay to destination queue.
+     * Elements are sent in chunks, one script per chunk.
+     * Order of elements isn't preserved in destination queue.
+     * 
+     * @param elements to add
+     * @param delay for transition
+     * @param timeUnit for delay
+     */
+    void offerAll(Collection<? extends V> elements, long delay, TimeUnit timeUnit);
+    
+    /**
+     * Inserts elements into this queue with 
+     * specified transfer delay to destination queue.
+     * Elements are sent in chunks, one script per chunk.
+     * Order of elements isn't preserved in destination queue.
+     * 
+     * @param elements to add
+     * @param delay for transition
+     * @param timeUnit for delay
+     * @return void
+     */
+    RFuture<Void> offerAllAsync(Collection<? extends V> elements, long delay, TimeUnit timeUnit);
+    
+    /**
+     * Inserts elements into this queue with 
+     * transfer delay defined per element.
+     * Elements are sent in chunks, one script per chunk.
+     * 
+     * @param elements - map of element to its transfer delay
+     * @param timeUnit for delays
+     */
+    void offerAll(Map<? extends V, Long> elements, TimeUnit timeUnit);
+    
+    /**
+     * Inserts elements into this queue with 
+     * transfer delay defined per element.
+     * Elements are sent in chunks, one script per chunk.
+     * 
+     * @param elements - map of element to its transfer delay
+     * @param timeUnit for delays
+     * @return void
+     */
+    RFuture<Void> offerAllAsync(Map<? extends V, Long> elements, TimeUnit timeUnit);
+    
 }
@@ -184,6 +184,26 @@ public interface RKeys extends RKeysAsync {
      */
     Iterable<String> getKeysByPattern(String pattern, int count);
     
+    /**
+     * Get all keys by pattern using iterator. 
+     * Keys traversed with SCAN operation on all master nodes concurrently. 
+     * Each SCAN operation loads up to <code>count</code> keys per request.
+     * Keys order between nodes isn't defined.
+     * <p>
+     *  Supported glob-style patterns:
+     *  <p>
+     *    h?llo subscribes to hello, hallo and hxllo
+     *    <p>
+     *    h*llo subscribes to hllo and heeeello
+     *    <p>
+     *    h[ae]llo subscribes to hello and hallo, but not hillo
+     *
+     * @param pattern - match pattern
+     * @param count - keys loaded per request to Redis
+     * @return Iterable object
+     */
+    Iterable<String> getKeysByPatternParallel(String pattern, int count);
+    
     /**
      * Get all keys using iterator. Keys traversing with SCAN operation
      *
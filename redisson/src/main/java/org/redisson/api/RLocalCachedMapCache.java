@@ -0,0 +1,50 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+/**
+ * Map-based cache with TTL, max idle time and local entry cache support.
+ * <p>
+ * Each instance keeps local copies of entries and reads them without network roundtrip.
+ * Local copy never outlives entry's time to live or max idle time stored in Redis.
+ * Local copies are invalidated on entry update, removal or expiration made by any client.
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <K> map key
+ * @param <V> map value
+ */
+public interface RLocalCachedMapCache<K, V> extends RMapCache<K, V>, RDestroyable {
+
+    /**
+     * Pre-warm the cached values.  Not guaranteed to load ALL values, but statistically
+     * will preload approximately all (all if no concurrent mutating activity)
+     */
+    void preloadCache();
+    
+    /**
+     * Clears local cache across all instances
+     * 
+     * @return void
+     */
+    RFuture<Void> clearLocalCacheAsync();
+    
+    /**
+     * Clears local cache across all instances
+     */
+    void clearLocalCache();
+    
+}
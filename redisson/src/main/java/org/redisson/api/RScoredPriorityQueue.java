@@ -0,0 +1,42 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+import java.util.Queue;
+
+/**
+ * Priority queue backed by Redis sorted set.
+ * Element order is defined by score obtained 
+ * from {@link ScoreExtractor}, so each operation
+ * requires single request and no lock.
+ * <p>
+ * Equal elements are stored only once. 
+ * Elements with equal score are ordered by their encoded form.
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <V> value type
+ */
+public interface RScoredPriorityQueue<V> extends Queue<V>, RScoredSortedSet<V>, RScoredPriorityQueueAsync<V> {
+
+    /**
+     * Returns score extractor used by this queue
+     * 
+     * @return score extractor
+     */
+    ScoreExtractor<? super V> getScoreExtractor();
+
+}
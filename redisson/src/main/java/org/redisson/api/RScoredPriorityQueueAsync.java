@@ -0,0 +1,70 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+import java.util.Collection;
+
+/**
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <V> value type
+ */
+public interface RScoredPriorityQueueAsync<V> extends RScoredSortedSetAsync<V> {
+
+    /**
+     * Adds element to this queue with score defined by {@link ScoreExtractor}.
+     * 
+     * @param value - element to add
+     * @return <code>true</code> if element was added 
+     *         <code>false</code> if element already exists
+     */
+    RFuture<Boolean> addAsync(V value);
+
+    /**
+     * Adds element to this queue with score defined by {@link ScoreExtractor}.
+     * 
+     * @param value - element to add
+     * @return <code>true</code> if element was added 
+     *         <code>false</code> if element already exists
+     */
+    RFuture<Boolean> offerAsync(V value);
+
+    /**
+     * Adds all elements to this queue in single request.
+     * 
+     * @param values - elements to add
+     * @return <code>true</code> if at least one element was added
+     */
+    RFuture<Boolean> addAllAsync(Collection<? extends V> values);
+
+    /**
+     * Removes and returns the head of this queue 
+     * or <code>null</code> if this queue is empty.
+     * 
+     * @return the head of this queue
+     */
+    RFuture<V> pollAsync();
+
+    /**
+     * Returns the head of this queue 
+     * or <code>null</code> if this queue is empty.
+     * 
+     * @return the head of this queue
+     */
+    RFuture<V> peekAsync();
+
+}
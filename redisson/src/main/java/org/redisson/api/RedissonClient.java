@@ -299,6 +299,34 @@ public interface RedissonClient {
      */
     <K, V> RLocalCachedMap<K, V> getLocalCachedMap(String name, Codec codec, LocalCachedMapOptions<K, V> options);
     
+    /**
+     * Returns local cached map cache instance by name.
+     * Configured by parameters of options-object.
+     * <p>
+     * Local copy of entry expires no later than entry's
+     * time to live or max idle time stored in Redis.
+     * 
+     * @param <K> type of key
+     * @param <V> type of value
+     * @param name - name of object
+     * @param options - local map options
+     * @return LocalCachedMapCache object
+     */
+    <K, V> RLocalCachedMapCache<K, V> getLocalCachedMapCache(String name, LocalCachedMapOptions<K, V> options);
+    
+    /**
+     * Returns local cached map cache instance by name
+     * using provided codec. Configured by parameters of options-object.
+     * 
+     * @param <K> type of key
+     * @param <V> type of value
+     * @param name - name of object
+     * @param codec - codec for keys and values
+     * @param options - local map options
+     * @return LocalCachedMapCache object
+     */
+    <K, V> RLocalCachedMapCache<K, V> getLocalCachedMapCache(String name, Codec codec, LocalCachedMapOptions<K, V> options);
+    
     /**
      * Returns map instance by name.
      *
@@ -618,6 +646,32 @@ public interface RedissonClient {
      */
     <V> RPriorityQueue<V> getPriorityQueue(String name, Codec codec);
 
+    /**
+     * Returns priority unbounded queue instance by name.
+     * It uses score extractor to sort objects, 
+     * so objects are added and polled in single request without lock.
+     *
+     * @param <V> type of value
+     * @param name - name of object
+     * @param scoreExtractor - defines score of object
+     * @return Queue object
+     */
+    <V> RScoredPriorityQueue<V> getScoredPriorityQueue(String name, ScoreExtractor<? super V> scoreExtractor);
+
+    /**
+     * Returns priority unbounded queue instance by name
+     * using provided codec for queue objects.
+     * It uses score extractor to sort objects, 
+     * so objects are added and polled in single request without lock.
+     *
+     * @param <V> type of value
+     * @param name - name of object
+     * @param codec - codec for message
+     * @param scoreExtractor - defines score of object
+     * @return Queue object
+     */
+    <V> RScoredPriorityQueue<V> getScoredPriorityQueue(String name, Codec codec, ScoreExtractor<? super V> scoreExtractor);
+
     /**
      * Returns unbounded priority blocking queue instance by name.
      * It uses comparator to sort objects.
@@ -0,0 +1,37 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api;
+
+/**
+ * Defines order of objects stored in {@link RScoredPriorityQueue}.
+ * Objects with lower score are polled first.
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <V> value type
+ */
+public interface ScoreExtractor<V> {
+
+    /**
+     * Returns score of object.
+     * Should be consistent for equal objects.
+     * 
+     * @param value - object
+     * @return score
+     */
+    double getScore(V value);
+
+}
@@ -115,4 +115,15 @@ public interface RCollectionMapReduce<VIn, KOut, VOut> extends RMapReduceExecuto
      */
     RCollectionMapReduce<VIn, KOut, VOut> reducer(RReducer<KOut, VOut> reducer);
     
+    /**
+     * Setup Combiner object. Optional.
+     * <p>
+     * Combiner merges values emitted by Mapper for the same key
+     * before they are sent to Redis, so less data is stored and reduced.
+     * 
+     * @param combiner used during MapReduce
+     * @return self instance
+     */
+    RCollectionMapReduce<VIn, KOut, VOut> combiner(RCombiner<KOut, VOut> combiner);
+    
 }
@@ -0,0 +1,45 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.api.mapreduce;
+
+import java.io.Serializable;
+
+/**
+ * Combines values emitted by single Mapper for the same key
+ * before they are stored in Redis. Reduces amount of data 
+ * transferred to Reducer. 
+ * <p>
+ * Operation should be associative and commutative, 
+ * since values could be combined in any order.
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public interface RCombiner<K, V> extends Serializable {
+
+    /**
+     * Invoked for each value emitted for already buffered key
+     * 
+     * @param key - key
+     * @param value - current combined value
+     * @param newValue - emitted value
+     * @return combined value
+     */
+    V combine(K key, V value, V newValue);
+    
+}
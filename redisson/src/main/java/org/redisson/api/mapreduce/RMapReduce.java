@@ -110,4 +110,15 @@ public interface RMapReduce<KIn, VIn, KOut, VOut> extends RMapReduceExecutor<VIn
      */
     RMapReduce<KIn, VIn, KOut, VOut> reducer(RReducer<KOut, VOut> reducer);
     
+    /**
+     * Setup Combiner object. Optional.
+     * <p>
+     * Combiner merges values emitted by Mapper for the same key
+     * before they are sent to Redis, so less data is stored and reduced.
+     * 
+     * @param combiner used during MapReduce
+     * @return self instance
+     */
+    RMapReduce<KIn, VIn, KOut, VOut> combiner(RCombiner<KOut, VOut> combiner);
+    
 }
@@ -0,0 +1,412 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * W-TinyLFU (window tiny least frequently used) cache.
+ * <p>
+ * New entries are placed into small LRU window. Entries leaving the window
+ * compete with the victim of segmented LRU main space and admitted only if
+ * their estimated access frequency is higher. Frequencies are estimated
+ * by count-min sketch which is periodically aged.
+ * <p>
+ * Reads are recorded into striped lossy buffers and applied
+ * to the policy in batches, so read path doesn't take any lock.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <K> key
+ * @param <V> value
+ */
+public class WTinyLFUCacheMap<K, V> extends AbstractCacheMap<K, V> {
+
+    static final int NONE = 0;
+    static final int WINDOW = 1;
+    static final int PROBATION = 2;
+    static final int PROTECTED = 3;
+
+    public static class WTinyLFUCachedValue<K, V> extends StdCachedValue<K, V> {
+
+        WTinyLFUCachedValue<K, V> prev;
+        WTinyLFUCachedValue<K, V> next;
+        int queue = NONE;
+
+        public WTinyLFUCachedValue(K key, V value, long ttl, long maxIdleTime) {
+            super(key, value, ttl, maxIdleTime);
+        }
+
+    }
+
+    static class AccessOrderQueue<K, V> {
+
+        WTinyLFUCachedValue<K, V> head;
+        WTinyLFUCachedValue<K, V> tail;
+        int size;
+        final int type;
+
+        AccessOrderQueue(int type) {
+            this.type = type;
+        }
+
+        void add(WTinyLFUCachedValue<K, V> value) {
+            value.queue = type;
+            value.prev = tail;
+            value.next = null;
+            if (tail == null) {
+                head = value;
+            } else {
+                tail.next = value;
+            }
+            tail = value;
+            size++;
+        }
+
+        void remove(WTinyLFUCachedValue<K, V> value) {
+            if (value.prev == null) {
+                head = value.next;
+            } else {
+                value.prev.next = value.next;
+            }
+            if (value.next == null) {
+                tail = value.prev;
+            } else {
+                value.next.prev = value.prev;
+            }
+            value.prev = null;
+            value.next = null;
+            value.queue = NONE;
+            size--;
+        }
+
+        void moveToTail(WTinyLFUCachedValue<K, V> value) {
+            if (tail == value) {
+                return;
+            }
+            remove(value);
+            add(value);
+        }
+
+        void clear() {
+            WTinyLFUCachedValue<K, V> value = head;
+            while (value != null) {
+                WTinyLFUCachedValue<K, V> next = value.next;
+                value.prev = null;
+                value.next = null;
+                value.queue = NONE;
+                value = next;
+            }
+            head = null;
+            tail = null;
+            size = 0;
+        }
+
+    }
+
+    /**
+     * Count-min sketch with 4-bit counters packed into longs.
+     */
+    static class FrequencySketch {
+
+        private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int size) {
+            int length = Integer.highestOneBit(Math.max(size, 16) - 1) << 1;
+            table = new long[length];
+            tableMask = length - 1;
+            sampleSize = 10 * Math.max(size, 16);
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                added |= incrementAt(index, start + i);
+            }
+
+            if (added && ++additions == sampleSize) {
+                reset();
+            }
+        }
+
+        private boolean incrementAt(int index, int counter) {
+            int offset = counter << 2;
+            long mask = 0xfL << offset;
+            if ((table[index] & mask) != mask) {
+                table[index] += 1L << offset;
+                return true;
+            }
+            return false;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions = additions >>> 1;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return ((int) h) & tableMask;
+        }
+
+        private int spread(int hash) {
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            return (hash >>> 16) ^ hash;
+        }
+
+    }
+
+    /**
+     * Lossy ring buffer of read events.
+     * Events are dropped if buffer is full.
+     */
+    static class ReadBuffer<K, V> {
+
+        static final int SIZE = 16;
+        static final int MASK = SIZE - 1;
+
+        final AtomicReferenceArray<WTinyLFUCachedValue<K, V>> buffer = new AtomicReferenceArray<WTinyLFUCachedValue<K, V>>(SIZE);
+        final AtomicLong writeCounter = new AtomicLong();
+        volatile long readCounter;
+
+        /**
+         * Returns <code>true</code> if buffer should be drained
+         */
+        boolean offer(WTinyLFUCachedValue<K, V> value) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            long size = tail - head;
+            if (size >= SIZE) {
+                return true;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & MASK), value);
+            }
+            return size + 1 >= SIZE / 2;
+        }
+
+    }
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer<K, V>[] readBuffers;
+    private final FrequencySketch sketch;
+
+    private final AccessOrderQueue<K, V> window = new AccessOrderQueue<K, V>(WINDOW);
+    private final AccessOrderQueue<K, V> probation = new AccessOrderQueue<K, V>(PROBATION);
+    private final AccessOrderQueue<K, V> protectedQueue = new AccessOrderQueue<K, V>(PROTECTED);
+    private final int maxWindowSize;
+    private final int maxProtectedSize;
+
+    public WTinyLFUCacheMap(int size, long timeToLiveInMillis, long maxIdleInMillis) {
+        super(size, timeToLiveInMillis, maxIdleInMillis);
+
+        maxWindowSize = Math.max(1, size / 100);
+        maxProtectedSize = (int) ((size - maxWindowSize) * 0.8);
+        sketch = new FrequencySketch(size);
+
+        int buffers = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+        readBuffers = new ReadBuffer[buffers];
+        for (int i = 0; i < readBuffers.length; i++) {
+            readBuffers[i] = new ReadBuffer<K, V>();
+        }
+    }
+
+    @Override
+    protected CachedValue<K, V> create(K key, V value, long ttl, long maxIdleTime) {
+        return new WTinyLFUCachedValue<K, V>(key, value, ttl, maxIdleTime);
+    }
+
+    @Override
+    protected void onValueRead(CachedValue<K, V> value) {
+        int index = (int) Thread.currentThread().getId() & (readBuffers.length - 1);
+        if (readBuffers[index].offer((WTinyLFUCachedValue<K, V>) value)) {
+            tryDrainReadBuffers();
+        }
+    }
+
+    @Override
+    protected void onValueCreate(CachedValue<K, V> value) {
+        WTinyLFUCachedValue<K, V> entry = (WTinyLFUCachedValue<K, V>) value;
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+
+            sketch.increment(entry.getKey());
+            window.add(entry);
+            if (window.size > maxWindowSize) {
+                WTinyLFUCachedValue<K, V> candidate = window.head;
+                window.remove(candidate);
+                probation.add(candidate);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    protected void onValueRemove(CachedValue<K, V> value) {
+        WTinyLFUCachedValue<K, V> entry = (WTinyLFUCachedValue<K, V>) value;
+        evictionLock.lock();
+        try {
+            unlink(entry);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    protected void onMapFull() {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+
+            while (true) {
+                WTinyLFUCachedValue<K, V> victim = selectVictim();
+                if (victim == null) {
+                    return;
+                }
+
+                unlink(victim);
+                if (map.remove(victim.getKey(), victim)) {
+                    return;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private WTinyLFUCachedValue<K, V> selectVictim() {
+        WTinyLFUCachedValue<K, V> candidate = window.head;
+        WTinyLFUCachedValue<K, V> victim = probation.head;
+        if (victim == null) {
+            victim = protectedQueue.head;
+        }
+
+        if (candidate == null) {
+            return victim;
+        }
+        if (victim == null) {
+            return candidate;
+        }
+
+        if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+            // candidate is admitted to main space
+            window.remove(candidate);
+            probation.add(candidate);
+            return victim;
+        }
+        return candidate;
+    }
+
+    private void unlink(WTinyLFUCachedValue<K, V> value) {
+        if (value.queue == WINDOW) {
+            window.remove(value);
+        } else if (value.queue == PROBATION) {
+            probation.remove(value);
+        } else if (value.queue == PROTECTED) {
+            protectedQueue.remove(value);
+        }
+    }
+
+    private void tryDrainReadBuffers() {
+        if (evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffers() {
+        for (ReadBuffer<K, V> readBuffer : readBuffers) {
+            long head = readBuffer.readCounter;
+            long tail = readBuffer.writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & ReadBuffer.MASK);
+                WTinyLFUCachedValue<K, V> value = readBuffer.buffer.get(index);
+                if (value == null) {
+                    // writer hasn't published value yet
+                    break;
+                }
+                readBuffer.buffer.lazySet(index, null);
+                onAccess(value);
+            }
+            readBuffer.readCounter = head;
+        }
+    }
+
+    private void onAccess(WTinyLFUCachedValue<K, V> value) {
+        sketch.increment(value.getKey());
+
+        if (value.queue == WINDOW) {
+            window.moveToTail(value);
+        } else if (value.queue == PROBATION) {
+            probation.remove(value);
+            protectedQueue.add(value);
+            if (protectedQueue.size > maxProtectedSize) {
+                WTinyLFUCachedValue<K, V> demoted = protectedQueue.head;
+                protectedQueue.remove(demoted);
+                probation.add(demoted);
+            }
+        } else if (value.queue == PROTECTED) {
+            protectedQueue.moveToTail(value);
+        }
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            window.clear();
+            probation.clear();
+            protectedQueue.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+        super.clear();
+    }
+
+}
@@ -54,6 +54,7 @@ public class RedisClientConfig {
     private int pingConnectionInterval;
     private boolean keepAlive;
     private boolean tcpNoDelay;
+    private int pipeliningLimit = 1;
     
     private String sslHostname;
     private boolean sslEnableEndpointIdentification = true;
@@ -84,6 +85,7 @@ public class RedisClientConfig {
         this.pingConnectionInterval = config.pingConnectionInterval;
         this.keepAlive = config.keepAlive;
         this.tcpNoDelay = config.tcpNoDelay;
+        this.pipeliningLimit = config.pipeliningLimit;
         this.sslEnableEndpointIdentification = config.sslEnableEndpointIdentification;
         this.sslProvider = config.sslProvider;
         this.sslTruststore = config.sslTruststore;
@@ -286,6 +288,14 @@ public class RedisClientConfig {
         return this;
     }
 
+    public int getPipeliningLimit() {
+        return pipeliningLimit;
+    }
+    public RedisClientConfig setPipeliningLimit(int pipeliningLimit) {
+        this.pipeliningLimit = pipeliningLimit;
+        return this;
+    }
+
     public DnsAddressResolverGroup getResolverGroup() {
         return resolverGroup;
     }
@@ -36,6 +36,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import org.redisson.RedissonReference;
 import org.redisson.client.RedisAskException;
 import org.redisson.client.RedisException;
 import org.redisson.client.RedisLoadingException;
@@ -51,9 +52,8 @@ import org.redisson.client.protocol.QueueCommand;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.client.protocol.RedisCommands;
 import org.redisson.client.protocol.RedisCommand.ValueType;
-import org.redisson.client.protocol.decoder.ListMultiDecoder;
 import org.redisson.client.protocol.decoder.MultiDecoder;
-import org.redisson.client.protocol.decoder.SlotsDecoder;
+import org.redisson.client.protocol.decoder.ScanObjectEntry;
 import org.redisson.misc.LogHelper;
 import org.redisson.misc.RPromise;
 import org.slf4j.Logger;
@@ -62,7 +62,7 @@ import org.slf4j.LoggerFactory;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.ReplayingDecoder;
+import io.netty.handler.codec.ByteToMessageDecoder;
 import io.netty.util.CharsetUtil;
 
 /**
@@ -71,7 +71,7 @@ import io.netty.util.CharsetUtil;
  * @author Nikita Koksharov
  *
  */
-public class CommandDecoder extends ReplayingDecoder<State> {
+public class CommandDecoder extends ByteToMessageDecoder {
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
@@ -79,66 +79,69 @@ public class CommandDecoder extends ReplayingDecoder<State> {
     private static final char LF = '\n';
     private static final char ZERO = '0';
 
+    private State state;
+    
+    protected State state() {
+        return state;
+    }
+    
+    protected void state(State state) {
+        this.state = state;
+    }
+    
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        if (state() == null) {
+            state(new State());
+        }
+        
+        if (!isReplyReady(in)) {
+            return;
+        }
+        
+        int replyEndIndex = in.readerIndex() + state().getReplyOffset();
+        state().resetReply();
+        state().setDecoderState(null);
+
         QueueCommand data = ctx.channel().attr(CommandsQueue.CURRENT_COMMAND).get();
 
         if (log.isTraceEnabled()) {
-            log.trace("channel: {} message: {}", ctx.channel(), in.toString(0, in.writerIndex(), CharsetUtil.UTF_8));
+            log.trace("channel: {} message: {}", ctx.channel(), in.toString(in.readerIndex(), replyEndIndex - in.readerIndex(), CharsetUtil.UTF_8));
         }
-        if (state() == null) {
-            boolean makeCheckpoint = data != null;
-            if (data != null) {
-                if (data instanceof CommandsData) {
-                    makeCheckpoint = false;
-                } else {
-                    CommandData<Object, Object> cmd = (CommandData<Object, Object>)data;
-                    if (cmd.getCommand().getReplayMultiDecoder() != null 
-                            && (SlotsDecoder.class.isAssignableFrom(cmd.getCommand().getReplayMultiDecoder().getClass())
-                                    || ListMultiDecoder.class.isAssignableFrom(cmd.getCommand().getReplayMultiDecoder().getClass()))) {
-                        makeCheckpoint = false;
-                    }
-                }
-            }
-            state(new State(makeCheckpoint));
-        }
-
-        state().setDecoderState(null);
 
-        if (data == null) {
-            try {
-                while (in.writerIndex() > in.readerIndex()) {
+        try {
+            if (data == null) {
+                try {
                     decode(in, null, null, ctx.channel());
+                } catch (Exception e) {
+                    log.error("Unable to decode data. channel: {} message: {}", ctx.channel(), in.toString(0, in.writerIndex(), CharsetUtil.UTF_8), e);
+                    sendNext(ctx);
+                    throw e;
                 }
-            } catch (Exception e) {
-                log.error("Unable to decode data. channel: {} message: {}", ctx.channel(), in.toString(0, in.writerIndex(), CharsetUtil.UTF_8), e);
-                sendNext(ctx);
-                throw e;
-            }
-        } else if (data instanceof CommandData) {
-            CommandData<Object, Object> cmd = (CommandData<Object, Object>)data;
-            try {
-                if (state().getLevels().size() > 0) {
-                    decodeFromCheckpoint(ctx, in, data, cmd);
-                } else {
+            } else if (data instanceof CommandData) {
+                CommandData<Object, Object> cmd = (CommandData<Object, Object>)data;
+                try {
                     decode(in, cmd, null, ctx.channel());
+                } catch (Exception e) {
+                    log.error("Unable to decode data. channel: {} message: {}", ctx.channel(), in.toString(0, in.writerIndex(), CharsetUtil.UTF_8), e);
+                    cmd.tryFailure(e);
+                    sendNext(ctx);
+                    throw e;
                 }
-            } catch (Exception e) {
-                log.error("Unable to decode data. channel: {} message: {}", ctx.channel(), in.toString(0, in.writerIndex(), CharsetUtil.UTF_8), e);
-                cmd.tryFailure(e);
-                sendNext(ctx);
-                throw e;
-            }
-        } else if (data instanceof CommandsData) {
-            CommandsData commands = (CommandsData)data;
-            try {
-                decodeCommandBatch(ctx, in, data, commands);
-            } catch (Exception e) {
-                commands.getPromise().tryFailure(e);
-                sendNext(ctx);
-                throw e;
+            } else if (data instanceof CommandsData) {
+                CommandsData commands = (CommandsData)data;
+                try {
+                    decodeCommandBatch(ctx, in, data, commands);
+                } catch (Exception e) {
+                    commands.getPromise().tryFailure(e);
+                    sendNext(ctx);
+                    throw e;
+                }
+                return;
             }
-            return;
+        } finally {
+            // skips rest of reply if it wasn't decoded completely due to error
+            in.readerIndex(replyEndIndex);
         }
         
         sendNext(ctx);
@@ -149,109 +152,127 @@ public class CommandDecoder extends ReplayingDecoder<State> {
         state(null);
     }
 
-    private void decodeFromCheckpoint(ChannelHandlerContext ctx, ByteBuf in, QueueCommand data,
-            CommandData<Object, Object> cmd) throws IOException {
-        if (state().getLevels().size() == 2) {
-            StateLevel secondLevel = state().getLevels().get(1);
-            
-            if (secondLevel.getParts().isEmpty()) {
-                state().getLevels().remove(1);
-            }
+    /*
+     * Walks through reply structure without decoding it and checks 
+     * if the whole reply has been received. Scan progress is stored in State 
+     * so values scanned during previous invocations aren't examined again
+     * and bulk strings content is skipped by length.
+     */
+    private boolean isReplyReady(ByteBuf in) throws IOException {
+        long remaining = state().getReplyRemaining();
+        int offset = state().getReplyOffset();
+        if (remaining == 0) {
+            remaining = 1;
+            offset = 0;
         }
         
-        if (state().getLevels().size() == 2) {
-            StateLevel firstLevel = state().getLevels().get(0);
-            StateLevel secondLevel = state().getLevels().get(1);
-            
-            decodeList(in, cmd, firstLevel.getParts(), ctx.channel(), secondLevel.getSize(), secondLevel.getParts());
+        while (remaining > 0) {
+            int index = in.readerIndex() + offset;
+            int lineEndIndex = in.indexOf(index, in.writerIndex(), (byte) LF);
+            if (lineEndIndex == -1) {
+                break;
+            }
             
-            MultiDecoder<Object> decoder = messageDecoder(cmd, firstLevel.getParts());
-            if (decoder != null) {
-                Object result = decoder.decode(firstLevel.getParts(), state());
-                if (data != null) {
-                    handleResult(cmd, null, result, true, ctx.channel());
+            long nextIndex = lineEndIndex + 1;
+            byte code = in.getByte(index);
+            if (code == '$') {
+                long size = parseLong(in, index + 1, lineEndIndex - 1);
+                if (size >= 0) {
+                    nextIndex += size + 2;
+                    if (nextIndex > in.writerIndex()) {
+                        break;
+                    }
                 }
+            } else if (code == '*') {
+                long size = parseLong(in, index + 1, lineEndIndex - 1);
+                if (size > 0) {
+                    remaining += size;
+                }
+            } else if (code != '+' && code != '-' && code != ':') {
+                // error is thrown during decoding
+                remaining = 1;
+                nextIndex = in.writerIndex();
             }
+            
+            remaining--;
+            offset = (int) nextIndex - in.readerIndex();
         }
-        if (state().getLevels().size() == 1) {
-            StateLevel firstLevel = state().getLevels().get(0);
-            if (firstLevel.getParts().isEmpty() && firstLevel.getLastList() == null) {
-                state().resetLevel();
-                decode(in, cmd, null, ctx.channel());
-            } else {
-                if (firstLevel.getLastList() != null) {
-                    if (firstLevel.getLastList().isEmpty()) {
-                        decode(in, cmd, firstLevel.getParts(), ctx.channel());
-                    } else {
-                        decodeList(in, cmd, firstLevel.getParts(), ctx.channel(), firstLevel.getLastListSize(), firstLevel.getLastList());
-                    }
-                    firstLevel.setLastList(null);
-                    firstLevel.setLastListSize(0);
-                    
-                    while (in.isReadable() && firstLevel.getParts().size() < firstLevel.getSize()) {
-                        decode(in, cmd, firstLevel.getParts(), ctx.channel());
-                    }
-                    decodeList(in, cmd, null, ctx.channel(), 0, firstLevel.getParts());
-                } else {
-                    decodeList(in, cmd, null, ctx.channel(), firstLevel.getSize(), firstLevel.getParts());
-                }
+
+        state().setReplyRemaining(remaining);
+        state().setReplyOffset(offset);
+        return remaining == 0;
+    }
+
+    private static long parseLong(ByteBuf in, int startIndex, int endIndex) throws IOException {
+        long value = 0;
+        int sign = 1;
+        int index = startIndex;
+        if (in.getByte(index) == '-') {
+            sign = -1;
+            index++;
+        }
+        for (; index < endIndex; index++) {
+            int digit = in.getByte(index) - ZERO;
+            if (digit < 0 || digit > 9) {
+                throw new IOException("Invalid character in integer");
             }
+            value = value * 10 + digit;
         }
+        return value * sign;
     }
 
     private void decodeCommandBatch(ChannelHandlerContext ctx, ByteBuf in, QueueCommand data,
                     CommandsData commandBatch) throws Exception {
         int i = state().getBatchIndex();
 
-        Throwable error = null;
-        while (in.writerIndex() > in.readerIndex()) {
-            CommandData<Object, Object> commandData = null;
-            try {
-                checkpoint();
-                state().setBatchIndex(i);
-                RedisCommand<?> cmd = commandBatch.getCommands().get(i).getCommand();
-                if (!commandBatch.isAtomic()
-                        || RedisCommands.EXEC.getName().equals(cmd.getName())
-                        || RedisCommands.WAIT.getName().equals(cmd.getName())) {
-                    commandData = (CommandData<Object, Object>) commandBatch.getCommands().get(i);
-                }
-                
-                decode(in, commandData, null, ctx.channel());
-                
-                if (commandData != null && RedisCommands.EXEC.getName().equals(commandData.getCommand().getName())
-                        && commandData.getPromise().isSuccess()) {
-                    List<Object> objects = (List<Object>) commandData.getPromise().getNow();
-                    Iterator<Object> iter = objects.iterator();
-                    boolean multiFound = false; 
-                    for (CommandData<?, ?> command : commandBatch.getCommands()) {
-                        if (multiFound) {
-                            if (!iter.hasNext()) {
-                                break;
-                            }
-                            Object res = iter.next();
-                            
-                            handleResult((CommandData<Object, Object>) command, null, res, false, ctx.channel());
+        CommandData<Object, Object> commandData = null;
+        try {
+            RedisCommand<?> cmd = commandBatch.getCommands().get(i).getCommand();
+            if (!commandBatch.isAtomic()
+                    || RedisCommands.EXEC.getName().equals(cmd.getName())
+                    || RedisCommands.WAIT.getName().equals(cmd.getName())) {
+                commandData = (CommandData<Object, Object>) commandBatch.getCommands().get(i);
+            }
+            
+            decode(in, commandData, null, ctx.channel());
+            
+            if (commandData != null && RedisCommands.EXEC.getName().equals(commandData.getCommand().getName())
+                    && commandData.getPromise().isSuccess()) {
+                List<Object> objects = (List<Object>) commandData.getPromise().getNow();
+                Iterator<Object> iter = objects.iterator();
+                boolean multiFound = false; 
+                for (CommandData<?, ?> command : commandBatch.getCommands()) {
+                    if (multiFound) {
+                        if (!iter.hasNext()) {
+                            break;
                         }
+                        Object res = iter.next();
                         
-                        if (RedisCommands.MULTI.getName().equals(command.getCommand().getName())) {
-                            multiFound = true;
+                        if (commandData.isReferenceDecoded()) {
+                            command.markReferenceDecoded();
                         }
+                        handleResult((CommandData<Object, Object>) command, null, res, false, ctx.channel());
+                    }
+                    
+                    if (RedisCommands.MULTI.getName().equals(command.getCommand().getName())) {
+                        multiFound = true;
                     }
                 }
-            } catch (Exception e) {
-                if (commandData != null) {
-                    commandData.tryFailure(e);
-                }
-                throw e;
             }
-            i++;
-            if (commandData != null && !commandData.isSuccess()) {
-                error = commandData.cause();
+        } catch (Exception e) {
+            if (commandData != null) {
+                commandData.tryFailure(e);
             }
+            throw e;
+        }
+        i++;
+        if (commandData != null && !commandData.isSuccess()) {
+            state().setBatchError(commandData.cause());
         }
 
         if (commandBatch.isSkipResult() || i == commandBatch.getCommands().size()) {
             RPromise<Void> promise = commandBatch.getPromise();
+            Throwable error = state().getBatchError();
             if (error != null) {
                 if (!promise.tryFailure(error) && promise.cause() instanceof RedisTimeoutException) {
                     log.warn("response has been skipped due to timeout! channel: {}, command: {}",ctx.channel(), LogHelper.toString(data));
@@ -264,7 +285,6 @@ public class CommandDecoder extends ReplayingDecoder<State> {
             
             sendNext(ctx);
         } else {
-            checkpoint();
             state().setBatchIndex(i);
         }
     }
@@ -328,37 +348,15 @@ public class CommandDecoder extends ReplayingDecoder<State> {
             if (buf != null) {
                 Decoder<Object> decoder = selectDecoder(data, parts);
                 result = decoder.decode(buf, state());
+                if (data != null && isReference(result)) {
+                    data.markReferenceDecoded();
+                }
             }
             handleResult(data, parts, result, false, channel);
         } else if (code == '*') {
             long size = readLong(in);
-            List<Object> respParts;
-            
-            StateLevel lastLevel = state().getLastLevel();
-            if (lastLevel != null && lastLevel.getSize() != lastLevel.getParts().size()) {
-                respParts = new ArrayList<Object>();
-                lastLevel.setLastListSize(size);
-                lastLevel.setLastList(respParts);
-            } else {
-                int level = state().incLevel();
-                if (state().getLevels().size()-1 >= level) {
-                    StateLevel stateLevel = state().getLevels().get(level);
-                    respParts = stateLevel.getParts();
-                    size = stateLevel.getSize();
-                } else {
-                    respParts = new ArrayList<Object>();
-                    if (state().isMakeCheckpoint()) {
-                        state().addLevel(new StateLevel(size, respParts));
-                    }
-                }
-            }
-            
+            List<Object> respParts = new ArrayList<Object>();
             decodeList(in, data, parts, channel, size, respParts);
-            
-            if (lastLevel != null && lastLevel.getLastList() != null) {
-                lastLevel.setLastList(null);
-                lastLevel.setLastListSize(0);
-            }
         } else {
             String dataStr = in.toString(0, in.writerIndex(), CharsetUtil.UTF_8);
             throw new IllegalStateException("Can't decode replay: " + dataStr);
@@ -370,9 +368,6 @@ public class CommandDecoder extends ReplayingDecoder<State> {
                     throws IOException {
         for (int i = respParts.size(); i < size; i++) {
             decode(in, data, respParts, channel);
-            if (state().isMakeCheckpoint()) {
-                checkpoint();
-            }
         }
 
         MultiDecoder<Object> decoder = messageDecoder(data, respParts);
@@ -408,6 +403,18 @@ public class CommandDecoder extends ReplayingDecoder<State> {
         }
     }
 
+    /*
+     * Replies are checked for references right after decoding, 
+     * so only replies which contain them need to be post-processed
+     */
+    private boolean isReference(Object result) {
+        if (result instanceof RedissonReference) {
+            return true;
+        }
+        return result instanceof ScanObjectEntry 
+                && ((ScanObjectEntry) result).getObj() instanceof RedissonReference;
+    }
+
     protected MultiDecoder<Object> messageDecoder(CommandData<Object, Object> data, List<Object> parts) {
         if (data == null) {
             if (parts.isEmpty()) {
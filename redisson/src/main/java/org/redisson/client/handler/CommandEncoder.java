@@ -61,6 +61,18 @@ public class CommandEncoder extends MessageToByteEncoder<CommandData<?, ?>> {
     private static final char BYTES_PREFIX = '$';
     private static final byte[] CRLF = "\r\n".getBytes();
 
+    private static final int CACHED_HEADERS_SIZE = 1024;
+    private static final byte[][] ARGS_HEADERS = createHeaders(ARGS_PREFIX);
+    private static final byte[][] BYTES_HEADERS = createHeaders(BYTES_PREFIX);
+
+    private static byte[][] createHeaders(char prefix) {
+        byte[][] headers = new byte[CACHED_HEADERS_SIZE][];
+        for (int i = 0; i < headers.length; i++) {
+            headers[i] = (prefix + Integer.toString(i) + "\r\n").getBytes(CharsetUtil.US_ASCII);
+        }
+        return headers;
+    }
+
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
         if (acceptOutboundMessage(msg)) {
@@ -80,25 +92,15 @@ public class CommandEncoder extends MessageToByteEncoder<CommandData<?, ?>> {
     @Override
     protected void encode(ChannelHandlerContext ctx, CommandData<?, ?> msg, ByteBuf out) throws Exception {
         try {
-            out.writeByte(ARGS_PREFIX);
             int len = 1 + msg.getParams().length;
             if (msg.getCommand().getSubName() != null) {
                 len++;
             }
-            out.writeCharSequence(Long.toString(len), CharsetUtil.US_ASCII);
-            out.writeBytes(CRLF);
-            
-            writeArgument(out, msg.getCommand().getName().getBytes(CharsetUtil.UTF_8));
-            if (msg.getCommand().getSubName() != null) {
-                writeArgument(out, msg.getCommand().getSubName().getBytes(CharsetUtil.UTF_8));
-            }
+            writeHeader(out, ARGS_PREFIX, ARGS_HEADERS, len);
+            out.writeBytes(msg.getCommand().getEncodedName());
 
             for (Object param : msg.getParams()) {
-                ByteBuf buf = encode(param);
-                writeArgument(out, buf);
-                if (!(param instanceof ByteBuf)) {
-                    buf.release();
-                }
+                writeArgument(out, param);
             }
             
             if (log.isTraceEnabled()) {
@@ -110,37 +112,115 @@ public class CommandEncoder extends MessageToByteEncoder<CommandData<?, ?>> {
         }
     }
 
-    private ByteBuf encode(Object in) {
-        if (in instanceof byte[]) {
-            byte[] payload = (byte[])in;
-            ByteBuf out = ByteBufAllocator.DEFAULT.buffer(payload.length);
+    private void writeArgument(ByteBuf out, Object param) {
+        if (param instanceof byte[]) {
+            byte[] payload = (byte[]) param;
+            writeHeader(out, BYTES_PREFIX, BYTES_HEADERS, payload.length);
             out.writeBytes(payload);
-            return out;
+            out.writeBytes(CRLF);
+            return;
         }
-        if (in instanceof ByteBuf) {
-            return (ByteBuf) in;
+        if (param instanceof ByteBuf) {
+            ByteBuf payload = (ByteBuf) param;
+            writeHeader(out, BYTES_PREFIX, BYTES_HEADERS, payload.readableBytes());
+            out.writeBytes(payload, payload.readerIndex(), payload.readableBytes());
+            out.writeBytes(CRLF);
+            return;
+        }
+        if (param instanceof Long || param instanceof Integer 
+                || param instanceof Short || param instanceof Byte) {
+            long value = ((Number) param).longValue();
+            if (value != Long.MIN_VALUE) {
+                writeHeader(out, BYTES_PREFIX, BYTES_HEADERS, decimalLength(value));
+                writeDecimal(out, value);
+                out.writeBytes(CRLF);
+                return;
+            }
+        }
+        
+        CharSequence payload;
+        if (param instanceof CharSequence) {
+            payload = (CharSequence) param;
+        } else {
+            payload = param.toString();
+        }
+        
+        int length = utf8Length(payload);
+        if (length != -1) {
+            writeHeader(out, BYTES_PREFIX, BYTES_HEADERS, length);
+            ByteBufUtil.writeUtf8(out, payload);
+            out.writeBytes(CRLF);
+            return;
         }
 
-        String payload = in.toString();
+        // surrogate pairs are encoded by Netty
         ByteBuf buf = ByteBufAllocator.DEFAULT.buffer(ByteBufUtil.utf8MaxBytes(payload));
-        ByteBufUtil.writeUtf8(buf, payload);
-        return buf;
+        try {
+            ByteBufUtil.writeUtf8(buf, payload);
+            writeArgument(out, buf);
+        } finally {
+            buf.release();
+        }
     }
-    
-    private void writeArgument(ByteBuf out, byte[] arg) {
-        out.writeByte(BYTES_PREFIX);
-        out.writeCharSequence(Long.toString(arg.length), CharsetUtil.US_ASCII);
-        out.writeBytes(CRLF);
-        out.writeBytes(arg);
-        out.writeBytes(CRLF);
+
+    /*
+     * Returns -1 if sequence contains surrogate chars
+     */
+    private static int utf8Length(CharSequence seq) {
+        int length = 0;
+        for (int i = 0; i < seq.length(); i++) {
+            char c = seq.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) || Character.isLowSurrogate(c)) {
+                return -1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
     }
-    
-    private void writeArgument(ByteBuf out, ByteBuf arg) {
-        out.writeByte(BYTES_PREFIX);
-        out.writeCharSequence(Long.toString(arg.readableBytes()), CharsetUtil.US_ASCII);
-        out.writeBytes(CRLF);
-        out.writeBytes(arg, arg.readerIndex(), arg.readableBytes());
+
+    private static void writeHeader(ByteBuf out, char prefix, byte[][] headers, long len) {
+        if (len < headers.length) {
+            out.writeBytes(headers[(int) len]);
+            return;
+        }
+        
+        out.writeByte(prefix);
+        writeDecimal(out, len);
         out.writeBytes(CRLF);
     }
 
+    private static int decimalLength(long value) {
+        int length = 1;
+        if (value < 0) {
+            length++;
+            value = -value;
+        }
+        while (value >= 10) {
+            value /= 10;
+            length++;
+        }
+        return length;
+    }
+
+    private static void writeDecimal(ByteBuf out, long value) {
+        int length = decimalLength(value);
+        out.ensureWritable(length);
+        int startIndex = out.writerIndex();
+        if (value < 0) {
+            out.setByte(startIndex, '-');
+            value = -value;
+        }
+        int index = startIndex + length;
+        do {
+            out.setByte(--index, (int) ('0' + value % 10));
+            value /= 10;
+        } while (value > 0);
+        out.writerIndex(startIndex + length);
+    }
+
 }
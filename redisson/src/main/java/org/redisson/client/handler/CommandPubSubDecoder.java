@@ -66,8 +66,6 @@ public class CommandPubSubDecoder extends CommandDecoder {
         super.decodeResult(data, parts, channel, result);
         
         if (result instanceof Message) {
-            checkpoint();
-
             final RedisPubSubConnection pubSubConnection = RedisPubSubConnection.getFrom(channel);
             String channelName = ((Message) result).getChannel();
             if (result instanceof PubSubStatusMessage) {
@@ -16,10 +16,13 @@
 package org.redisson.client.handler;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.regex.Pattern;
 
+import org.redisson.client.RedisConnectionException;
 import org.redisson.client.WriteRedisConnectionException;
 import org.redisson.client.protocol.CommandData;
 import org.redisson.client.protocol.QueueCommand;
@@ -37,7 +40,9 @@ import io.netty.util.AttributeKey;
 import io.netty.util.internal.PlatformDependent;
 
 /**
- *
+ * Keeps commands written to the channel in FIFO order.
+ * Up to <code>pipeliningLimit</code> commands could be sent
+ * before the response to the first of them is received.
  *
  * @author Nikita Koksharov
  *
@@ -52,24 +57,66 @@ public class CommandsQueue extends ChannelDuplexHandler {
     public static final AttributeKey<QueueCommand> CURRENT_COMMAND = AttributeKey.valueOf("promise");
 
     private final Queue<QueueCommandHolder> queue = PlatformDependent.newMpscQueue();
+    
+    // accessed from event loop only
+    private final Queue<QueueCommandHolder> sentQueue = new ArrayDeque<QueueCommandHolder>();
+    
+    private final int pipeliningLimit;
 
     private final ChannelFutureListener listener = new ChannelFutureListener() {
         @Override
         public void operationComplete(ChannelFuture future) throws Exception {
             if (!future.isSuccess() && future.channel().isActive()) {
-                sendNextCommand(future.channel());
+                removeSentCommand(future);
+                sendData(future.channel());
             }
         }
     };
 
+    public CommandsQueue() {
+        this(1);
+    }
+    
+    public CommandsQueue(int pipeliningLimit) {
+        if (pipeliningLimit < 1) {
+            throw new IllegalArgumentException("pipeliningLimit should be greater than 0");
+        }
+        this.pipeliningLimit = pipeliningLimit;
+    }
+    
     public void sendNextCommand(Channel channel) {
-        channel.attr(CommandsQueue.CURRENT_COMMAND).set(null);
-        queue.poll();
+        sentQueue.poll();
         sendData(channel);
     }
+    
+    private void removeSentCommand(ChannelFuture future) {
+        for (Iterator<QueueCommandHolder> iterator = sentQueue.iterator(); iterator.hasNext();) {
+            QueueCommandHolder holder = iterator.next();
+            if (holder.getChannelPromise() == future) {
+                iterator.remove();
+                break;
+            }
+        }
+    }
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        // current command is sent again by ConnectionWatchdog after reconnection,
+        // other pipelined commands won't receive response
+        QueueCommand current = ctx.channel().attr(CURRENT_COMMAND).get();
+        while (true) {
+            QueueCommandHolder command = sentQueue.poll();
+            if (command == null) {
+                break;
+            }
+            if (command.getCommand() == current) {
+                continue;
+            }
+            
+            command.getCommand().tryFailure(
+                    new RedisConnectionException("Connection closed before response received. Command: " + command.getCommand() + " channel: " + ctx.channel()));
+        }
+        
         while (true) {
             QueueCommandHolder command = queue.poll();
             if (command == null) {
@@ -100,8 +147,13 @@ public class CommandsQueue extends ChannelDuplexHandler {
     }
 
     private void sendData(Channel ch) {
-        QueueCommandHolder command = queue.peek();
-        if (command != null && command.trySend()) {
+        while (sentQueue.size() < pipeliningLimit) {
+            QueueCommandHolder command = queue.peek();
+            if (command == null || !command.trySend()) {
+                break;
+            }
+            
+            sentQueue.add(command);
             QueueCommand data = command.getCommand();
             List<CommandData<Object, Object>> pubSubOps = data.getPubSubOperations();
             if (!pubSubOps.isEmpty()) {
@@ -110,13 +162,27 @@ public class CommandsQueue extends ChannelDuplexHandler {
                         ch.pipeline().get(CommandPubSubDecoder.class).addPubSubCommand(channel.toString(), cd);
                     }
                 }
-            } else {
-                ch.attr(CURRENT_COMMAND).set(data);
             }
 
             command.getChannelPromise().addListener(listener);
             ch.writeAndFlush(data, command.getChannelPromise());
+            queue.poll();
+        }
+        
+        updateCurrentCommand(ch);
+    }
+
+    /*
+     * Responses are matched with sent commands in FIFO order,
+     * so decoder always handles response of the oldest sent command.
+     */
+    private void updateCurrentCommand(Channel ch) {
+        QueueCommandHolder holder = sentQueue.peek();
+        QueueCommand current = null;
+        if (holder != null && holder.getCommand().getPubSubOperations().isEmpty()) {
+            current = holder.getCommand();
         }
+        ch.attr(CURRENT_COMMAND).set(current);
     }
 
     @Override
@@ -86,11 +86,16 @@ public class RedisChannelInitializer extends ChannelInitializer<Channel> {
             ch.pipeline().addLast(new RedisPubSubConnectionHandler(redisClient));
         }
         
+        int pipeliningLimit = 1;
+        if (type == Type.PLAIN) {
+            pipeliningLimit = config.getPipeliningLimit();
+        }
+        
         ch.pipeline().addLast(
             connectionWatchdog,
             CommandEncoder.INSTANCE,
             CommandBatchEncoder.INSTANCE,
-            new CommandsQueue());
+            new CommandsQueue(pipeliningLimit));
         
         if (pingConnectionHandler != null) {
             ch.pipeline().addLast(pingConnectionHandler);
@@ -15,58 +15,68 @@
  */
 package org.redisson.client.handler;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
 import org.redisson.client.protocol.decoder.DecoderState;
 
 public class State {
 
     private int batchIndex;
+    private Throwable batchError;
     private DecoderState decoderState;
 
-    private int level = -1;
-    private List<StateLevel> levels;
-    private final boolean makeCheckpoint;
+    private long replyRemaining;
+    private int replyOffset;
+
+    public State() {
+    }
 
+    /**
+     * Use {@link #State()} instead. 
+     * Checkpoints aren't made since reply is decoded only once it's received completely.
+     * 
+     * @param makeCheckpoint - ignored
+     */
+    @Deprecated
     public State(boolean makeCheckpoint) {
-        this.makeCheckpoint = makeCheckpoint;
     }
 
+    /**
+     * Checkpoints aren't made since reply is decoded only once it's received completely.
+     * 
+     * @return <code>false</code>
+     */
+    @Deprecated
     public boolean isMakeCheckpoint() {
-        return makeCheckpoint;
+        return false;
     }
 
-    public void resetLevel() {
-        level = -1;
-        levels.clear();
+    /**
+     * Amount of values left to receive until the whole reply is available.
+     * Nested arrays add their size to this amount.
+     * 
+     * @return values amount
+     */
+    public long getReplyRemaining() {
+        return replyRemaining;
     }
-    public int decLevel() {
-        return --level;
+    public void setReplyRemaining(long replyRemaining) {
+        this.replyRemaining = replyRemaining;
     }
-    public int incLevel() {
-        return ++level;
-    }
-    
-    public StateLevel getLastLevel() {
-        if (levels == null || levels.isEmpty()) {
-            return null;
-        }
-        return levels.get(level);
+
+    /**
+     * Amount of reply bytes already scanned starting from reader index.
+     * 
+     * @return bytes amount
+     */
+    public int getReplyOffset() {
+        return replyOffset;
     }
-    
-    public void addLevel(StateLevel stateLevel) {
-        if (levels == null) {
-            levels = new ArrayList<StateLevel>(2);
-        }
-        levels.add(stateLevel);
+    public void setReplyOffset(int replyOffset) {
+        this.replyOffset = replyOffset;
     }
-    public List<StateLevel> getLevels() {
-        if (levels == null) {
-            return Collections.emptyList();
-        }
-        return levels;
+
+    public void resetReply() {
+        replyRemaining = 0;
+        replyOffset = 0;
     }
 
     public void setBatchIndex(int index) {
@@ -76,6 +86,13 @@ public class State {
         return batchIndex;
     }
 
+    public void setBatchError(Throwable batchError) {
+        this.batchError = batchError;
+    }
+    public Throwable getBatchError() {
+        return batchError;
+    }
+
     public <T extends DecoderState> T getDecoderState() {
         return (T) decoderState;
     }
@@ -85,10 +102,8 @@ public class State {
 
     @Override
     public String toString() {
-        return "State [batchIndex=" + batchIndex + ", decoderState=" + decoderState + ", level=" + level + ", levels="
-                + levels + "]";
+        return "State [batchIndex=" + batchIndex + ", decoderState=" + decoderState + ", replyRemaining=" + replyRemaining
+                + ", replyOffset=" + replyOffset + "]";
     }
 
-    
-    
 }
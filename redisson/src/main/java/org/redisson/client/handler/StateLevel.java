@@ -1,60 +0,0 @@
-/**
- * Copyright 2018 Nikita Koksharov
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *    http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package org.redisson.client.handler;
-
-import java.util.List;
-
-public class StateLevel {
-
-    private long size;
-    private List<Object> parts;
-    private long lastListSize;
-    private List<Object> lastList;
-
-    public StateLevel(long size, List<Object> parts) {
-        super();
-        this.size = size;
-        this.parts = parts;
-    }
-
-    public long getLastListSize() {
-        return lastListSize;
-    }
-    public void setLastListSize(long lastListSize) {
-        this.lastListSize = lastListSize;
-    }
-
-    public List<Object> getLastList() {
-        return lastList;
-    }
-    public void setLastList(List<Object> lastList) {
-        this.lastList = lastList;
-    }
-
-    public long getSize() {
-        return size;
-    }
-
-    public List<Object> getParts() {
-        return parts;
-    }
-
-    @Override
-    public String toString() {
-        return "StateLevel [size=" + size + ", parts=" + parts + "]";
-    }
-    
-}
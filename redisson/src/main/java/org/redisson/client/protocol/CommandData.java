@@ -37,6 +37,7 @@ public class CommandData<T, R> implements QueueCommand {
     final Object[] params;
     final Codec codec;
     final MultiDecoder<Object> messageDecoder;
+    private boolean referenceDecoded;
 
     public CommandData(RPromise<R> promise, Codec codec, RedisCommand<T> command, Object[] params) {
         this(promise, null, codec, command, params);
@@ -82,6 +83,18 @@ public class CommandData<T, R> implements QueueCommand {
         return codec;
     }
 
+    /**
+     * Marks that reply contains at least one {@link org.redisson.RedissonReference}.
+     * Invoked during reply decoding, before promise is completed.
+     */
+    public void markReferenceDecoded() {
+        referenceDecoded = true;
+    }
+    
+    public boolean isReferenceDecoded() {
+        return referenceDecoded;
+    }
+
     @Override
     public String toString() {
         return "CommandData [promise=" + promise + ", command=" + command + ", params="
@@ -19,6 +19,8 @@ import org.redisson.client.protocol.convertor.Convertor;
 import org.redisson.client.protocol.convertor.EmptyConvertor;
 import org.redisson.client.protocol.decoder.MultiDecoder;
 
+import io.netty.util.CharsetUtil;
+
 /**
  * 
  * @author Nikita Koksharov
@@ -33,6 +35,7 @@ public class RedisCommand<R> {
 
     private final String name;
     private final String subName;
+    private final byte[] encodedName;
 
     private MultiDecoder<R> replayMultiDecoder;
     private Decoder<R> replayDecoder;
@@ -48,6 +51,7 @@ public class RedisCommand<R> {
         this.outParamType = command.outParamType;
         this.name = name;
         this.subName = command.subName;
+        this.encodedName = encodeName(name, subName);
         this.replayMultiDecoder = command.replayMultiDecoder;
         this.replayDecoder = command.replayDecoder;
         this.convertor = command.convertor;
@@ -102,10 +106,25 @@ public class RedisCommand<R> {
         super();
         this.name = name;
         this.subName = subName;
+        this.encodedName = encodeName(name, subName);
         this.replayMultiDecoder = replayMultiDecoder;
         this.replayDecoder = reponseDecoder;
     }
 
+    private static byte[] encodeName(String name, String subName) {
+        StringBuilder result = new StringBuilder();
+        appendArgument(result, name);
+        if (subName != null) {
+            appendArgument(result, subName);
+        }
+        return result.toString().getBytes(CharsetUtil.UTF_8);
+    }
+
+    private static void appendArgument(StringBuilder result, String arg) {
+        result.append('$').append(arg.getBytes(CharsetUtil.UTF_8).length).append("\r\n")
+                .append(arg).append("\r\n");
+    }
+
     public String getSubName() {
         return subName;
     }
@@ -114,6 +133,15 @@ public class RedisCommand<R> {
         return name;
     }
 
+    /**
+     * Command name and sub name encoded as Redis protocol bulk strings
+     * 
+     * @return encoded bytes
+     */
+    public byte[] getEncodedName() {
+        return encodedName;
+    }
+
     public Decoder<R> getReplayDecoder() {
         return replayDecoder;
     }
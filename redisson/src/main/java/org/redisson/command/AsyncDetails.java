@@ -21,6 +21,7 @@ import org.redisson.api.RFuture;
 import org.redisson.client.RedisConnection;
 import org.redisson.client.RedisException;
 import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.CommandData;
 import org.redisson.client.protocol.RedisCommand;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.NodeSource;
@@ -53,6 +54,14 @@ public class AsyncDetails<V, R> {
 
     private volatile Timeout timeout;
 
+    private volatile long startTime;
+    
+    private volatile long connectionTime;
+    
+    private volatile long writeTime;
+    
+    private volatile CommandData<V, R> commandData;
+
     public AsyncDetails() {
     }
 
@@ -109,6 +118,34 @@ public class AsyncDetails<V, R> {
         this.timeout = timeout;
     }
 
+    public long getStartTime() {
+        return startTime;
+    }
+    public void setStartTime(long startTime) {
+        this.startTime = startTime;
+    }
+    
+    public long getConnectionTime() {
+        return connectionTime;
+    }
+    public void setConnectionTime(long connectionTime) {
+        this.connectionTime = connectionTime;
+    }
+    
+    public long getWriteTime() {
+        return writeTime;
+    }
+    public void setWriteTime(long writeTime) {
+        this.writeTime = writeTime;
+    }
+    
+    public CommandData<V, R> getCommandData() {
+        return commandData;
+    }
+    public void setCommandData(CommandData<V, R> commandData) {
+        this.commandData = commandData;
+    }
+
     public RFuture<RedisConnection> getConnectionFuture() {
         return connectionFuture;
     }
@@ -0,0 +1,170 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.command;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RFuture;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.BatchCommandData;
+import org.redisson.client.protocol.RedisCommand;
+import org.redisson.connection.ConnectionManager;
+import org.redisson.connection.MasterSlaveEntry;
+import org.redisson.connection.NodeSource;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Collects independent commands addressed to the same {@link MasterSlaveEntry}
+ * and sends them as single batch once <code>autoBatchingSize</code> commands
+ * have been collected or <code>autoBatchingInterval</code> has passed.
+ * Result of each command is delivered to its own promise.
+ *
+ * @author Nikita Koksharov
+ *
+ */
+public class AutoBatchingQueue {
+
+    class Batch implements Runnable {
+
+        private final ConcurrentMap<MasterSlaveEntry, Batch> batches;
+        private final MasterSlaveEntry entry;
+        private final CommandBatchService service;
+        private final List<RPromise<?>> promises = new ArrayList<RPromise<?>>();
+        private boolean flushed;
+
+        Batch(ConcurrentMap<MasterSlaveEntry, Batch> batches, MasterSlaveEntry entry) {
+            this.batches = batches;
+            this.entry = entry;
+            this.service = createService();
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (flushed) {
+                    return;
+                }
+                flushed = true;
+            }
+            batches.remove(entry, this);
+
+            RFuture<?> future = service.executeAsync();
+            future.addListener(new FutureListener<Object>() {
+                @Override
+                public void operationComplete(Future<Object> future) throws Exception {
+                    if (future.isSuccess()) {
+                        return;
+                    }
+
+                    for (RPromise<?> promise : promises) {
+                        promise.tryFailure(future.cause());
+                    }
+                }
+            });
+        }
+
+    }
+
+    private final ConcurrentMap<MasterSlaveEntry, Batch> readBatches = PlatformDependent.newConcurrentHashMap();
+    private final ConcurrentMap<MasterSlaveEntry, Batch> writeBatches = PlatformDependent.newConcurrentHashMap();
+
+    private final ConnectionManager connectionManager;
+    private final CommandAsyncService executor;
+
+    public AutoBatchingQueue(ConnectionManager connectionManager, CommandAsyncService executor) {
+        this.connectionManager = connectionManager;
+        this.executor = executor;
+    }
+
+    private CommandBatchService createService() {
+        CommandBatchService service = new CommandBatchService(connectionManager);
+        if (executor.redisson != null) {
+            service.enableRedissonReferenceSupport(executor.redisson);
+        } else if (executor.redissonReactive != null) {
+            service.enableRedissonReferenceSupport(executor.redissonReactive);
+        }
+        return service;
+    }
+
+    public <V, R> void add(boolean readOnlyMode, MasterSlaveEntry entry, Codec codec,
+            RedisCommand<V> command, Object[] params, final RPromise<R> mainPromise) {
+        ConcurrentMap<MasterSlaveEntry, Batch> batches = writeBatches;
+        if (readOnlyMode) {
+            batches = readBatches;
+        }
+
+        RPromise<R> commandPromise = new RedissonPromise<R>();
+
+        while (true) {
+            Batch batch = batches.get(entry);
+            if (batch == null) {
+                batch = new Batch(batches, entry);
+                Batch oldBatch = batches.putIfAbsent(entry, batch);
+                if (oldBatch != null) {
+                    batch = oldBatch;
+                } else {
+                    connectionManager.getGroup().schedule(batch,
+                            connectionManager.getConfig().getAutoBatchingInterval(), TimeUnit.MICROSECONDS);
+                }
+            }
+
+            boolean flush;
+            synchronized (batch) {
+                if (batch.flushed) {
+                    batches.remove(entry, batch);
+                    continue;
+                }
+
+                BatchCommandData<V, R> commandData = batch.service.add(readOnlyMode, new NodeSource(entry), codec, command, params, commandPromise);
+                transferResult(commandData, mainPromise);
+                batch.promises.add(commandPromise);
+                flush = batch.promises.size() >= connectionManager.getConfig().getAutoBatchingSize();
+            }
+
+            if (flush) {
+                batch.run();
+            }
+            return;
+        }
+    }
+
+    private <V, R> void transferResult(final BatchCommandData<V, R> commandData, final RPromise<R> mainPromise) {
+        commandData.getPromise().addListener(new FutureListener<R>() {
+            @Override
+            public void operationComplete(Future<R> future) throws Exception {
+                if (!future.isSuccess()) {
+                    mainPromise.tryFailure(future.cause());
+                    return;
+                }
+
+                if (executor.isRedissonReferenceSupportEnabled() && commandData.isReferenceDecoded()) {
+                    executor.handleReference(mainPromise, future.getNow());
+                } else {
+                    mainPromise.trySuccess(future.getNow());
+                }
+            }
+        });
+    }
+
+}
@@ -15,6 +15,7 @@
  */
 package org.redisson.command;
 
+import java.net.InetSocketAddress;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -55,11 +56,15 @@ import org.redisson.client.protocol.ScoredEntry;
 import org.redisson.client.protocol.decoder.ListScanResult;
 import org.redisson.client.protocol.decoder.MapScanResult;
 import org.redisson.client.protocol.decoder.ScanObjectEntry;
+import org.redisson.config.Config;
 import org.redisson.config.MasterSlaveServersConfig;
+import org.redisson.config.ReadMode;
+import org.redisson.connection.ClientConnectionsEntry;
 import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.connection.NodeSource;
 import org.redisson.connection.NodeSource.Redirect;
+import org.redisson.metrics.CommandMetrics;
 import org.redisson.misc.LogHelper;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonObjectFactory;
@@ -88,6 +93,7 @@ public class CommandAsyncService implements CommandAsyncExecutor {
     final ConnectionManager connectionManager;
     protected RedissonClient redisson;
     protected RedissonReactiveClient redissonReactive;
+    private volatile AutoBatchingQueue autoBatchingQueue;
 
     public CommandAsyncService(ConnectionManager connectionManager) {
         this.connectionManager = connectionManager;
@@ -120,6 +126,25 @@ public class CommandAsyncService implements CommandAsyncExecutor {
     public boolean isRedissonReferenceSupportEnabled() {
         return redisson != null || redissonReactive != null;
     }
+    
+    protected CommandMetrics getCommandMetrics() {
+        Config cfg = connectionManager.getCfg();
+        if (cfg == null) {
+            return null;
+        }
+        return cfg.getCommandMetrics();
+    }
+    
+    protected InetSocketAddress getAddress(AsyncDetails<?, ?> details) {
+        return getAddress(details.getConnectionFuture());
+    }
+    
+    protected InetSocketAddress getAddress(RFuture<RedisConnection> connectionFuture) {
+        if (connectionFuture != null && connectionFuture.isSuccess()) {
+            return connectionFuture.getNow().getRedisClient().getAddr();
+        }
+        return null;
+    }
 
     @Override
     public void syncSubscription(RFuture<?> future) {
@@ -475,6 +500,18 @@ public class CommandAsyncService implements CommandAsyncExecutor {
             return;
         }
 
+        if (isAutoBatchingAllowed(source, command, attempt, ignoreRedirect)) {
+            // shutdown waits for queued commands
+            mainPromise.addListener(new FutureListener<R>() {
+                @Override
+                public void operationComplete(Future<R> future) throws Exception {
+                    connectionManager.getShutdownLatch().release();
+                }
+            });
+            getAutoBatchingQueue().add(readOnlyMode, source.getEntry(), codec, command, params, mainPromise);
+            return;
+        }
+
         final AsyncDetails<V, R> details = AsyncDetails.acquire();
         if (isRedissonReferenceSupportEnabled()) {
             try {
@@ -502,6 +539,11 @@ public class CommandAsyncService implements CommandAsyncExecutor {
         final RPromise<R> attemptPromise = new RedissonPromise<R>();
         details.init(connectionFuture, attemptPromise,
                 readOnlyMode, source, codec, command, params, mainPromise, attempt);
+        
+        final CommandMetrics metrics = getCommandMetrics();
+        if (metrics != null) {
+            details.setStartTime(System.nanoTime());
+        }
 
         FutureListener<R> mainPromiseListener = new FutureListener<R>() {
             @Override
@@ -585,6 +627,9 @@ public class CommandAsyncService implements CommandAsyncExecutor {
                     log.debug("attempt {} for command {} and params {}",
                             count, details.getCommand(), Arrays.toString(details.getParams()));
                 }
+                if (metrics != null) {
+                    metrics.onRetry(command.getName(), getAddress(details));
+                }
                 details.removeMainPromiseListener();
                 async(details.isReadOnlyMode(), details.getSource(), details.getCodec(), details.getCommand(), details.getParams(), details.getMainPromise(), count, ignoreRedirect);
                 AsyncDetails.release(details);
@@ -615,11 +660,22 @@ public class CommandAsyncService implements CommandAsyncExecutor {
                 }
 
                 final RedisConnection connection = connFuture.getNow();
+                if (metrics != null) {
+                    long currentTime = System.nanoTime();
+                    details.setConnectionTime(currentTime);
+                    metrics.onConnectionAcquired(command.getName(), connection.getRedisClient().getAddr(), currentTime - details.getStartTime());
+                }
+                if (details.isReadOnlyMode()) {
+                    trackRequest(source, connection, details.getAttemptPromise());
+                }
+                
                 if (details.getSource().getRedirect() == Redirect.ASK) {
                     List<CommandData<?, ?>> list = new ArrayList<CommandData<?, ?>>(2);
                     RPromise<Void> promise = new RedissonPromise<Void>();
                     list.add(new CommandData<Void, Void>(promise, details.getCodec(), RedisCommands.ASKING, new Object[]{}));
-                    list.add(new CommandData<V, R>(details.getAttemptPromise(), details.getCodec(), details.getCommand(), details.getParams()));
+                    CommandData<V, R> commandData = new CommandData<V, R>(details.getAttemptPromise(), details.getCodec(), details.getCommand(), details.getParams());
+                    details.setCommandData(commandData);
+                    list.add(commandData);
                     RPromise<Void> main = new RedissonPromise<Void>();
                     ChannelFuture future = connection.send(new CommandsData(main, list));
                     details.setWriteFuture(future);
@@ -628,7 +684,9 @@ public class CommandAsyncService implements CommandAsyncExecutor {
                         log.debug("acquired connection for command {} and params {} from slot {} using node {}... {}",
                                 details.getCommand(), Arrays.toString(details.getParams()), details.getSource(), connection.getRedisClient().getAddr(), connection);
                     }
-                    ChannelFuture future = connection.send(new CommandData<V, R>(details.getAttemptPromise(), details.getCodec(), details.getCommand(), details.getParams()));
+                    CommandData<V, R> commandData = new CommandData<V, R>(details.getAttemptPromise(), details.getCodec(), details.getCommand(), details.getParams());
+                    details.setCommandData(commandData);
+                    ChannelFuture future = connection.send(commandData);
                     details.setWriteFuture(future);
                 }
 
@@ -639,7 +697,12 @@ public class CommandAsyncService implements CommandAsyncExecutor {
                     }
                 });
 
-                releaseConnection(source, connectionFuture, details.isReadOnlyMode(), details.getAttemptPromise(), details);
+                if (connectionManager.getConfig().getPipeliningLimit() > 1
+                        && !RedisCommands.BLOCKING_COMMANDS.contains(details.getCommand().getName())) {
+                    releasePipelinedConnection(source, connectionFuture, details.isReadOnlyMode(), details.getAttemptPromise(), details);
+                } else {
+                    releaseConnection(source, connectionFuture, details.isReadOnlyMode(), details.getAttemptPromise(), details);
+                }
             }
         });
 
@@ -682,6 +745,13 @@ public class CommandAsyncService implements CommandAsyncExecutor {
         }
 
         details.getTimeout().cancel();
+        
+        CommandMetrics metrics = getCommandMetrics();
+        if (metrics != null) {
+            long currentTime = System.nanoTime();
+            details.setWriteTime(currentTime);
+            metrics.onCommandWritten(details.getCommand().getName(), connection.getRedisClient().getAddr(), currentTime - details.getConnectionTime());
+        }
 
         long timeoutTime = connectionManager.getConfig().getTimeout();
         if (RedisCommands.BLOCKING_COMMANDS.contains(details.getCommand().getName())) {
@@ -776,6 +846,40 @@ public class CommandAsyncService implements CommandAsyncExecutor {
         }
     }
 
+    /*
+     * Feeds pending requests and response time of node 
+     * used by load balancer to choose node for read operations
+     */
+    private <R> void trackRequest(NodeSource source, RedisConnection connection, RPromise<R> attemptPromise) {
+        if (connectionManager.getConfig().getReadMode() == ReadMode.MASTER) {
+            return;
+        }
+        
+        MasterSlaveEntry entry = source.getEntry();
+        if (entry == null && source.getSlot() != null) {
+            entry = connectionManager.getEntry(source.getSlot());
+        }
+        if (entry == null) {
+            entry = connectionManager.getEntry(connection.getRedisClient());
+        }
+        if (entry == null) {
+            return;
+        }
+        
+        final ClientConnectionsEntry clientEntry = entry.getSlaveEntry(connection.getRedisClient());
+        if (clientEntry == null) {
+            return;
+        }
+        
+        final long startTime = clientEntry.onRequestStart();
+        attemptPromise.addListener(new FutureListener<R>() {
+            @Override
+            public void operationComplete(Future<R> future) throws Exception {
+                clientEntry.onRequestComplete(startTime);
+            }
+        });
+    }
+    
     protected <V, R> void releaseConnection(final NodeSource source, final RFuture<RedisConnection> connectionFuture,
             final boolean isReadOnly, RPromise<R> attemptPromise, final AsyncDetails<V, R> details) {
         attemptPromise.addListener(new FutureListener<R>() {
@@ -785,22 +889,54 @@ public class CommandAsyncService implements CommandAsyncExecutor {
                     return;
                 }
 
-                RedisConnection connection = connectionFuture.getNow();
                 connectionManager.getShutdownLatch().release();
-                if (isReadOnly) {
-                    connectionManager.releaseRead(source, connection);
-                } else {
-                    connectionManager.releaseWrite(source, connection);
+                releaseConnection(source, connectionFuture.getNow(), isReadOnly, details);
+            }
+        });
+    }
+    
+    /*
+     * Pipelined connection could be shared by other commands 
+     * as soon as command has been written
+     */
+    private <V, R> void releasePipelinedConnection(final NodeSource source, final RFuture<RedisConnection> connectionFuture,
+            final boolean isReadOnly, RPromise<R> attemptPromise, final AsyncDetails<V, R> details) {
+        details.getWriteFuture().addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) throws Exception {
+                if (!connectionFuture.isSuccess()) {
+                    return;
                 }
-
-                if (log.isDebugEnabled()) {
-                    log.debug("connection released for command {} and params {} from slot {} using connection {}",
-                            details.getCommand(), Arrays.toString(details.getParams()), details.getSource(), connection);
+                
+                releaseConnection(source, connectionFuture.getNow(), isReadOnly, details);
+            }
+        });
+        attemptPromise.addListener(new FutureListener<R>() {
+            @Override
+            public void operationComplete(Future<R> future) throws Exception {
+                if (!connectionFuture.isSuccess()) {
+                    return;
                 }
+                
+                connectionManager.getShutdownLatch().release();
             }
         });
     }
     
+    private <V, R> void releaseConnection(NodeSource source, RedisConnection connection, 
+            boolean isReadOnly, AsyncDetails<V, R> details) {
+        if (isReadOnly) {
+            connectionManager.releaseRead(source, connection);
+        } else {
+            connectionManager.releaseWrite(source, connection);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("connection released for command {} and params {} from slot {} using connection {}",
+                    details.getCommand(), Arrays.toString(details.getParams()), details.getSource(), connection);
+        }
+    }
+    
     private <R, V> void checkAttemptFuture(final NodeSource source, final AsyncDetails<V, R> details,
             Future<R> future, final boolean ignoreRedirect) {
         details.getTimeout().cancel();
@@ -808,11 +944,15 @@ public class CommandAsyncService implements CommandAsyncExecutor {
             return;
         }
 
+        CommandMetrics metrics = getCommandMetrics();
         try {
             details.removeMainPromiseListener();
             
             if (future.cause() instanceof RedisMovedException && !ignoreRedirect) {
                 RedisMovedException ex = (RedisMovedException) future.cause();
+                if (metrics != null) {
+                    metrics.onRedirect(details.getCommand().getName(), getAddress(details), Redirect.MOVED);
+                }
                 if (source.getRedirect() == Redirect.MOVED) {
                     details.getMainPromise().tryFailure(new RedisException("MOVED redirection loop detected. Node " + source.getAddr() + " has further redirect to " + ex.getUrl()));
                     return;
@@ -826,6 +966,9 @@ public class CommandAsyncService implements CommandAsyncExecutor {
             
             if (future.cause() instanceof RedisAskException && !ignoreRedirect) {
                 RedisAskException ex = (RedisAskException) future.cause();
+                if (metrics != null) {
+                    metrics.onRedirect(details.getCommand().getName(), getAddress(details), Redirect.ASK);
+                }
                 async(details.isReadOnlyMode(), new NodeSource(ex.getSlot(), ex.getUrl(), Redirect.ASK), details.getCodec(),
                         details.getCommand(), details.getParams(), details.getMainPromise(), details.getAttempt(), ignoreRedirect);
                 AsyncDetails.release(details);
@@ -833,6 +976,9 @@ public class CommandAsyncService implements CommandAsyncExecutor {
             }
             
             if (future.cause() instanceof RedisLoadingException) {
+                if (metrics != null) {
+                    metrics.onRetry(details.getCommand().getName(), getAddress(details));
+                }
                 async(details.isReadOnlyMode(), source, details.getCodec(),
                         details.getCommand(), details.getParams(), details.getMainPromise(), details.getAttempt(), ignoreRedirect);
                 AsyncDetails.release(details);
@@ -840,6 +986,9 @@ public class CommandAsyncService implements CommandAsyncExecutor {
             }
             
             if (future.cause() instanceof RedisTryAgainException) {
+                if (metrics != null) {
+                    metrics.onRetry(details.getCommand().getName(), getAddress(details));
+                }
                 connectionManager.newTimeout(new TimerTask() {
                     @Override
                     public void run(Timeout timeout) throws Exception {
@@ -854,13 +1003,23 @@ public class CommandAsyncService implements CommandAsyncExecutor {
             
             free(details);
             
+            if (metrics != null) {
+                long time = -1;
+                if (details.getWriteTime() != 0) {
+                    time = System.nanoTime() - details.getWriteTime();
+                }
+                metrics.onCommandCompleted(details.getCommand().getName(), getAddress(details), time, future.cause());
+            }
+            
             if (future.isSuccess()) {
                 R res = future.getNow();
                 if (res instanceof ScanResult) {
                     ((ScanResult) res).setRedisClient(details.getConnectionFuture().getNow().getRedisClient());
                 }
                 
-                if (isRedissonReferenceSupportEnabled()) {
+                CommandData<V, R> commandData = details.getCommandData();
+                if (isRedissonReferenceSupportEnabled()
+                        && (commandData == null || commandData.isReferenceDecoded())) {
                     handleReference(details.getMainPromise(), res);
                 } else {
                     details.getMainPromise().trySuccess(res);
@@ -876,7 +1035,32 @@ public class CommandAsyncService implements CommandAsyncExecutor {
         }
     }
 
-    private <R, V> void handleReference(RPromise<R> mainPromise, R res) {
+    private boolean isAutoBatchingAllowed(NodeSource source, RedisCommand<?> command, int attempt, boolean ignoreRedirect) {
+        return connectionManager.getConfig().getAutoBatchingInterval() > 0
+                && attempt == 0
+                && !ignoreRedirect
+                && source.getEntry() != null
+                && source.getRedisClient() == null
+                && source.getRedirect() == null
+                && !command.getName().endsWith("SCAN")
+                && !RedisCommands.BLOCKING_COMMANDS.contains(command.getName());
+    }
+
+    private AutoBatchingQueue getAutoBatchingQueue() {
+        AutoBatchingQueue queue = autoBatchingQueue;
+        if (queue == null) {
+            synchronized (this) {
+                queue = autoBatchingQueue;
+                if (queue == null) {
+                    queue = new AutoBatchingQueue(connectionManager, this);
+                    autoBatchingQueue = queue;
+                }
+            }
+        }
+        return queue;
+    }
+
+    <R, V> void handleReference(RPromise<R> mainPromise, R res) {
         try {
             mainPromise.trySuccess(tryHandleReference(res));
         } catch (Exception e) {
@@ -48,6 +48,7 @@ import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.MasterSlaveEntry;
 import org.redisson.connection.NodeSource;
 import org.redisson.connection.NodeSource.Redirect;
+import org.redisson.metrics.CommandMetrics;
 import org.redisson.misc.RPromise;
 import org.redisson.misc.RedissonObjectFactory;
 import org.redisson.misc.RedissonPromise;
@@ -112,6 +113,11 @@ public class CommandBatchService extends CommandAsyncService {
     @Override
     protected <V, R> void async(boolean readOnlyMode, NodeSource nodeSource,
             Codec codec, RedisCommand<V> command, Object[] params, RPromise<R> mainPromise, int attempt, boolean ignoreRedirect) {
+        add(readOnlyMode, nodeSource, codec, command, params, mainPromise);
+    }
+    
+    <V, R> BatchCommandData<V, R> add(boolean readOnlyMode, NodeSource nodeSource,
+            Codec codec, RedisCommand<V> command, Object[] params, RPromise<R> mainPromise) {
         if (executed) {
             throw new IllegalStateException("Batch already has been executed!");
         }
@@ -137,6 +143,7 @@ public class CommandBatchService extends CommandAsyncService {
         }
         BatchCommandData<V, R> commandData = new BatchCommandData<V, R>(mainPromise, codec, command, params, index.incrementAndGet());
         entry.getCommands().add(commandData);
+        return commandData;
     }
 
     public BatchResult<?> execute() {
@@ -241,7 +248,9 @@ public class CommandBatchService extends CommandAsyncService {
                         } else if (!commandEntry.getCommand().getName().equals(RedisCommands.MULTI.getName())
                                 && !commandEntry.getCommand().getName().equals(RedisCommands.EXEC.getName())) {
                             Object entryResult = commandEntry.getPromise().getNow();
-                            entryResult = tryHandleReference(entryResult);
+                            if (commandEntry.isReferenceDecoded()) {
+                                entryResult = tryHandleReference(entryResult);
+                            }
                             responses.add(entryResult);
                         }
                     }
@@ -294,6 +303,10 @@ public class CommandBatchService extends CommandAsyncService {
         final RPromise<Void> attemptPromise = new RedissonPromise<Void>();
 
         final AsyncDetails details = new AsyncDetails();
+        final CommandMetrics metrics = getCommandMetrics();
+        if (metrics != null) {
+            details.setStartTime(System.nanoTime());
+        }
 
         final RFuture<RedisConnection> connectionFuture;
         if (entry.isReadOnlyMode()) {
@@ -374,6 +387,9 @@ public class CommandBatchService extends CommandAsyncService {
                 }
 
                 int count = attempt + 1;
+                if (metrics != null) {
+                    metrics.onRetry(CommandMetrics.BATCH, getAddress(connectionFuture));
+                }
                 mainPromise.removeListener(mainPromiseListener);
                 execute(entry, source, mainPromise, slots, count, options);
             }
@@ -407,6 +423,9 @@ public class CommandBatchService extends CommandAsyncService {
                 
                 if (future.cause() instanceof RedisMovedException) {
                     RedisMovedException ex = (RedisMovedException)future.cause();
+                    if (metrics != null) {
+                        metrics.onRedirect(CommandMetrics.BATCH, getAddress(connectionFuture), Redirect.MOVED);
+                    }
                     entry.clearErrors();
                     NodeSource nodeSource = new NodeSource(ex.getSlot(), ex.getUrl(), Redirect.MOVED);
                     execute(entry, nodeSource, mainPromise, slots, attempt, options);
@@ -414,17 +433,26 @@ public class CommandBatchService extends CommandAsyncService {
                 }
                 if (future.cause() instanceof RedisAskException) {
                     RedisAskException ex = (RedisAskException)future.cause();
+                    if (metrics != null) {
+                        metrics.onRedirect(CommandMetrics.BATCH, getAddress(connectionFuture), Redirect.ASK);
+                    }
                     entry.clearErrors();
                     NodeSource nodeSource = new NodeSource(ex.getSlot(), ex.getUrl(), Redirect.ASK);
                     execute(entry, nodeSource, mainPromise, slots, attempt, options);
                     return;
                 }
                 if (future.cause() instanceof RedisLoadingException) {
+                    if (metrics != null) {
+                        metrics.onRetry(CommandMetrics.BATCH, getAddress(connectionFuture));
+                    }
                     entry.clearErrors();
                     execute(entry, source, mainPromise, slots, attempt, options);
                     return;
                 }
                 if (future.cause() instanceof RedisTryAgainException) {
+                    if (metrics != null) {
+                        metrics.onRetry(CommandMetrics.BATCH, getAddress(connectionFuture));
+                    }
                     entry.clearErrors();
                     connectionManager.newTimeout(new TimerTask() {
                         @Override
@@ -437,6 +465,14 @@ public class CommandBatchService extends CommandAsyncService {
 
                 free(entry);
                 
+                if (metrics != null) {
+                    long time = -1;
+                    if (details.getWriteTime() != 0) {
+                        time = System.nanoTime() - details.getWriteTime();
+                    }
+                    metrics.onCommandCompleted(CommandMetrics.BATCH, getAddress(connectionFuture), time, future.cause());
+                }
+                
                 handle(mainPromise, slots, future);
             }
         });
@@ -464,6 +500,13 @@ public class CommandBatchService extends CommandAsyncService {
         
         details.getTimeout().cancel();
         
+        CommandMetrics metrics = getCommandMetrics();
+        if (metrics != null) {
+            long currentTime = System.nanoTime();
+            details.setWriteTime(currentTime);
+            metrics.onCommandWritten(CommandMetrics.BATCH, connection.getRedisClient().getAddr(), currentTime - details.getConnectionTime());
+        }
+        
         TimerTask timerTask = new TimerTask() {
             @Override
             public void run(Timeout timeout) throws Exception {
@@ -499,6 +542,13 @@ public class CommandBatchService extends CommandAsyncService {
         }
         
         final RedisConnection connection = connFuture.getNow();
+        
+        CommandMetrics metrics = getCommandMetrics();
+        if (metrics != null) {
+            long currentTime = System.nanoTime();
+            details.setConnectionTime(currentTime);
+            metrics.onConnectionAcquired(CommandMetrics.BATCH, connection.getRedisClient().getAddr(), currentTime - details.getStartTime());
+        }
 
         List<CommandData<?, ?>> list = new ArrayList<CommandData<?, ?>>(entry.getCommands().size() + 1);
         if (source.getRedirect() == Redirect.ASK) {
@@ -97,6 +97,11 @@ class BaseConfig<T extends BaseConfig<T>> {
     
     private boolean tcpNoDelay;
 
+    private int pipeliningLimit = 1;
+
+    private long autoBatchingInterval;
+
+    private int autoBatchingSize = 128;
     
     BaseConfig() {
     }
@@ -120,6 +125,9 @@ class BaseConfig<T extends BaseConfig<T>> {
         setPingConnectionInterval(config.getPingConnectionInterval());
         setKeepAlive(config.isKeepAlive());
         setTcpNoDelay(config.isTcpNoDelay());
+        setPipeliningLimit(config.getPipeliningLimit());
+        setAutoBatchingInterval(config.getAutoBatchingInterval());
+        setAutoBatchingSize(config.getAutoBatchingSize());
     }
 
     /**
@@ -439,6 +447,75 @@ class BaseConfig<T extends BaseConfig<T>> {
         return (T) this;
     }
 
+    public int getPipeliningLimit() {
+        return pipeliningLimit;
+    }
+
+    /**
+     * Defines maximum amount of commands sent through single connection
+     * without waiting for response. Responses are matched to commands in order they were sent.
+     * Blocking commands and Pub/Sub connections are not affected.
+     * <code>1</code> means disable.
+     * <p>
+     * Default is <code>1</code>
+     * 
+     * @param pipeliningLimit - commands amount
+     * @return config
+     */
+    public T setPipeliningLimit(int pipeliningLimit) {
+        if (pipeliningLimit < 1) {
+            throw new IllegalArgumentException("pipeliningLimit should be greater than 0");
+        }
+        this.pipeliningLimit = pipeliningLimit;
+        return (T) this;
+    }
+
+    public long getAutoBatchingInterval() {
+        return autoBatchingInterval;
+    }
+
+    /**
+     * Defines time interval in microseconds during which independent commands
+     * addressed to the same Redis node are collected and sent as single batch.
+     * Each command is still completed individually.
+     * Blocking and scan commands are not affected.
+     * <code>0</code> means disable.
+     * <p>
+     * Default is <code>0</code>
+     * 
+     * @param autoBatchingInterval - time in microseconds
+     * @return config
+     */
+    public T setAutoBatchingInterval(long autoBatchingInterval) {
+        if (autoBatchingInterval < 0) {
+            throw new IllegalArgumentException("autoBatchingInterval can't be negative");
+        }
+        this.autoBatchingInterval = autoBatchingInterval;
+        return (T) this;
+    }
+
+    public int getAutoBatchingSize() {
+        return autoBatchingSize;
+    }
+
+    /**
+     * Defines maximum amount of commands collected into single batch.
+     * Batch is sent immediately once this amount is reached.
+     * Used only if <code>autoBatchingInterval</code> is greater than <code>0</code>.
+     * <p>
+     * Default is <code>128</code>
+     * 
+     * @param autoBatchingSize - commands amount
+     * @return config
+     */
+    public T setAutoBatchingSize(int autoBatchingSize) {
+        if (autoBatchingSize < 1) {
+            throw new IllegalArgumentException("autoBatchingSize should be greater than 0");
+        }
+        this.autoBatchingSize = autoBatchingSize;
+        return (T) this;
+    }
+
     
     
 }
@@ -30,6 +30,9 @@ import org.redisson.connection.ConnectionManager;
 import org.redisson.connection.DnsAddressResolverGroupFactory;
 import org.redisson.connection.AddressResolverGroupFactory;
 import org.redisson.connection.ReplicatedConnectionManager;
+import org.redisson.eviction.EvictionScheduler;
+import org.redisson.metrics.CommandMetrics;
+import org.redisson.metrics.HistogramCommandMetrics;
 import org.redisson.misc.URIBuilder;
 
 import io.netty.channel.EventLoopGroup;
@@ -89,6 +92,16 @@ public class Config {
     
     private boolean keepPubSubOrder = true;
     
+    private int iteratorPrefetchSize = 1;
+
+    private int reactiveIteratorPageSize = 10;
+    
+    private boolean sharedLockChannels;
+    
+    private int evictionMaxTasks = EvictionScheduler.DEFAULT_MAX_TASKS;
+    
+    private CommandMetrics commandMetrics;
+    
     /**
      * AddressResolverGroupFactory switch between default and round robin
      */
@@ -112,6 +125,11 @@ public class Config {
 
         setKeepPubSubOrder(oldConf.isKeepPubSubOrder());
         setLockWatchdogTimeout(oldConf.getLockWatchdogTimeout());
+        setIteratorPrefetchSize(oldConf.getIteratorPrefetchSize());
+        setReactiveIteratorPageSize(oldConf.getReactiveIteratorPageSize());
+        setSharedLockChannels(oldConf.isSharedLockChannels());
+        setEvictionMaxTasks(oldConf.getEvictionMaxTasks());
+        setCommandMetrics(oldConf.getCommandMetrics());
         setNettyThreads(oldConf.getNettyThreads());
         setThreads(oldConf.getThreads());
         setCodec(oldConf.getCodec());
@@ -585,6 +603,27 @@ public class Config {
         return lockWatchdogTimeout;
     }
 
+    /**
+     * Defines maximum amount of active eviction tasks 
+     * of objects with expirable entries like RMapCache or RSetCache.
+     * <p>
+     * Task of object created over this limit stays passive
+     * and checks object once per 30 minutes until 
+     * one of active tasks becomes idle.
+     * <p>
+     * Default is <code>10000</code>.
+     * 
+     * @param evictionMaxTasks - amount of tasks
+     * @return config
+     */
+    public Config setEvictionMaxTasks(int evictionMaxTasks) {
+        this.evictionMaxTasks = evictionMaxTasks;
+        return this;
+    }
+    public int getEvictionMaxTasks() {
+        return evictionMaxTasks;
+    }
+
     /**
      * Defines whether keep PubSub messages handling in arrival order 
      * or handle messages concurrently. 
@@ -604,6 +643,94 @@ public class Config {
         return keepPubSubOrder;
     }
 
+    /**
+     * Defines amount of pages requested ahead by iterators 
+     * based on SCAN, SSCAN, HSCAN and ZSCAN commands. 
+     * Next page is loaded while current page is consumed.
+     * <p>
+     * <code>0</code> value means next page is requested only after 
+     * the current page has been consumed.
+     * <p>
+     * Reactive iterators load pages ahead only after subscriber 
+     * has requested elements.
+     * <p>
+     * Default is <code>1</code>.
+     * 
+     * @param iteratorPrefetchSize - amount of pages
+     * @return config
+     */
+    public Config setIteratorPrefetchSize(int iteratorPrefetchSize) {
+        this.iteratorPrefetchSize = iteratorPrefetchSize;
+        return this;
+    }
+    public int getIteratorPrefetchSize() {
+        return iteratorPrefetchSize;
+    }
+
+    /**
+     * Defines amount of elements requested per page 
+     * by reactive iterators based on SSCAN, HSCAN and ZSCAN commands.
+     * Redis treats it as a hint, so actual page size may differ.
+     * <p>
+     * Default is <code>10</code>.
+     * 
+     * @param reactiveIteratorPageSize - amount of elements
+     * @return config
+     */
+    public Config setReactiveIteratorPageSize(int reactiveIteratorPageSize) {
+        this.reactiveIteratorPageSize = reactiveIteratorPageSize;
+        return this;
+    }
+    public int getReactiveIteratorPageSize() {
+        return reactiveIteratorPageSize;
+    }
+
+    /**
+     * Defines whether lock, read lock and write lock waiters are notified 
+     * through shared channels instead of channel per lock. 
+     * Shared channel is created per range of slots and stays subscribed, 
+     * so waiting for a lock doesn't require SUBSCRIBE and UNSUBSCRIBE commands.
+     * Unlock messages are dispatched locally to waiters of released lock.
+     * <p>
+     * Each shared channel receives unlock messages of all locks in its range, 
+     * so it suits large amount of fine-grained locks.
+     * Setting should be the same for all clients which use the same locks.
+     * Fair lock always uses channel per waiting thread.
+     * <p>
+     * Default is <code>false</code>.
+     * 
+     * @param sharedLockChannels - <code>true</code> to use shared channels, <code>false</code> otherwise.
+     * @return config
+     */
+    public Config setSharedLockChannels(boolean sharedLockChannels) {
+        this.sharedLockChannels = sharedLockChannels;
+        return this;
+    }
+    public boolean isSharedLockChannels() {
+        return sharedLockChannels;
+    }
+
+    /**
+     * Defines listener of command execution metrics: connection acquisition time, 
+     * command write time, reply latency, retries, timeouts and redirects
+     * per command name and node.
+     * <p>
+     * Use {@link HistogramCommandMetrics} to collect latency histograms. 
+     * It's exposed through JMX as <code>org.redisson:type=CommandMetrics</code> bean.
+     * <p>
+     * Default is <code>null</code>
+     * 
+     * @param commandMetrics - metrics listener
+     * @return config
+     */
+    public Config setCommandMetrics(CommandMetrics commandMetrics) {
+        this.commandMetrics = commandMetrics;
+        return this;
+    }
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
     /**
      * Used to switch between {@link io.netty.resolver.dns.DnsAddressResolverGroup} implementations.
      * Switch to round robin {@link io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup} when you need to optimize the url resolving.
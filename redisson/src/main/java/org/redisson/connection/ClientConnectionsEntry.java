@@ -17,6 +17,8 @@ package org.redisson.connection;
 
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.redisson.api.NodeType;
@@ -39,13 +41,15 @@ import io.netty.util.concurrent.FutureListener;
  */
 public class ClientConnectionsEntry {
 
+    private static final long LATENCY_DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+
     final Logger log = LoggerFactory.getLogger(getClass());
 
     private final Queue<RedisPubSubConnection> allSubscribeConnections = new ConcurrentLinkedQueue<RedisPubSubConnection>();
-    private final Queue<RedisPubSubConnection> freeSubscribeConnections = new ConcurrentLinkedQueue<RedisPubSubConnection>();
+    private final Queue<RedisPubSubConnection> freeSubscribeConnections = new ConnectionsQueue<RedisPubSubConnection>();
     private final AsyncSemaphore freeSubscribeConnectionsCounter;
 
-    private final Queue<RedisConnection> freeConnections = new ConcurrentLinkedQueue<RedisConnection>();
+    private final Queue<RedisConnection> freeConnections = new ConnectionsQueue<RedisConnection>();
     private final AsyncSemaphore freeConnectionsCounter;
 
     public enum FreezeReason {MANAGER, RECONNECT, SYSTEM}
@@ -59,6 +63,10 @@ public class ClientConnectionsEntry {
 
     private final AtomicLong firstFailTime = new AtomicLong(0);
 
+    private final AtomicInteger pendingRequests = new AtomicInteger();
+    private volatile double latency;
+    private volatile long latencyUpdateTime = System.nanoTime();
+
     public ClientConnectionsEntry(RedisClient client, int poolMinSize, int poolMaxSize, int subscribePoolMinSize, int subscribePoolMaxSize,
             ConnectionManager connectionManager, NodeType nodeType) {
         this.client = client;
@@ -124,6 +132,80 @@ public class ClientConnectionsEntry {
         return freeConnectionsCounter.getCounter();
     }
 
+    /**
+     * Returns amount of requests waiting for a free connection.
+     * 
+     * @return amount of requests
+     */
+    public int getAcquireQueueSize() {
+        return freeConnectionsCounter.queueSize();
+    }
+
+    /**
+     * Returns amount of connection requests which
+     * had to wait for a free connection since creation of this entry.
+     * 
+     * @return amount of requests
+     */
+    public long getQueuedAcquires() {
+        return freeConnectionsCounter.getQueuedAcquires();
+    }
+
+    /**
+     * Returns amount of requests sent to this node 
+     * and waiting for response.
+     * 
+     * @return amount of requests
+     */
+    public int getPendingRequests() {
+        return pendingRequests.get();
+    }
+    
+    /**
+     * Returns exponentially weighted moving average of response time.
+     * Value jumps up to a response time exceeding it and decays 
+     * towards zero while node doesn't respond, so slow node 
+     * gets a chance to show it has recovered.
+     * 
+     * @return response time in nanoseconds
+     */
+    public double getLatency() {
+        long elapsed = Math.max(0, System.nanoTime() - latencyUpdateTime);
+        return latency * Math.exp(-(double) elapsed / LATENCY_DECAY_TIME);
+    }
+    
+    /**
+     * Should be invoked before request is sent to this node
+     * 
+     * @return request start time in nanoseconds
+     */
+    public long onRequestStart() {
+        pendingRequests.incrementAndGet();
+        return System.nanoTime();
+    }
+    
+    /**
+     * Should be invoked once request sent to this node 
+     * has been completed or failed
+     * 
+     * @param startTime - value returned by {@link #onRequestStart()}
+     */
+    public void onRequestComplete(long startTime) {
+        pendingRequests.decrementAndGet();
+        
+        long currentTime = System.nanoTime();
+        long responseTime = currentTime - startTime;
+        if (responseTime > latency) {
+            latency = responseTime;
+        } else {
+            long elapsed = Math.max(0, currentTime - latencyUpdateTime);
+            double weight = Math.exp(-(double) elapsed / LATENCY_DECAY_TIME);
+            latency = latency * weight + responseTime * (1 - weight);
+        }
+        // concurrent updates may overwrite each other, which is acceptable for load estimation
+        latencyUpdateTime = currentTime;
+    }
+    
     public void acquireConnection(Runnable runnable) {
         freeConnectionsCounter.acquire(runnable);
     }
@@ -249,7 +331,9 @@ public class ClientConnectionsEntry {
         return "[freeSubscribeConnectionsAmount=" + freeSubscribeConnections.size()
                 + ", freeSubscribeConnectionsCounter=" + freeSubscribeConnectionsCounter
                 + ", freeConnectionsAmount=" + freeConnections.size() + ", freeConnectionsCounter="
-                + freeConnectionsCounter + ", freezed=" + freezed + ", freezeReason=" + freezeReason
+                + freeConnectionsCounter + ", queuedAcquires=" + freeConnectionsCounter.getQueuedAcquires()
+                + ", pendingRequests=" + pendingRequests
+                + ", freezed=" + freezed + ", freezeReason=" + freezeReason
                 + ", client=" + client + ", nodeType=" + nodeType + ", firstFail=" + firstFailTime
                 + "]";
     }
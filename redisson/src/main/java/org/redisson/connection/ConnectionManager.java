@@ -66,6 +66,8 @@ public interface ConnectionManager {
     boolean isShuttingDown();
     
     IdleConnectionWatcher getConnectionWatcher();
+    
+    LockRenewalScheduler getRenewalScheduler();
 
     int calcSlot(String key);
 
@@ -0,0 +1,207 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.connection;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.redisson.client.RedisConnection;
+
+import io.netty.channel.EventLoop;
+
+/**
+ * Queue of free connections striped by connection event loop.
+ * <p>
+ * Event loop thread polls connection bound to itself first,
+ * so the following write doesn't need a hop to another thread.
+ * Other threads start polling from the different stripes
+ * to reduce contention on the same queue head.
+ *
+ * @author Nikita Koksharov
+ *
+ * @param <T> connection type
+ */
+class ConnectionsQueue<T extends RedisConnection> extends AbstractQueue<T> {
+
+    static class Stripe<T> {
+
+        final EventLoop eventLoop;
+        final Queue<T> queue = new ConcurrentLinkedQueue<T>();
+
+        Stripe(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+    }
+
+    private final List<Stripe<T>> stripes = new CopyOnWriteArrayList<Stripe<T>>();
+
+    private Stripe<T> getStripe(EventLoop eventLoop) {
+        for (Stripe<T> stripe : stripes) {
+            if (stripe.eventLoop == eventLoop) {
+                return stripe;
+            }
+        }
+
+        synchronized (stripes) {
+            for (Stripe<T> stripe : stripes) {
+                if (stripe.eventLoop == eventLoop) {
+                    return stripe;
+                }
+            }
+
+            Stripe<T> stripe = new Stripe<T>(eventLoop);
+            stripes.add(stripe);
+            return stripe;
+        }
+    }
+
+    @Override
+    public boolean offer(T connection) {
+        return getStripe(connection.getChannel().eventLoop()).queue.offer(connection);
+    }
+
+    @Override
+    public T poll() {
+        Object[] array = stripes.toArray();
+        if (array.length == 0) {
+            return null;
+        }
+
+        for (Object s : array) {
+            Stripe<T> stripe = (Stripe<T>) s;
+            if (stripe.eventLoop.inEventLoop()) {
+                T connection = stripe.queue.poll();
+                if (connection != null) {
+                    return connection;
+                }
+                break;
+            }
+        }
+
+        int start = (int) (Thread.currentThread().getId() % array.length);
+        for (int i = 0; i < array.length; i++) {
+            Stripe<T> stripe = (Stripe<T>) array[(start + i) % array.length];
+            T connection = stripe.queue.poll();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public T peek() {
+        for (Stripe<T> stripe : stripes) {
+            T connection = stripe.queue.peek();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o instanceof RedisConnection) {
+            EventLoop eventLoop = ((RedisConnection) o).getChannel().eventLoop();
+            for (Stripe<T> stripe : stripes) {
+                if (stripe.eventLoop == eventLoop && stripe.queue.remove(o)) {
+                    return true;
+                }
+            }
+        }
+
+        // connection channel could be changed after reconnection
+        for (Stripe<T> stripe : stripes) {
+            if (stripe.queue.remove(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        for (Stripe<T> stripe : stripes) {
+            stripe.queue.clear();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Stripe<T> stripe : stripes) {
+            if (!stripe.queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe<T> stripe : stripes) {
+            size += stripe.queue.size();
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final Iterator<Stripe<T>> stripesIterator = stripes.iterator();
+        return new Iterator<T>() {
+
+            private Iterator<T> current;
+            private Iterator<T> last;
+
+            @Override
+            public boolean hasNext() {
+                while (current == null || !current.hasNext()) {
+                    if (!stripesIterator.hasNext()) {
+                        return false;
+                    }
+                    current = stripesIterator.next().queue.iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = current;
+                return current.next();
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                last.remove();
+            }
+
+        };
+    }
+
+}
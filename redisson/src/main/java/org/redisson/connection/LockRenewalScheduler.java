@@ -0,0 +1,277 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.connection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.redisson.api.RFuture;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.command.CommandBatchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Renews expiration of locks held by watchdog.
+ * <p>
+ * Single timer collects due renewals on each tick. Locks are grouped by slot
+ * and renewed by single script per slot. All scripts of the tick are sent 
+ * in one batch, so each node receives one pipeline per tick.
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public class LockRenewalScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(LockRenewalScheduler.class);
+    
+    /**
+     * Max amount of locks renewed by single script
+     */
+    private static final int BATCH_SIZE = 100;
+    
+    static class Entry {
+        
+        final String name;
+        final String lockName;
+        final long leaseTime;
+        volatile long renewalTime;
+        
+        Entry(String name, String lockName, long leaseTime) {
+            super();
+            this.name = name;
+            this.lockName = lockName;
+            this.leaseTime = leaseTime;
+            this.renewalTime = System.currentTimeMillis() + leaseTime / 3;
+        }
+        
+    }
+    
+    private final ConcurrentMap<String, Entry> entries = PlatformDependent.newConcurrentHashMap();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ConnectionManager connectionManager;
+    private final long tickInterval;
+    
+    private final AtomicLong renewals = new AtomicLong();
+    private final AtomicLong failedRenewals = new AtomicLong();
+    private volatile long lastLag;
+    private volatile long maxLag;
+
+    public LockRenewalScheduler(ConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+        this.tickInterval = Math.max(10, connectionManager.getCfg().getLockWatchdogTimeout() / 10);
+    }
+    
+    /**
+     * Schedules expiration renewal of lock.
+     * 
+     * @param entryName - unique name of lock entry
+     * @param name - lock object name
+     * @param lockName - hash field of lock owner
+     * @param leaseTime - lease time in milliseconds
+     */
+    public void schedule(String entryName, String name, String lockName, long leaseTime) {
+        if (entries.containsKey(entryName)) {
+            return;
+        }
+        
+        entries.putIfAbsent(entryName, new Entry(name, lockName, leaseTime));
+        if (running.compareAndSet(false, true)) {
+            scheduleTick();
+        }
+    }
+    
+    public void cancel(String entryName) {
+        entries.remove(entryName);
+    }
+    
+    private void scheduleTick() {
+        if (connectionManager.isShuttingDown()) {
+            running.set(false);
+            return;
+        }
+        
+        connectionManager.newTimeout(new TimerTask() {
+            @Override
+            public void run(Timeout timeout) throws Exception {
+                renew();
+            }
+        }, tickInterval, TimeUnit.MILLISECONDS);
+    }
+    
+    private void renew() {
+        long currentTime = System.currentTimeMillis();
+        Map<Integer, List<Map.Entry<String, Entry>>> slot2entries = new HashMap<Integer, List<Map.Entry<String, Entry>>>();
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            if (e.getValue().renewalTime > currentTime) {
+                continue;
+            }
+            
+            int slot = connectionManager.calcSlot(e.getValue().name);
+            List<Map.Entry<String, Entry>> list = slot2entries.get(slot);
+            if (list == null) {
+                list = new ArrayList<Map.Entry<String, Entry>>();
+                slot2entries.put(slot, list);
+            }
+            list.add(e);
+        }
+        
+        if (slot2entries.isEmpty()) {
+            onTickDone();
+            return;
+        }
+        
+        CommandBatchService executorService = new CommandBatchService(connectionManager);
+        final Map<RFuture<List<Object>>, List<Map.Entry<String, Entry>>> future2entries = new HashMap<RFuture<List<Object>>, List<Map.Entry<String, Entry>>>();
+        long lag = 0;
+        for (List<Map.Entry<String, Entry>> list : slot2entries.values()) {
+            for (int i = 0; i < list.size(); i += BATCH_SIZE) {
+                List<Map.Entry<String, Entry>> part = list.subList(i, Math.min(list.size(), i + BATCH_SIZE));
+                List<Object> keys = new ArrayList<Object>(part.size());
+                List<Object> params = new ArrayList<Object>(part.size()*2);
+                for (Map.Entry<String, Entry> e : part) {
+                    Entry entry = e.getValue();
+                    lag = Math.max(lag, currentTime - entry.renewalTime);
+                    keys.add(entry.name);
+                    params.add(entry.lockName);
+                    params.add(entry.leaseTime);
+                }
+                
+                RFuture<List<Object>> future = executorService.evalWriteAsync(part.get(0).getValue().name, LongCodec.INSTANCE, RedisCommands.EVAL_LIST,
+                        "local result = {}; "
+                      + "for i = 1, #KEYS, 1 do "
+                          + "if redis.call('hexists', KEYS[i], ARGV[i*2-1]) == 1 then "
+                              + "redis.call('pexpire', KEYS[i], ARGV[i*2]); "
+                              + "table.insert(result, 1); "
+                          + "else "
+                              + "table.insert(result, 0); "
+                          + "end; "
+                      + "end; "
+                      + "return result;",
+                        keys, params.toArray());
+                future2entries.put(future, part);
+            }
+        }
+        
+        lastLag = lag;
+        if (lag > maxLag) {
+            maxLag = lag;
+        }
+        
+        RFuture<List<?>> batchFuture = executorService.executeAsync();
+        batchFuture.addListener(new FutureListener<List<?>>() {
+            @Override
+            public void operationComplete(Future<List<?>> future) throws Exception {
+                for (Map.Entry<RFuture<List<Object>>, List<Map.Entry<String, Entry>>> e : future2entries.entrySet()) {
+                    if (!e.getKey().isSuccess()) {
+                        // lock is still valid, try again on next tick
+                        failedRenewals.addAndGet(e.getValue().size());
+                        log.error("Can't update expiration of " + e.getValue().size() + " locks", e.getKey().cause());
+                        continue;
+                    }
+                    
+                    List<Object> result = e.getKey().getNow();
+                    long renewalTime = System.currentTimeMillis();
+                    for (int i = 0; i < result.size(); i++) {
+                        Map.Entry<String, Entry> entry = e.getValue().get(i);
+                        if (((Long) result.get(i)) == 1) {
+                            entry.getValue().renewalTime = renewalTime + entry.getValue().leaseTime / 3;
+                            renewals.incrementAndGet();
+                        } else {
+                            // lock has been released or expired
+                            entries.remove(entry.getKey(), entry.getValue());
+                        }
+                    }
+                }
+                
+                onTickDone();
+            }
+        });
+    }
+
+    private void onTickDone() {
+        if (!entries.isEmpty()) {
+            scheduleTick();
+            return;
+        }
+        
+        running.set(false);
+        // entry could be added before running flag reset 
+        if (!entries.isEmpty() && running.compareAndSet(false, true)) {
+            scheduleTick();
+        }
+    }
+    
+    /**
+     * Returns amount of locks with scheduled renewal
+     * 
+     * @return amount of locks
+     */
+    public int getScheduledLocks() {
+        return entries.size();
+    }
+    
+    /**
+     * Returns amount of successful renewals
+     * 
+     * @return amount of renewals
+     */
+    public long getRenewals() {
+        return renewals.get();
+    }
+    
+    /**
+     * Returns amount of failed renewals
+     * 
+     * @return amount of failed renewals
+     */
+    public long getFailedRenewals() {
+        return failedRenewals.get();
+    }
+    
+    /**
+     * Returns max delay in milliseconds between due time and actual renewal 
+     * during last tick 
+     * 
+     * @return delay in milliseconds
+     */
+    public long getLastLag() {
+        return lastLag;
+    }
+    
+    /**
+     * Returns max delay in milliseconds between due time and actual renewal
+     * 
+     * @return delay in milliseconds
+     */
+    public long getMaxLag() {
+        return maxLag;
+    }
+    
+}
@@ -15,6 +15,7 @@
  */
 package org.redisson.connection;
 
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Field;
 import java.net.InetSocketAddress;
 import java.net.URI;
@@ -30,6 +31,9 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
+
 import org.redisson.Version;
 import org.redisson.api.NodeType;
 import org.redisson.api.RFuture;
@@ -46,6 +50,7 @@ import org.redisson.config.BaseMasterSlaveServersConfig;
 import org.redisson.config.Config;
 import org.redisson.config.MasterSlaveServersConfig;
 import org.redisson.config.TransportMode;
+import org.redisson.metrics.CommandMetricsMXBean;
 import org.redisson.misc.CountableListener;
 import org.redisson.misc.InfinitySemaphoreLatch;
 import org.redisson.misc.RPromise;
@@ -140,6 +145,10 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
 
     private IdleConnectionWatcher connectionWatcher;
 
+    private LockRenewalScheduler renewalScheduler;
+    
+    private ObjectName metricsObjectName;
+
     private final ConnectionEventsHub connectionEventsHub = new ConnectionEventsHub();
     
     private final ExecutorService executor; 
@@ -297,6 +306,10 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         return connectionWatcher;
     }
 
+    public LockRenewalScheduler getRenewalScheduler() {
+        return renewalScheduler;
+    }
+
     public Config getCfg() {
         return cfg;
     }
@@ -341,6 +354,35 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         
         connectionWatcher = new IdleConnectionWatcher(this, config);
         subscribeService = new PublishSubscribeService(this, config);
+        renewalScheduler = new LockRenewalScheduler(this);
+        registerMetrics();
+    }
+    
+    private void registerMetrics() {
+        if (!(cfg.getCommandMetrics() instanceof CommandMetricsMXBean)) {
+            return;
+        }
+        
+        try {
+            ObjectName name = new ObjectName("org.redisson:type=CommandMetrics,id=" + id);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(cfg.getCommandMetrics(), name);
+            metricsObjectName = name;
+        } catch (JMException e) {
+            log.warn("Unable to register command metrics MBean", e);
+        }
+    }
+    
+    private void unregisterMetrics() {
+        if (metricsObjectName == null) {
+            return;
+        }
+        
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(metricsObjectName);
+        } catch (JMException e) {
+            log.warn("Unable to unregister command metrics MBean", e);
+        }
+        metricsObjectName = null;
     }
 
     protected void initSingleEntry() {
@@ -390,6 +432,9 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         MasterSlaveServersConfig c = new MasterSlaveServersConfig();
         
         c.setPingConnectionInterval(cfg.getPingConnectionInterval());
+        c.setPipeliningLimit(cfg.getPipeliningLimit());
+        c.setAutoBatchingInterval(cfg.getAutoBatchingInterval());
+        c.setAutoBatchingSize(cfg.getAutoBatchingSize());
         c.setSslEnableEndpointIdentification(cfg.isSslEnableEndpointIdentification());
         c.setSslProvider(cfg.getSslProvider());
         c.setSslTruststore(cfg.getSslTruststore());
@@ -469,7 +514,8 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
               .setKeepPubSubOrder(cfg.isKeepPubSubOrder())
               .setPingConnectionInterval(config.getPingConnectionInterval())
               .setKeepAlive(config.isKeepAlive())
-              .setTcpNoDelay(config.isTcpNoDelay());
+              .setTcpNoDelay(config.isTcpNoDelay())
+              .setPipeliningLimit(config.getPipeliningLimit());
         
         if (type != NodeType.SENTINEL) {
             redisConfig.setDatabase(config.getDatabase());
@@ -641,6 +687,7 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
         }
 
         timer.stop();
+        unregisterMetrics();
         
         shutdownLatch.close();
         shutdownPromise.trySuccess(true);
@@ -702,6 +749,7 @@ public class MasterSlaveConnectionManager implements ConnectionManager {
 
     protected void stopThreads() {
         timer.stop();
+        unregisterMetrics();
         executor.shutdown();
         try {
             executor.awaitTermination(15, TimeUnit.SECONDS);
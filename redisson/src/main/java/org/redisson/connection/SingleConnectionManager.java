@@ -58,6 +58,9 @@ public class SingleConnectionManager extends MasterSlaveConnectionManager {
         newconfig.setConnectTimeout(cfg.getConnectTimeout());
         newconfig.setIdleConnectionTimeout(cfg.getIdleConnectionTimeout());
         newconfig.setDnsMonitoringInterval(cfg.getDnsMonitoringInterval());
+        newconfig.setPipeliningLimit(cfg.getPipeliningLimit());
+        newconfig.setAutoBatchingInterval(cfg.getAutoBatchingInterval());
+        newconfig.setAutoBatchingSize(cfg.getAutoBatchingSize());
 
         newconfig.setMasterConnectionMinimumIdleSize(cfg.getConnectionMinimumIdleSize());
         newconfig.setSubscriptionConnectionMinimumIdleSize(cfg.getSubscriptionConnectionMinimumIdleSize());
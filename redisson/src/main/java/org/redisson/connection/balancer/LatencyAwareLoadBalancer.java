@@ -0,0 +1,40 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.connection.balancer;
+
+import org.redisson.connection.ClientConnectionsEntry;
+
+/**
+ * Power of two choices load balancer driven by response time.
+ * <p>
+ * Node cost is moving average of its response time 
+ * multiplied by amount of requests waiting for response.
+ * Average follows response time spikes immediately 
+ * and decays over time, so node which has been slowed down 
+ * by GC pause or heavy command loses traffic only until it recovers.
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public class LatencyAwareLoadBalancer extends LeastOutstandingRequestsLoadBalancer {
+
+    @Override
+    protected double getCost(ClientConnectionsEntry entry) {
+        // node without response time yet is still ranked by pending requests
+        return (entry.getLatency() + 1) * (entry.getPendingRequests() + 1);
+    }
+    
+}
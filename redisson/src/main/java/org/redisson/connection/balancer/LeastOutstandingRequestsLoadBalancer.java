@@ -0,0 +1,62 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.connection.balancer;
+
+import java.util.List;
+
+import org.redisson.connection.ClientConnectionsEntry;
+
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Power of two choices load balancer.
+ * <p>
+ * Picks two random nodes and chooses the one 
+ * with less requests waiting for response.
+ * So slow node receives less requests than others
+ * without herding all requests to the single least loaded node.
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public class LeastOutstandingRequestsLoadBalancer implements LoadBalancer {
+
+    @Override
+    public ClientConnectionsEntry getEntry(List<ClientConnectionsEntry> clientsCopy) {
+        int size = clientsCopy.size();
+        if (size == 1) {
+            return clientsCopy.get(0);
+        }
+        
+        int first = PlatformDependent.threadLocalRandom().nextInt(size);
+        int second = PlatformDependent.threadLocalRandom().nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        
+        ClientConnectionsEntry firstEntry = clientsCopy.get(first);
+        ClientConnectionsEntry secondEntry = clientsCopy.get(second);
+        if (getCost(secondEntry) < getCost(firstEntry)) {
+            return secondEntry;
+        }
+        return firstEntry;
+    }
+
+    protected double getCost(ClientConnectionsEntry entry) {
+        return entry.getPendingRequests();
+    }
+    
+}
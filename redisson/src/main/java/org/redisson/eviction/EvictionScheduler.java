@@ -16,6 +16,8 @@
 package org.redisson.eviction;
 
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.redisson.command.CommandAsyncExecutor;
 
@@ -26,49 +28,203 @@ import io.netty.util.internal.PlatformDependent;
  * Deletes expired entries in time interval between 5 seconds to 2 hours.
  * It analyzes deleted amount of expired keys
  * and 'tune' next execution delay depending on it.
+ * <p>
+ * Eviction of each object is performed only by the client
+ * which owns its eviction lease stored in Redis.
+ * Amount of active tasks is limited. Task becomes passive after
+ * several idle runs or if there is no free slot for it. Passive task 
+ * stays registered and checks object once per max delay, 
+ * so it's activated again once object has entries to evict.
  *
  * @author Nikita Koksharov
  *
  */
 public class EvictionScheduler {
 
+    public static final int DEFAULT_MAX_TASKS = 10000;
+    
     private final ConcurrentMap<String, EvictionTask> tasks = PlatformDependent.newConcurrentHashMap();
     private final CommandAsyncExecutor executor;
+    private final int maxTasks;
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong evictedKeys = new AtomicLong();
 
     public EvictionScheduler(CommandAsyncExecutor executor) {
+        this(executor, DEFAULT_MAX_TASKS);
+    }
+    
+    public EvictionScheduler(CommandAsyncExecutor executor, int maxTasks) {
         this.executor = executor;
+        this.maxTasks = maxTasks;
     }
 
     public void scheduleCleanMultimap(String name, String timeoutSetName) {
-        EvictionTask task = new MultimapEvictionTask(name, timeoutSetName, executor);
-        EvictionTask prevTask = tasks.putIfAbsent(name, task);
-        if (prevTask == null) {
-            task.schedule();
+        if (tasks.containsKey(name)) {
+            return;
         }
+        addTask(new MultimapEvictionTask(name, timeoutSetName, executor));
     }
     
     public void scheduleJCache(String name, String timeoutSetName, String expiredChannelName) {
-        EvictionTask task = new JCacheEvictionTask(name, timeoutSetName, expiredChannelName, executor);
-        EvictionTask prevTask = tasks.putIfAbsent(name, task);
-        if (prevTask == null) {
-            task.schedule();
+        if (tasks.containsKey(name)) {
+            return;
         }
+        addTask(new JCacheEvictionTask(name, timeoutSetName, expiredChannelName, executor));
     }
     
     public void schedule(String name, long shiftInMilliseconds) {
-        EvictionTask task = new ScoredSetEvictionTask(name, executor, shiftInMilliseconds);
-        EvictionTask prevTask = tasks.putIfAbsent(name, task);
-        if (prevTask == null) {
-            task.schedule();
+        if (tasks.containsKey(name)) {
+            return;
         }
+        addTask(new ScoredSetEvictionTask(name, executor, shiftInMilliseconds));
     }
 
     public void schedule(String name, String timeoutSetName, String maxIdleSetName, String expiredChannelName, String lastAccessTimeSetName) {
-        EvictionTask task = new MapCacheEvictionTask(name, timeoutSetName, maxIdleSetName, expiredChannelName, lastAccessTimeSetName, executor);
-        EvictionTask prevTask = tasks.putIfAbsent(name, task);
-        if (prevTask == null) {
-            task.schedule();
+        if (tasks.containsKey(name)) {
+            return;
         }
+        addTask(new MapCacheEvictionTask(name, timeoutSetName, maxIdleSetName, expiredChannelName, lastAccessTimeSetName, executor));
+    }
+    
+    private void addTask(EvictionTask task) {
+        task.scheduler = this;
+        EvictionTask prevTask = tasks.putIfAbsent(task.getName(), task);
+        if (prevTask != null) {
+            return;
+        }
+        
+        activate(task);
+        task.schedule();
+    }
+
+    /**
+     * Makes task active. The most idle task is passivated 
+     * if amount of active tasks reached the limit. 
+     * Task stays passive if there is no idle task.
+     * 
+     * @param task - eviction task
+     * @return <code>true</code> if task is active
+     */
+    synchronized boolean activate(EvictionTask task) {
+        if (!task.passive) {
+            return true;
+        }
+        if (activeTasks.get() >= maxTasks && !passivateIdleTask()) {
+            return false;
+        }
+        
+        task.idleRuns = 0;
+        task.passive = false;
+        activeTasks.incrementAndGet();
+        return true;
+    }
+    
+    /**
+     * Makes task passive and releases its lease.
+     * 
+     * @param task - eviction task
+     * @return <code>true</code> if task has been passivated
+     */
+    synchronized boolean passivate(EvictionTask task) {
+        if (task.passive) {
+            return false;
+        }
+        
+        task.passive = true;
+        activeTasks.decrementAndGet();
+        if (task.isOwner()) {
+            task.owner = false;
+            task.releaseLease();
+        }
+        return true;
+    }
+    
+    /**
+     * Passivates the most idle task. Tasks without idle runs
+     * aren't passivated, since new task doesn't own 
+     * eviction lease until its first run.
+     * 
+     * @return <code>true</code> if task has been passivated
+     */
+    private boolean passivateIdleTask() {
+        EvictionTask candidate = null;
+        for (EvictionTask task : tasks.values()) {
+            if (task.passive || task.idleRuns == 0) {
+                continue;
+            }
+            if (candidate == null || task.idleRuns > candidate.idleRuns) {
+                candidate = task;
+            }
+        }
+        return candidate != null && passivate(candidate);
+    }
+    
+    void onRun(int evictedKeysAmount) {
+        runs.incrementAndGet();
+        evictedKeys.addAndGet(evictedKeysAmount);
+    }
+    
+    /**
+     * Returns eviction task of object
+     * 
+     * @param name - object name
+     * @return task or <code>null</code> if object isn't scheduled
+     */
+    public EvictionTask getTask(String name) {
+        return tasks.get(name);
+    }
+    
+    /**
+     * Returns amount of registered eviction tasks
+     * 
+     * @return amount of tasks
+     */
+    public int getTasks() {
+        return tasks.size();
+    }
+    
+    /**
+     * Returns amount of active eviction tasks
+     * 
+     * @return amount of tasks
+     */
+    public int getActiveTasks() {
+        return activeTasks.get();
+    }
+    
+    /**
+     * Returns amount of eviction tasks which own eviction lease
+     * 
+     * @return amount of tasks
+     */
+    public int getOwnedTasks() {
+        int result = 0;
+        for (EvictionTask task : tasks.values()) {
+            if (task.isOwner()) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Returns total amount of eviction runs performed by this client
+     * 
+     * @return amount of runs
+     */
+    public long getRuns() {
+        return runs.get();
+    }
+    
+    /**
+     * Returns total amount of keys evicted by this client
+     * 
+     * @return amount of keys
+     */
+    public long getEvictedKeys() {
+        return evictedKeys.get();
     }
 
 }
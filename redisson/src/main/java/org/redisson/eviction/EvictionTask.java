@@ -15,45 +15,197 @@
  */
 package org.redisson.eviction;
 
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.concurrent.TimeUnit;
 
 import org.redisson.api.RFuture;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.protocol.RedisCommands;
 import org.redisson.command.CommandAsyncExecutor;
 
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
 
 /**
+ * Eviction task of single object.
+ * <p>
+ * Only the owner of object's eviction lease executes eviction script.
+ * Other clients just check the lease once it's about to expire,
+ * so they could take over eviction if owner has gone.
+ * <p>
+ * Passive task doesn't keep the lease and checks object 
+ * once per max delay. It becomes active again 
+ * if there are expired entries to evict.
  * 
  * @author Nikita Koksharov
  *
  */
-abstract class EvictionTask implements Runnable {
+public abstract class EvictionTask implements Runnable {
 
     final Deque<Integer> sizeHistory = new LinkedList<Integer>();
     final int minDelay = 5;
     final int maxDelay = 30*60;
     final int keysLimit = 100;
+    final int maxIdleRuns = 3;
     
-    int delay = 5;
+    volatile int delay = 5;
+    volatile int idleRuns;
+    volatile long runs;
+    volatile long evictedKeys;
+    volatile int lastEvictedKeys;
+    volatile boolean owner;
+    volatile boolean passive = true;
+    
+    EvictionScheduler scheduler;
 
+    final String name;
+    final String leaseName;
     final CommandAsyncExecutor executor;
     
-    EvictionTask(CommandAsyncExecutor executor) {
+    EvictionTask(String name, CommandAsyncExecutor executor) {
         super();
+        this.name = name;
         this.executor = executor;
+        this.leaseName = prefixName("redisson__eviction_lease", name);
     }
 
+    protected String prefixName(String prefix, String name) {
+        if (name.contains("{")) {
+            return prefix + ":" + name;
+        }
+        return prefix + ":{" + name + "}";
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    /**
+     * Returns <code>true</code> if this client owns eviction lease of object
+     * 
+     * @return <code>true</code> if this client evicts object
+     */
+    public boolean isOwner() {
+        return owner;
+    }
+    
+    /**
+     * Returns amount of eviction runs performed by this client
+     * 
+     * @return amount of runs
+     */
+    public long getRuns() {
+        return runs;
+    }
+    
+    /**
+     * Returns total amount of keys evicted by this client
+     * 
+     * @return amount of evicted keys
+     */
+    public long getEvictedKeys() {
+        return evictedKeys;
+    }
+    
+    /**
+     * Returns amount of keys evicted during last run
+     * 
+     * @return amount of evicted keys
+     */
+    public int getLastEvictedKeys() {
+        return lastEvictedKeys;
+    }
+    
+    public int getDelay() {
+        return delay;
+    }
+    
     public void schedule() {
-        executor.getConnectionManager().getGroup().schedule(this, delay, TimeUnit.SECONDS);
+        schedule(delay, TimeUnit.SECONDS);
+    }
+
+    void schedule(long timeout, TimeUnit unit) {
+        executor.getConnectionManager().getGroup().schedule(this, timeout, unit);
+    }
+    
+    /**
+     * Returns <code>true</code> if this task is passive
+     * 
+     * @return <code>true</code> if task is passive
+     */
+    public boolean isPassive() {
+        return passive;
     }
 
     abstract RFuture<Integer> execute();
     
+    /**
+     * Acquires or prolongs eviction lease.
+     * Lease lives twice longer than current delay, so it expires
+     * only if owner missed at least one run.
+     * 
+     * @return <code>-1</code> if lease is owned by this client
+     *         or remaining time to live in milliseconds of lease owned by another client
+     */
+    RFuture<Long> acquireLease() {
+        long leaseTime = TimeUnit.SECONDS.toMillis(delay*2 + minDelay);
+        return executor.evalWriteAsync(leaseName, LongCodec.INSTANCE, RedisCommands.EVAL_LONG,
+                "local owner = redis.call('get', KEYS[1]); "
+              + "if owner == false or owner == ARGV[1] then "
+                  + "redis.call('set', KEYS[1], ARGV[1], 'px', ARGV[2]); "
+                  + "return -1; "
+              + "end; "
+              + "local ttl = redis.call('pttl', KEYS[1]); "
+              + "if ttl < 0 then "
+                  + "return 0; "
+              + "end; "
+              + "return ttl;",
+              Arrays.<Object>asList(leaseName), executor.getConnectionManager().getId().toString(), leaseTime);
+    }
+    
+    RFuture<Boolean> releaseLease() {
+        return executor.evalWriteAsync(leaseName, LongCodec.INSTANCE, RedisCommands.EVAL_BOOLEAN,
+                "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                  + "redis.call('del', KEYS[1]); "
+                  + "return 1; "
+              + "end; "
+              + "return 0;",
+              Arrays.<Object>asList(leaseName), executor.getConnectionManager().getId().toString());
+    }
+
     @Override
     public void run() {
+        RFuture<Long> leaseFuture = acquireLease();
+        leaseFuture.addListener(new FutureListener<Long>() {
+            @Override
+            public void operationComplete(Future<Long> future) throws Exception {
+                if (!future.isSuccess()) {
+                    schedule();
+                    return;
+                }
+                
+                long ttl = future.getNow();
+                if (ttl != -1) {
+                    owner = false;
+                    sizeHistory.clear();
+                    if (passive) {
+                        schedule(maxDelay, TimeUnit.SECONDS);
+                        return;
+                    }
+                    // check lease right after it expires
+                    schedule(ttl + TimeUnit.SECONDS.toMillis(1), TimeUnit.MILLISECONDS);
+                    return;
+                }
+                
+                owner = true;
+                evict();
+            }
+        });
+    }
+    
+    private void evict() {
         RFuture<Integer> future = execute();
         future.addListener(new FutureListener<Integer>() {
             @Override
@@ -69,6 +221,28 @@ abstract class EvictionTask implements Runnable {
                     return;
                 }
 
+                runs++;
+                evictedKeys += size;
+                lastEvictedKeys = size;
+                if (scheduler != null) {
+                    scheduler.onRun(size);
+                }
+                
+                if (passive) {
+                    if (size > 0 && scheduler != null 
+                            && scheduler.activate(EvictionTask.this)) {
+                        delay = minDelay;
+                        schedule();
+                        return;
+                    }
+                    
+                    // leave lease to active task of another client
+                    owner = false;
+                    releaseLease();
+                    schedule(maxDelay, TimeUnit.SECONDS);
+                    return;
+                }
+                
                 if (sizeHistory.size() == 2) {
                     if (sizeHistory.peekFirst() > sizeHistory.peekLast()
                             && sizeHistory.peekLast() > size) {
@@ -94,6 +268,18 @@ abstract class EvictionTask implements Runnable {
                 }
 
                 sizeHistory.add(size);
+                
+                if (size == 0 && delay == maxDelay) {
+                    idleRuns++;
+                } else {
+                    idleRuns = 0;
+                }
+                if (idleRuns >= maxIdleRuns && scheduler != null
+                        && scheduler.passivate(EvictionTask.this)) {
+                    schedule(maxDelay, TimeUnit.SECONDS);
+                    return;
+                }
+                
                 schedule();
             }
         });
@@ -29,13 +29,11 @@ import org.redisson.command.CommandAsyncExecutor;
  */
 public class JCacheEvictionTask extends EvictionTask {
 
-    private final String name;
     private final String timeoutSetName;
     private final String expiredChannelName;
     
     public JCacheEvictionTask(String name, String timeoutSetName, String expiredChannelName, CommandAsyncExecutor executor) {
-        super(executor);
-        this.name = name;
+        super(name, executor);
         this.timeoutSetName = timeoutSetName;
         this.expiredChannelName = expiredChannelName;
     }
@@ -29,7 +29,6 @@ import org.redisson.command.CommandAsyncExecutor;
  */
 public class MapCacheEvictionTask extends EvictionTask {
 
-    private final String name;
     private final String timeoutSetName;
     private final String maxIdleSetName;
     private final String expiredChannelName;
@@ -38,8 +37,7 @@ public class MapCacheEvictionTask extends EvictionTask {
     
     public MapCacheEvictionTask(String name, String timeoutSetName, String maxIdleSetName, 
             String expiredChannelName, String lastAccessTimeSetName, CommandAsyncExecutor executor) {
-        super(executor);
-        this.name = name;
+        super(name, executor);
         this.timeoutSetName = timeoutSetName;
         this.maxIdleSetName = maxIdleSetName;
         this.expiredChannelName = expiredChannelName;
@@ -47,13 +45,6 @@ public class MapCacheEvictionTask extends EvictionTask {
         this.executeTaskOnceLatchName = prefixName("redisson__execute_task_once_latch", name);
     }
 
-    protected String prefixName(String prefix, String name) {
-        if (name.contains("{")) {
-            return prefix + ":" + name;
-        }
-        return prefix + ":{" + name + "}";
-    }
-    
     @Override
     RFuture<Integer> execute() {
         int latchExpireTime = Math.min(delay, 30);
@@ -29,12 +29,10 @@ import org.redisson.command.CommandAsyncExecutor;
  */
 public class MultimapEvictionTask extends EvictionTask {
 
-    private final String name;
     private final String timeoutSetName;
     
     public MultimapEvictionTask(String name, String timeoutSetName, CommandAsyncExecutor executor) {
-        super(executor);
-        this.name = name;
+        super(name, executor);
         this.timeoutSetName = timeoutSetName;
     }
 
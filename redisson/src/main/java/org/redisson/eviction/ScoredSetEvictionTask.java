@@ -27,12 +27,10 @@ import org.redisson.command.CommandAsyncExecutor;
  */
 public class ScoredSetEvictionTask extends EvictionTask {
 
-    private final String name;
     private final long shiftInMilliseconds;
     
     public ScoredSetEvictionTask(String name, CommandAsyncExecutor executor, long shiftInMilliseconds) {
-        super(executor);
-        this.name = name;
+        super(name, executor);
         this.shiftInMilliseconds = shiftInMilliseconds;
     }
 
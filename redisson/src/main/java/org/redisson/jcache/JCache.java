@@ -177,25 +177,37 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V> {
             throw new NullPointerException();
         }
         long startTime = currentNanoTime();
-        RLock lock = getLockedLock(key);
-        try {
-            V value = getValueLocked(key);
-            if (value == null) {
-                cacheManager.getStatBean(this).addMisses(1);
-                if (config.isReadThrough()) {
-                    value = loadValue(key);
-                }
-            } else {
-                cacheManager.getStatBean(this).addGetTime(currentNanoTime() - startTime);
-                cacheManager.getStatBean(this).addHits(1);
+        Long accessTimeout = getAccessTimeout();
+        V value;
+        if (accessTimeout == 0) {
+            // entry is removed on access, synchronous listeners should be notified under lock
+            RLock lock = getLockedLock(key);
+            try {
+                value = getValueLocked(key, accessTimeout);
+            } finally {
+                lock.unlock();
             }
-            return value;
-        } finally {
-            lock.unlock();
+        } else {
+            value = getValue(key, accessTimeout);
         }
+        
+        if (value == null) {
+            cacheManager.getStatBean(this).addMisses(1);
+            if (config.isReadThrough()) {
+                value = load(key);
+            }
+        } else {
+            cacheManager.getStatBean(this).addGetTime(currentNanoTime() - startTime);
+            cacheManager.getStatBean(this).addHits(1);
+        }
+        return value;
     }
     
     V getValueLocked(K key) {
+        return getValueLocked(key, null);
+    }
+    
+    private V getValueLocked(K key, Long accessTimeout) {
         
         V value = evalWrite(getName(), codec, RedisCommands.EVAL_MAP_VALUE,
                 "local value = redis.call('hget', KEYS[1], ARGV[3]); "
@@ -219,7 +231,9 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V> {
         if (value != null) {
             List<Object> result = new ArrayList<Object>(3);
             result.add(value);
-            Long accessTimeout = getAccessTimeout();
+            if (accessTimeout == null) {
+                accessTimeout = getAccessTimeout();
+            }
 
             double syncId = PlatformDependent.threadLocalRandom().nextDouble();
             Long syncs = evalWrite(getName(), codec, RedisCommands.EVAL_LONG,
@@ -251,8 +265,14 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V> {
     }
 
     private V getValue(K key) {
-        Long accessTimeout = getAccessTimeout();
-        
+        return getValue(key, getAccessTimeout());
+    }
+    
+    /**
+     * Checks expiration, updates access time and returns value 
+     * using single script, so it doesn't require key lock.
+     */
+    private V getValue(K key, Long accessTimeout) {
         V value = evalWrite(getName(), codec, RedisCommands.EVAL_MAP_VALUE,
                 "local value = redis.call('hget', KEYS[1], ARGV[3]); "
               + "if value == false then "
@@ -580,18 +600,11 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V> {
         }
 
         long startTime = currentNanoTime();
-        boolean exists = false;
-        for (K key : keys) {
-            if (containsKey(key)) {
-                exists = true;
-            }
-        }
-        if (!exists && !config.isReadThrough()) {
+        if (keys.isEmpty()) {
             cacheManager.getStatBean(this).addGetTime(currentNanoTime() - startTime);
             return Collections.emptyMap();
         }
         
-        
         Long accessTimeout = getAccessTimeout();
         
         List<Object> args = new ArrayList<Object>(keys.size() + 2);
@@ -621,13 +634,15 @@ public class JCache<K, V> extends RedissonObject implements Cache<K, V> {
                                   + "end; "
                               + "end; "
                                   
-                              + "if accessTimeout == '0' then "
-                                  + "redis.call('hdel', KEYS[1], key); "
-                                  + "redis.call('zrem', KEYS[2], key); "
-                                  + "local msg = struct.pack('Lc0Lc0', string.len(key), key, string.len(value), value); "
-                                  + "redis.call('publish', KEYS[3], {key, value}); "
-                              + "elseif accessTimeout ~= '-1' then " 
-                                  + "redis.call('zadd', KEYS[2], accessTimeout, key); "
+                              + "if value ~= false then "
+                                  + "if accessTimeout == '0' then "
+                                      + "redis.call('hdel', KEYS[1], key); "
+                                      + "redis.call('zrem', KEYS[2], key); "
+                                      + "local msg = struct.pack('Lc0Lc0', string.len(key), key, string.len(value), value); "
+                                      + "redis.call('publish', KEYS[3], msg); "
+                                  + "elseif accessTimeout ~= '-1' then " 
+                                      + "redis.call('zadd', KEYS[2], accessTimeout, key); "
+                                  + "end; "
                               + "end; "
                           + "end; "
 
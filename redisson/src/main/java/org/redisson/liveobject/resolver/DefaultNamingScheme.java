@@ -75,7 +75,7 @@ public class DefaultNamingScheme extends AbstractNamingScheme implements NamingS
         ByteBuf b = ByteBufAllocator.DEFAULT.buffer(decode.length()/2); 
         try {
             b.writeBytes(ByteBufUtil.decodeHexDump(decode));
-            return codec.getMapKeyDecoder().decode(b, new State(false));
+            return codec.getMapKeyDecoder().decode(b, new State());
         } catch (IOException ex) {
             throw new IllegalStateException("Unable to decode [" + decode + "] into object", ex);
         } finally {
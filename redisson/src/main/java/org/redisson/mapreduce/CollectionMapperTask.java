@@ -22,7 +22,6 @@ import org.redisson.api.RSet;
 import org.redisson.api.RSetCache;
 import org.redisson.api.RSortedSet;
 import org.redisson.api.mapreduce.RCollectionMapper;
-import org.redisson.api.mapreduce.RCollector;
 import org.redisson.client.codec.Codec;
 import org.redisson.misc.Injector;
 
@@ -77,7 +76,7 @@ public class CollectionMapperTask<VIn, KOut, VOut> extends BaseMapperTask<KOut,
                 throw new IllegalStateException("Unable to work with " + objectClass);
             }
             
-            RCollector<KOut, VOut> collector = new Collector<KOut, VOut>(codec, redisson, collectorMapName, workersAmount, timeout);
+            Collector<KOut, VOut> collector = new Collector<KOut, VOut>(codec, redisson, collectorMapName, workersAmount, timeout, combiner);
             
             for (VIn value : collection) {
                 if (Thread.currentThread().isInterrupted()) {
@@ -86,6 +85,7 @@ public class CollectionMapperTask<VIn, KOut, VOut> extends BaseMapperTask<KOut,
                 
                 mapper.map(value, collector);
             }
+            collector.flush();
         }
     }
 
@@ -16,18 +16,28 @@
 package org.redisson.mapreduce;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
-import org.redisson.api.RListMultimap;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMultimapAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.mapreduce.RCollector;
+import org.redisson.api.mapreduce.RCombiner;
 import org.redisson.client.codec.Codec;
 import org.redisson.misc.Hash;
 
 import io.netty.buffer.ByteBuf;
 
 /**
+ * Buffers emitted values and stores them into partitions 
+ * using single batch once buffer is full or {@link #flush()} is invoked.
+ * Values emitted for the same key are combined if combiner is defined.
  * 
  * @author Nikita Koksharov
  *
@@ -36,6 +46,8 @@ import io.netty.buffer.ByteBuf;
  */
 public class Collector<K, V> implements RCollector<K, V> {
 
+    public static final int BUFFER_SIZE = 1000;
+    
     private RedissonClient client;
     private String name;
     private int parts;
@@ -43,31 +55,106 @@ public class Collector<K, V> implements RCollector<K, V> {
     private long timeout;
     private BitSet expirationsBitSet = new BitSet();
     
+    private final RCombiner<K, V> combiner;
+    private final Map<K, V> combinedValues = new HashMap<K, V>();
+    private final Map<K, List<V>> values = new HashMap<K, List<V>>();
+    private int valuesAmount;
+    
     public Collector(Codec codec, RedissonClient client, String name, int parts, long timeout) {
+        this(codec, client, name, parts, timeout, null);
+    }
+    
+    public Collector(Codec codec, RedissonClient client, String name, int parts, long timeout, RCombiner<K, V> combiner) {
         super();
         this.client = client;
         this.name = name;
         this.parts = parts;
         this.codec = codec;
         this.timeout = timeout;
+        this.combiner = combiner;
         expirationsBitSet = new BitSet(parts);
     }
 
     @Override
     public void emit(K key, V value) {
+        if (combiner != null) {
+            V combinedValue = combinedValues.get(key);
+            if (combinedValue != null) {
+                value = combiner.combine(key, combinedValue, value);
+            }
+            combinedValues.put(key, value);
+            if (combinedValues.size() >= BUFFER_SIZE) {
+                flush();
+            }
+            return;
+        }
+        
+        List<V> list = values.get(key);
+        if (list == null) {
+            list = new ArrayList<V>();
+            values.put(key, list);
+        }
+        list.add(value);
+        valuesAmount++;
+        if (valuesAmount >= BUFFER_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Stores all buffered values
+     */
+    public void flush() {
+        if (combinedValues.isEmpty() && values.isEmpty()) {
+            return;
+        }
+        
+        RBatch batch = client.createBatch();
+        BitSet usedParts = new BitSet(parts);
+        for (Entry<K, V> entry : combinedValues.entrySet()) {
+            RMultimapAsync<K, V> multimap = getMultimap(batch, entry.getKey(), usedParts);
+            multimap.putAsync(entry.getKey(), entry.getValue());
+        }
+        for (Entry<K, List<V>> entry : values.entrySet()) {
+            RMultimapAsync<K, V> multimap = getMultimap(batch, entry.getKey(), usedParts);
+            multimap.putAllAsync(entry.getKey(), entry.getValue());
+        }
+        
+        // expiration is set after puts, since partition may not exist yet
+        BitSet newParts = null;
+        if (timeout > 0) {
+            newParts = (BitSet) usedParts.clone();
+            newParts.andNot(expirationsBitSet);
+            for (int part = newParts.nextSetBit(0); part >= 0; part = newParts.nextSetBit(part + 1)) {
+                batch.getListMultimap(getPartName(part), codec).expireAsync(timeout, TimeUnit.MILLISECONDS);
+            }
+        }
+        batch.execute();
+        
+        if (newParts != null) {
+            expirationsBitSet.or(newParts);
+        }
+        combinedValues.clear();
+        values.clear();
+        valuesAmount = 0;
+    }
+
+    private RMultimapAsync<K, V> getMultimap(RBatch batch, K key, BitSet usedParts) {
+        int part = getPart(key);
+        usedParts.set(part);
+        return batch.getListMultimap(getPartName(part), codec);
+    }
+    
+    private String getPartName(int part) {
+        return name + ":" + part;
+    }
+
+    private int getPart(K key) {
         try {
             ByteBuf encodedKey = codec.getValueEncoder().encode(key);
             long hash = Hash.hash64(encodedKey);
             encodedKey.release();
-            int part = (int) Math.abs(hash % parts);
-            String partName = name + ":" + part;
-            
-            RListMultimap<K, V> multimap = client.getListMultimap(partName, codec);
-            multimap.put(key, value);
-            if (timeout > 0 && !expirationsBitSet.get(part)) {
-                multimap.expire(timeout, TimeUnit.MILLISECONDS);
-                expirationsBitSet.set(part);
-            }
+            return (int) Math.abs(hash % parts);
         } catch (IOException e) {
             throw new IllegalArgumentException(e);
         }
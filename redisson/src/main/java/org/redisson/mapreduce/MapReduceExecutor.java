@@ -27,6 +27,7 @@ import org.redisson.api.RMapAsync;
 import org.redisson.api.RObject;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.mapreduce.RCollator;
+import org.redisson.api.mapreduce.RCombiner;
 import org.redisson.api.mapreduce.RMapReduceExecutor;
 import org.redisson.api.mapreduce.RReducer;
 import org.redisson.client.codec.Codec;
@@ -60,6 +61,7 @@ abstract class MapReduceExecutor<M, VIn, KOut, VOut> implements RMapReduceExecut
 
     private ConnectionManager connectionManager;
     RReducer<KOut, VOut> reducer;
+    RCombiner<KOut, VOut> combiner;
     M mapper;
     long timeout;
     
@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 import org.redisson.api.RObject;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.mapreduce.RCollator;
+import org.redisson.api.mapreduce.RCombiner;
 import org.redisson.api.mapreduce.RCollectionMapReduce;
 import org.redisson.api.mapreduce.RCollectionMapper;
 import org.redisson.api.mapreduce.RReducer;
@@ -61,9 +62,17 @@ public class RedissonCollectionMapReduce<VIn, KOut, VOut> extends MapReduceExecu
         return this;
     }
 
+    @Override
+    public RCollectionMapReduce<VIn, KOut, VOut> combiner(RCombiner<KOut, VOut> combiner) {
+        check(combiner);
+        this.combiner = combiner;
+        return this;
+    }
+
     @Override
     protected Callable<Object> createTask(String resultMapName, RCollator<KOut, VOut, Object> collator) {
         CollectionMapperTask<VIn, KOut, VOut> mapperTask = new CollectionMapperTask<VIn, KOut, VOut>(mapper, objectClass, objectCodec.getClass());
+        mapperTask.setCombiner(combiner);
         return new CoordinatorTask<KOut, VOut>(mapperTask, reducer, objectName, resultMapName, objectCodec.getClass(), objectClass, collator, timeout, System.currentTimeMillis());
     }
 
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.metrics;
+
+import java.net.InetSocketAddress;
+
+import org.redisson.connection.NodeSource.Redirect;
+
+/**
+ * Listener of command execution stages.
+ * <p>
+ * Invoked from netty threads, so implementation should be fast and non-blocking.
+ * Node address is <code>null</code> if connection hasn't been obtained yet.
+ * Commands executed in batch are reported under {@link #BATCH} name.
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public interface CommandMetrics {
+
+    /**
+     * Name used to report command batch
+     */
+    String BATCH = "BATCH";
+    
+    /**
+     * Invoked when connection for command has been obtained from pool
+     * 
+     * @param command - command name
+     * @param address - node address
+     * @param timeNanos - time spent for connection acquisition in nanoseconds
+     */
+    void onConnectionAcquired(String command, InetSocketAddress address, long timeNanos);
+    
+    /**
+     * Invoked when command has been written to connection
+     * 
+     * @param command - command name
+     * @param address - node address
+     * @param timeNanos - time spent for command write in nanoseconds
+     */
+    void onCommandWritten(String command, InetSocketAddress address, long timeNanos);
+    
+    /**
+     * Invoked when command attempt has been completed and no further redirects or retries required.
+     * 
+     * @param command - command name
+     * @param address - node address
+     * @param timeNanos - time since command write till reply in nanoseconds
+     *                    or <code>-1</code> if command hasn't been written
+     * @param cause - error or <code>null</code> if command succeeded
+     */
+    void onCommandCompleted(String command, InetSocketAddress address, long timeNanos, Throwable cause);
+
+    /**
+     * Invoked when command is going to be retried
+     * 
+     * @param command - command name
+     * @param address - node address
+     */
+    void onRetry(String command, InetSocketAddress address);
+    
+    /**
+     * Invoked when command has been redirected by MOVED or ASK reply
+     * 
+     * @param command - command name
+     * @param address - address of node replied with redirect
+     * @param redirect - redirect type
+     */
+    void onRedirect(String command, InetSocketAddress address, Redirect redirect);
+    
+}
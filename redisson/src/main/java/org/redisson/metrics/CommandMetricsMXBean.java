@@ -0,0 +1,55 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.metrics;
+
+import java.util.List;
+
+/**
+ * JMX view of {@link HistogramCommandMetrics}.
+ * Latencies are in microseconds.
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public interface CommandMetricsMXBean {
+
+    /**
+     * Returns reply latency and counters per command name and node
+     * 
+     * @return statistics
+     */
+    List<CommandStatistics> getCommandStatistics();
+    
+    /**
+     * Returns connection acquisition latency per node
+     * 
+     * @return statistics
+     */
+    List<CommandStatistics> getConnectionAcquireStatistics();
+    
+    /**
+     * Returns command write latency per node
+     * 
+     * @return statistics
+     */
+    List<CommandStatistics> getWriteStatistics();
+    
+    /**
+     * Clears all collected data
+     */
+    void reset();
+    
+}
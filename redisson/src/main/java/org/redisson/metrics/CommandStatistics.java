@@ -0,0 +1,122 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Snapshot of command statistics.
+ * Latencies are in microseconds.
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public class CommandStatistics {
+
+    private final String command;
+    private final String node;
+    private final long count;
+    private final long errors;
+    private final long timeouts;
+    private final long retries;
+    private final long redirects;
+    private final long mean;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long p999;
+    private final long max;
+    
+    @ConstructorProperties({"command", "node", "count", "errors", "timeouts", "retries", "redirects", 
+                                "mean", "p50", "p90", "p99", "p999", "max"})
+    public CommandStatistics(String command, String node, long count, long errors, long timeouts, long retries,
+            long redirects, long mean, long p50, long p90, long p99, long p999, long max) {
+        super();
+        this.command = command;
+        this.node = node;
+        this.count = count;
+        this.errors = errors;
+        this.timeouts = timeouts;
+        this.retries = retries;
+        this.redirects = redirects;
+        this.mean = mean;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+    
+    public String getNode() {
+        return node;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public long getErrors() {
+        return errors;
+    }
+    
+    public long getTimeouts() {
+        return timeouts;
+    }
+    
+    public long getRetries() {
+        return retries;
+    }
+    
+    public long getRedirects() {
+        return redirects;
+    }
+    
+    public long getMean() {
+        return mean;
+    }
+    
+    public long getP50() {
+        return p50;
+    }
+    
+    public long getP90() {
+        return p90;
+    }
+    
+    public long getP99() {
+        return p99;
+    }
+    
+    public long getP999() {
+        return p999;
+    }
+    
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "CommandStatistics [command=" + command + ", node=" + node + ", count=" + count + ", errors=" + errors
+                + ", timeouts=" + timeouts + ", retries=" + retries + ", redirects=" + redirects + ", mean=" + mean
+                + ", p50=" + p50 + ", p90=" + p90 + ", p99=" + p99 + ", p999=" + p999 + ", max=" + max + "]";
+    }
+    
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.metrics;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.redisson.client.RedisTimeoutException;
+import org.redisson.connection.NodeSource.Redirect;
+
+/**
+ * Built-in {@link CommandMetrics} implementation.
+ * <p>
+ * Keeps latency histogram and counters per command name and node.
+ * Recording takes a few atomic operations and doesn't allocate memory
+ * once command and node have been seen.
+ * <p>
+ * Registered in JMX under <code>org.redisson:type=CommandMetrics</code> domain
+ * if set through {@link org.redisson.config.Config#setCommandMetrics(CommandMetrics)}.
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public class HistogramCommandMetrics implements CommandMetrics, CommandMetricsMXBean {
+
+    static final InetSocketAddress UNKNOWN_ADDRESS = InetSocketAddress.createUnresolved("unknown", 0);
+    
+    static class CommandRecorder {
+        
+        final LatencyHistogram latency = new LatencyHistogram();
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final AtomicLong timeouts = new AtomicLong();
+        final AtomicLong retries = new AtomicLong();
+        final AtomicLong redirects = new AtomicLong();
+        
+    }
+    
+    static class NodeRecorder {
+        
+        final LatencyHistogram connectionAcquire = new LatencyHistogram();
+        final LatencyHistogram write = new LatencyHistogram();
+        final ConcurrentMap<String, CommandRecorder> commands = new ConcurrentHashMap<String, CommandRecorder>();
+        
+        CommandRecorder getCommand(String command) {
+            CommandRecorder recorder = commands.get(command);
+            if (recorder == null) {
+                recorder = new CommandRecorder();
+                CommandRecorder oldRecorder = commands.putIfAbsent(command, recorder);
+                if (oldRecorder != null) {
+                    recorder = oldRecorder;
+                }
+            }
+            return recorder;
+        }
+        
+    }
+    
+    private final ConcurrentMap<InetSocketAddress, NodeRecorder> nodes = new ConcurrentHashMap<InetSocketAddress, NodeRecorder>();
+    
+    private NodeRecorder getNode(InetSocketAddress address) {
+        if (address == null) {
+            address = UNKNOWN_ADDRESS;
+        }
+        
+        NodeRecorder recorder = nodes.get(address);
+        if (recorder == null) {
+            recorder = new NodeRecorder();
+            NodeRecorder oldRecorder = nodes.putIfAbsent(address, recorder);
+            if (oldRecorder != null) {
+                recorder = oldRecorder;
+            }
+        }
+        return recorder;
+    }
+    
+    @Override
+    public void onConnectionAcquired(String command, InetSocketAddress address, long timeNanos) {
+        getNode(address).connectionAcquire.record(timeNanos);
+    }
+
+    @Override
+    public void onCommandWritten(String command, InetSocketAddress address, long timeNanos) {
+        getNode(address).write.record(timeNanos);
+    }
+
+    @Override
+    public void onCommandCompleted(String command, InetSocketAddress address, long timeNanos, Throwable cause) {
+        CommandRecorder recorder = getNode(address).getCommand(command);
+        recorder.count.incrementAndGet();
+        recorder.latency.record(timeNanos);
+        if (cause != null) {
+            recorder.errors.incrementAndGet();
+            if (cause instanceof RedisTimeoutException) {
+                recorder.timeouts.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public void onRetry(String command, InetSocketAddress address) {
+        getNode(address).getCommand(command).retries.incrementAndGet();
+    }
+
+    @Override
+    public void onRedirect(String command, InetSocketAddress address, Redirect redirect) {
+        getNode(address).getCommand(command).redirects.incrementAndGet();
+    }
+
+    @Override
+    public List<CommandStatistics> getCommandStatistics() {
+        List<CommandStatistics> result = new ArrayList<CommandStatistics>();
+        for (Map.Entry<InetSocketAddress, NodeRecorder> node : nodes.entrySet()) {
+            String nodeName = toString(node.getKey());
+            for (Map.Entry<String, CommandRecorder> entry : node.getValue().commands.entrySet()) {
+                CommandRecorder recorder = entry.getValue();
+                result.add(toStatistics(entry.getKey(), nodeName, recorder.latency, recorder.count.get(), recorder.errors.get(), 
+                                recorder.timeouts.get(), recorder.retries.get(), recorder.redirects.get()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<CommandStatistics> getConnectionAcquireStatistics() {
+        List<CommandStatistics> result = new ArrayList<CommandStatistics>();
+        for (Map.Entry<InetSocketAddress, NodeRecorder> node : nodes.entrySet()) {
+            LatencyHistogram histogram = node.getValue().connectionAcquire;
+            result.add(toStatistics(null, toString(node.getKey()), histogram, -1, 0, 0, 0, 0));
+        }
+        return result;
+    }
+
+    @Override
+    public List<CommandStatistics> getWriteStatistics() {
+        List<CommandStatistics> result = new ArrayList<CommandStatistics>();
+        for (Map.Entry<InetSocketAddress, NodeRecorder> node : nodes.entrySet()) {
+            LatencyHistogram histogram = node.getValue().write;
+            result.add(toStatistics(null, toString(node.getKey()), histogram, -1, 0, 0, 0, 0));
+        }
+        return result;
+    }
+    
+    private CommandStatistics toStatistics(String command, String node, LatencyHistogram histogram,
+            long count, long errors, long timeouts, long retries, long redirects) {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        if (count == -1) {
+            count = snapshot.getCount();
+        }
+        return new CommandStatistics(command, node, count, errors, timeouts, retries, redirects, 
+                snapshot.getMean(), snapshot.getValueAtPercentile(50), snapshot.getValueAtPercentile(90), 
+                snapshot.getValueAtPercentile(99), snapshot.getValueAtPercentile(99.9), snapshot.getMax());
+    }
+    
+    private String toString(InetSocketAddress address) {
+        if (address.getAddress() != null) {
+            return address.getAddress().getHostAddress() + ":" + address.getPort();
+        }
+        return address.getHostName() + ":" + address.getPort();
+    }
+
+    @Override
+    public void reset() {
+        nodes.clear();
+    }
+    
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets in spirit of HdrHistogram.
+ * <p>
+ * Each power of two range is split into 16 linear sub-buckets,
+ * so recorded value is reported with relative error up to ~6%.
+ * Values are stored in microseconds.
+ * 
+ * @author Nikita Koksharov
+ *
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    
+    static final int BUCKETS = 2*SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS)*SUB_BUCKETS;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+    
+    static int indexOf(long value) {
+        if (value < 2*SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return 2*SUB_BUCKETS + (exponent - SUB_BUCKET_BITS - 1)*SUB_BUCKETS + subBucket;
+    }
+    
+    static long highestValueOf(int index) {
+        if (index < 2*SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - 2*SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        int subBucket = (index - 2*SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+    
+    /**
+     * Records value
+     * 
+     * @param timeNanos - time in nanoseconds
+     */
+    public void record(long timeNanos) {
+        if (timeNanos < 0) {
+            return;
+        }
+        
+        long value = timeNanos / 1000;
+        counts.incrementAndGet(indexOf(value));
+        sum.addAndGet(value);
+        
+        long currentMax = max.get();
+        while (value > currentMax) {
+            if (max.compareAndSet(currentMax, value)) {
+                break;
+            }
+            currentMax = max.get();
+        }
+    }
+    
+    /**
+     * Returns consistent enough copy of histogram state
+     * 
+     * @return snapshot
+     */
+    public Snapshot snapshot() {
+        long[] values = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = counts.get(i);
+            count += values[i];
+        }
+        return new Snapshot(values, count, sum.get(), max.get());
+    }
+    
+    public static class Snapshot {
+        
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+        
+        Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+        
+        public long getCount() {
+            return count;
+        }
+        
+        public long getMax() {
+            return max;
+        }
+        
+        public long getMean() {
+            if (count == 0) {
+                return 0;
+            }
+            return sum / count;
+        }
+        
+        /**
+         * Returns highest value which is equal or greater 
+         * than defined percent of recorded values
+         * 
+         * @param percentile - value from 0 to 100
+         * @return value in microseconds
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            
+            long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                total += counts[i];
+                if (total >= target) {
+                    return Math.min(highestValueOf(i), max);
+                }
+            }
+            return max;
+        }
+        
+    }
+    
+}
@@ -15,24 +15,41 @@
  */
 package org.redisson.pubsub;
 
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Non-blocking semaphore. Permits are tracked by CAS counter
+ * and waiting listeners are kept in lock-free queue.
+ * <p>
+ * Listener already waiting for a permit isn't queued twice.
+ * Removed listener is only unmarked as waiting, its queue entry
+ * is skipped once polled and purged in bulk after
+ * <code>PURGE_THRESHOLD</code> removals.
  * 
  * @author Nikita Koksharov
  *
  */
 public class AsyncSemaphore {
 
-    private int counter;
-    private final Set<Runnable> listeners = new LinkedHashSet<Runnable>();
+    private static final int PURGE_THRESHOLD = 1024;
+
+    private final AtomicInteger counter;
+    private final Queue<Runnable> listeners = new ConcurrentLinkedQueue<Runnable>();
+    private final Set<Runnable> waitingListeners = Collections.newSetFromMap(new ConcurrentHashMap<Runnable, Boolean>());
+    private final AtomicInteger staleListeners = new AtomicInteger();
+    private final AtomicLong queuedAcquires = new AtomicLong();
 
     public AsyncSemaphore(int permits) {
-        counter = permits;
+        counter = new AtomicInteger(permits);
     }
     
     public boolean tryAcquire(long timeoutMillis) {
@@ -63,60 +80,99 @@ public class AsyncSemaphore {
     }
 
     public int queueSize() {
-        synchronized (this) {
-            return listeners.size();
-        }
+        return waitingListeners.size();
+    }
+    
+    /**
+     * Returns amount of acquire attempts which
+     * had to wait for a permit since creation of this semaphore.
+     * 
+     * @return amount of waited acquire attempts
+     */
+    public long getQueuedAcquires() {
+        return queuedAcquires.get();
     }
     
     public void removeListeners() {
-        synchronized (this) {
-            listeners.clear();
-        }
+        waitingListeners.clear();
+        listeners.clear();
+        staleListeners.set(0);
     }
     
     public void acquire(Runnable listener) {
-        boolean run = false;
-        
-        synchronized (this) {
-            if (counter == 0) {
-                listeners.add(listener);
-                return;
-            }
-            if (counter > 0) {
-                counter--;
-                run = true;
-            }
-        }
-        
-        if (run) {
+        if (waitingListeners.isEmpty() && tryDecrement()) {
             listener.run();
+            return;
+        }
+
+        if (!waitingListeners.add(listener)) {
+            return;
         }
+
+        queuedAcquires.incrementAndGet();
+        listeners.add(listener);
+        tryRunListeners();
     }
     
     public boolean remove(Runnable listener) {
-        synchronized (this) {
-            return listeners.remove(listener);
+        if (!waitingListeners.remove(listener)) {
+            return false;
+        }
+
+        if (staleListeners.incrementAndGet() >= PURGE_THRESHOLD) {
+            purgeStaleListeners();
+        }
+        return true;
+    }
+
+    private void purgeStaleListeners() {
+        staleListeners.set(0);
+        for (Iterator<Runnable> iterator = listeners.iterator(); iterator.hasNext();) {
+            if (!waitingListeners.contains(iterator.next())) {
+                iterator.remove();
+            }
         }
     }
 
     public int getCounter() {
-        return counter;
+        return counter.get();
     }
     
     public void release() {
-        Runnable runnable = null;
-        
-        synchronized (this) {
-            counter++;
-            Iterator<Runnable> iter = listeners.iterator();
-            if (iter.hasNext()) {
-                runnable = iter.next();
-                iter.remove();
+        counter.incrementAndGet();
+        tryRunListeners();
+    }
+
+    private boolean tryDecrement() {
+        while (true) {
+            int value = counter.get();
+            if (value <= 0) {
+                return false;
+            }
+            if (counter.compareAndSet(value, value - 1)) {
+                return true;
             }
         }
-        
-        if (runnable != null) {
-            acquire(runnable);
+    }
+
+    private void tryRunListeners() {
+        while (!listeners.isEmpty()) {
+            if (!tryDecrement()) {
+                return;
+            }
+
+            Runnable listener = listeners.poll();
+            if (listener == null || !waitingListeners.remove(listener)) {
+                // listener has been removed concurrently, give permit back
+                // and check again since new listener could be added meanwhile
+                if (listener != null) {
+                    staleListeners.decrementAndGet();
+                }
+                counter.incrementAndGet();
+                continue;
+            }
+
+            listener.run();
         }
     }
 
@@ -125,6 +181,4 @@ public class AsyncSemaphore {
         return String.valueOf(counter);
     }
     
-    
-    
 }
@@ -15,8 +15,22 @@
  */
 package org.redisson.pubsub;
 
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.redisson.RedissonLockEntry;
+import org.redisson.api.RFuture;
+import org.redisson.client.BaseRedisPubSubListener;
+import org.redisson.client.RedisPubSubListener;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.connection.PubSubConnectionEntry;
 import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+import org.redisson.misc.TransferListener;
+
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.internal.PlatformDependent;
 
 /**
  * 
@@ -27,6 +41,9 @@ public class LockPubSub extends PublishSubscribe<RedissonLockEntry> {
 
     public static final Long unlockMessage = 0L;
 
+    private final ConcurrentMap<String, RedissonLockEntry> sharedEntries = PlatformDependent.newConcurrentHashMap();
+    private final ConcurrentMap<String, RPromise<PubSubConnectionEntry>> sharedChannels = PlatformDependent.newConcurrentHashMap();
+    
     @Override
     protected RedissonLockEntry createEntry(RPromise<RedissonLockEntry> newPromise) {
         return new RedissonLockEntry(newPromise);
@@ -58,5 +75,124 @@ public class LockPubSub extends PublishSubscribe<RedissonLockEntry> {
             }
         }
     }
+    
+    public RedissonLockEntry getSharedEntry(String prefix, String channelName) {
+        return sharedEntries.get(prefix + ":" + channelName);
+    }
+    
+    /**
+     * Registers lock entry notified through shared channel.
+     * Shared channel is subscribed only once and stays subscribed,
+     * unlock messages published to it contain lock channel name.
+     * 
+     * @param prefix - prefix of entries belonging to the same client
+     * @param channelName - lock channel name
+     * @param sharedChannelName - shared channel name
+     * @param subscribeService - subscribe service
+     * @return lock entry
+     */
+    public RFuture<RedissonLockEntry> subscribeShared(final String prefix, final String channelName, final String sharedChannelName, 
+            final PublishSubscribeService subscribeService) {
+        final String entryName = prefix + ":" + channelName;
+        final AtomicReference<Runnable> listenerHolder = new AtomicReference<Runnable>();
+        final AsyncSemaphore semaphore = subscribeService.getSemaphore(entryName);
+        final RPromise<RedissonLockEntry> newPromise = new RedissonPromise<RedissonLockEntry>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return semaphore.remove(listenerHolder.get());
+            }
+        };
+
+        Runnable listener = new Runnable() {
+            @Override
+            public void run() {
+                RedissonLockEntry entry = sharedEntries.get(entryName);
+                if (entry == null) {
+                    final RedissonLockEntry value = new RedissonLockEntry(new RedissonPromise<RedissonLockEntry>());
+                    sharedEntries.put(entryName, value);
+                    subscribeShared(prefix, sharedChannelName, subscribeService).addListener(new FutureListener<PubSubConnectionEntry>() {
+                        @Override
+                        public void operationComplete(Future<PubSubConnectionEntry> future) throws Exception {
+                            if (!future.isSuccess()) {
+                                sharedEntries.remove(entryName, value);
+                                value.getPromise().tryFailure(future.cause());
+                                return;
+                            }
+                            value.getPromise().trySuccess(value);
+                        }
+                    });
+                    entry = value;
+                }
+                
+                entry.aquire();
+                semaphore.release();
+                entry.getPromise().addListener(new TransferListener<RedissonLockEntry>(newPromise));
+            }
+        };
+        semaphore.acquire(listener);
+        listenerHolder.set(listener);
+        
+        return newPromise;
+    }
+    
+    public void unsubscribeShared(final RedissonLockEntry entry, String prefix, String channelName, 
+            PublishSubscribeService subscribeService) {
+        final String entryName = prefix + ":" + channelName;
+        final AsyncSemaphore semaphore = subscribeService.getSemaphore(entryName);
+        semaphore.acquire(new Runnable() {
+            @Override
+            public void run() {
+                if (entry.release() == 0) {
+                    // entry could be already removed if subscription has failed
+                    sharedEntries.remove(entryName, entry);
+                }
+                semaphore.release();
+            }
+        });
+    }
 
+    private RFuture<PubSubConnectionEntry> subscribeShared(final String prefix, final String sharedChannelName, 
+            PublishSubscribeService subscribeService) {
+        final String key = prefix + ":" + sharedChannelName;
+        RPromise<PubSubConnectionEntry> promise = sharedChannels.get(key);
+        if (promise != null) {
+            return promise;
+        }
+        
+        final RPromise<PubSubConnectionEntry> newPromise = new RedissonPromise<PubSubConnectionEntry>();
+        promise = sharedChannels.putIfAbsent(key, newPromise);
+        if (promise != null) {
+            return promise;
+        }
+        
+        RedisPubSubListener<Object> listener = new BaseRedisPubSubListener() {
+            @Override
+            public void onMessage(String channel, Object message) {
+                if (!sharedChannelName.equals(channel)) {
+                    return;
+                }
+                
+                RedissonLockEntry entry = sharedEntries.get(prefix + ":" + message);
+                if (entry != null) {
+                    LockPubSub.this.onMessage(entry, unlockMessage);
+                }
+            }
+        };
+        
+        RFuture<PubSubConnectionEntry> future = subscribeService.subscribe(StringCodec.INSTANCE, sharedChannelName, listener);
+        future.addListener(new FutureListener<PubSubConnectionEntry>() {
+            @Override
+            public void operationComplete(Future<PubSubConnectionEntry> future) throws Exception {
+                if (!future.isSuccess()) {
+                    // next subscription attempt will try again
+                    sharedChannels.remove(key, newPromise);
+                    newPromise.tryFailure(future.cause());
+                    return;
+                }
+                newPromise.trySuccess(future.getNow());
+            }
+        });
+        return newPromise;
+    }
+    
 }
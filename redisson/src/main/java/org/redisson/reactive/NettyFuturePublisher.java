@@ -15,6 +15,8 @@
  */
 package org.redisson.reactive;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.reactivestreams.Subscriber;
 import org.redisson.api.RFuture;
 
@@ -44,8 +46,16 @@ public class NettyFuturePublisher<T> extends Stream<T> {
         try {
             subscriber.onSubscribe(new ReactiveSubscription<T>(this, subscriber) {
 
+                private final AtomicBoolean executed = new AtomicBoolean();
+                
                 @Override
                 protected void onRequest(long n) {
+                    // command should be executed only once 
+                    // regardless of amount of request calls
+                    if (!executed.compareAndSet(false, true)) {
+                        return;
+                    }
+                    
                     supplier.get().addListener(new FutureListener<T>() {
                         @Override
                         public void operationComplete(Future<T> future) throws Exception {
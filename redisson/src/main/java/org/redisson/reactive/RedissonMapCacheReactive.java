@@ -323,12 +323,12 @@ public class RedissonMapCacheReactive<K, V> extends RedissonExpirableReactive im
 
     @Override
     public Publisher<Map.Entry<K, V>> entryIterator() {
-        return new RedissonMapReactiveIterator<K, V, Map.Entry<K, V>>(this).stream();
+        return new RedissonMapReactiveIterator<K, V, Map.Entry<K, V>>(this, getIteratorPrefetchElements()).stream();
     }
 
     @Override
     public Publisher<V> valueIterator() {
-        return new RedissonMapReactiveIterator<K, V, V>(this) {
+        return new RedissonMapReactiveIterator<K, V, V>(this, getIteratorPrefetchElements()) {
             @Override
             V getValue(Entry<ScanObjectEntry, ScanObjectEntry> entry) {
                 return (V) entry.getValue().getObj();
@@ -338,7 +338,7 @@ public class RedissonMapCacheReactive<K, V> extends RedissonExpirableReactive im
 
     @Override
     public Publisher<K> keyIterator() {
-        return new RedissonMapReactiveIterator<K, V, K>(this) {
+        return new RedissonMapReactiveIterator<K, V, K>(this, getIteratorPrefetchElements()) {
             @Override
             K getValue(Entry<ScanObjectEntry, ScanObjectEntry> entry) {
                 return (K) entry.getKey().getObj();
@@ -293,17 +293,17 @@ public class RedissonMapReactive<K, V> extends RedissonExpirableReactive impleme
     }
 
     public Publisher<MapScanResult<ScanObjectEntry, ScanObjectEntry>> scanIteratorReactive(RedisClient client, long startPos) {
-        return commandExecutor.readReactive(client, getName(), new MapScanCodec(codec), RedisCommands.HSCAN, getName(), startPos);
+        return commandExecutor.readReactive(client, getName(), new MapScanCodec(codec), RedisCommands.HSCAN, getName(), startPos, "COUNT", getIteratorPageSize());
     }
 
     @Override
     public Publisher<Map.Entry<K, V>> entryIterator() {
-        return new RedissonMapReactiveIterator<K, V, Map.Entry<K, V>>(this).stream();
+        return new RedissonMapReactiveIterator<K, V, Map.Entry<K, V>>(this, getIteratorPrefetchElements()).stream();
     }
 
     @Override
     public Publisher<V> valueIterator() {
-        return new RedissonMapReactiveIterator<K, V, V>(this) {
+        return new RedissonMapReactiveIterator<K, V, V>(this, getIteratorPrefetchElements()) {
             @Override
             V getValue(Entry<ScanObjectEntry, ScanObjectEntry> entry) {
                 return (V) entry.getValue().getObj();
@@ -313,7 +313,7 @@ public class RedissonMapReactive<K, V> extends RedissonExpirableReactive impleme
 
     @Override
     public Publisher<K> keyIterator() {
-        return new RedissonMapReactiveIterator<K, V, K>(this) {
+        return new RedissonMapReactiveIterator<K, V, K>(this, getIteratorPrefetchElements()) {
             @Override
             K getValue(Entry<ScanObjectEntry, ScanObjectEntry> entry) {
                 return (K) entry.getKey().getObj();
@@ -20,13 +20,11 @@ import java.util.Map.Entry;
 
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
-import org.reactivestreams.Subscription;
 import org.redisson.client.RedisClient;
 import org.redisson.client.protocol.decoder.MapScanResult;
 import org.redisson.client.protocol.decoder.ScanObjectEntry;
 
 import reactor.rx.Stream;
-import reactor.rx.subscription.ReactiveSubscription;
 
 /**
  * 
@@ -39,9 +37,11 @@ import reactor.rx.subscription.ReactiveSubscription;
 public class RedissonMapReactiveIterator<K, V, M> {
 
     private final MapReactive<K, V> map;
+    private final int prefetchElements;
 
-    public RedissonMapReactiveIterator(MapReactive<K, V> map) {
+    public RedissonMapReactiveIterator(MapReactive<K, V> map, int prefetchElements) {
         this.map = map;
+        this.prefetchElements = prefetchElements;
     }
 
     public Publisher<M> stream() {
@@ -49,76 +49,24 @@ public class RedissonMapReactiveIterator<K, V, M> {
 
             @Override
             public void subscribe(final Subscriber<? super M> t) {
-                t.onSubscribe(new ReactiveSubscription<M>(this, t) {
-
-                    private long nextIterPos = 0;
-                    private RedisClient client;
-
-                    private long currentIndex;
+                t.onSubscribe(new ScanSubscription<M, Entry<ScanObjectEntry, ScanObjectEntry>>(t, prefetchElements) {
 
                     @Override
-                    protected void onRequest(final long n) {
-                        currentIndex = n;
-                        nextValues();
+                    protected Publisher<MapScanResult<ScanObjectEntry, ScanObjectEntry>> scanIterator(RedisClient client, long nextIterPos) {
+                        return map.scanIteratorReactive(client, nextIterPos);
                     }
-
-                    protected void nextValues() {
-                        final ReactiveSubscription<M> m = this;
-                        map.scanIteratorReactive(client, nextIterPos).subscribe(new Subscriber<MapScanResult<ScanObjectEntry, ScanObjectEntry>>() {
-
-                            @Override
-                            public void onSubscribe(Subscription s) {
-                                s.request(Long.MAX_VALUE);
-                            }
-                            
-                            @Override
-                            public void onNext(MapScanResult<ScanObjectEntry, ScanObjectEntry> res) {
-                                if (currentIndex == 0) {
-                                    client = null;
-                                    nextIterPos = 0;
-                                    return;
-                                }
-
-                                client = res.getRedisClient();
-                                nextIterPos = res.getPos();
-
-                                for (Entry<ScanObjectEntry, ScanObjectEntry> entry : res.getMap().entrySet()) {
-                                    M val = getValue(entry);
-                                    m.onNext(val);
-                                    currentIndex--;
-                                    if (currentIndex == 0) {
-                                        m.onComplete();
-                                        return;
-                                    }
-                                }
-                                
-                                if (res.getPos() == 0) {
-                                    currentIndex = 0;
-                                    m.onComplete();
-                                }
-                            }
-
-                            @Override
-                            public void onError(Throwable error) {
-                                m.onError(error);
-                            }
-
-                            @Override
-                            public void onComplete() {
-                                if (currentIndex == 0) {
-                                    return;
-                                }
-                                nextValues();
-                            }
-                        });
+                    
+                    @Override
+                    protected M getValue(Entry<ScanObjectEntry, ScanObjectEntry> entry) {
+                        return RedissonMapReactiveIterator.this.getValue(entry);
                     }
+                    
                 });
             }
 
         };
     }
 
-
     M getValue(final Entry<ScanObjectEntry, ScanObjectEntry> entry) {
         return (M)new AbstractMap.SimpleEntry<K, V>((K)entry.getKey().getObj(), (V)entry.getValue().getObj()) {
 
@@ -74,6 +74,19 @@ abstract class RedissonObjectReactive implements RObjectReactive {
         return codec;
     }
     
+    protected int getIteratorPageSize() {
+        return commandExecutor.getConnectionManager().getCfg().getReactiveIteratorPageSize();
+    }
+    
+    /**
+     * Returns amount of elements loaded ahead by reactive iterators.
+     * 
+     * @return amount of elements
+     */
+    protected int getIteratorPrefetchElements() {
+        return commandExecutor.getConnectionManager().getCfg().getIteratorPrefetchSize() * getIteratorPageSize();
+    }
+    
     protected void encode(Collection<Object> params, Collection<?> values) {
         for (Object object : values) {
             params.add(encode(object));
@@ -184,12 +184,12 @@ public class RedissonScoredSortedSetReactive<V> extends RedissonExpirableReactiv
     }
 
     private Publisher<ListScanResult<ScanObjectEntry>> scanIteratorReactive(RedisClient client, long startPos) {
-        return commandExecutor.readReactive(client, getName(), new ScanCodec(codec), RedisCommands.ZSCAN, getName(), startPos);
+        return commandExecutor.readReactive(client, getName(), new ScanCodec(codec), RedisCommands.ZSCAN, getName(), startPos, "COUNT", getIteratorPageSize());
     }
 
     @Override
     public Publisher<V> iterator() {
-        return new SetReactiveIterator<V>() {
+        return new SetReactiveIterator<V>(getIteratorPrefetchElements()) {
             @Override
             protected Publisher<ListScanResult<ScanObjectEntry>> scanIteratorReactive(RedisClient client, long nextIterPos) {
                 return RedissonScoredSortedSetReactive.this.scanIteratorReactive(client, nextIterPos);
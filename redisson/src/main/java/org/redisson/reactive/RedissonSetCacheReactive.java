@@ -108,7 +108,7 @@ public class RedissonSetCacheReactive<V> extends RedissonExpirableReactive imple
 
     @Override
     public Publisher<V> iterator() {
-        return new SetReactiveIterator<V>() {
+        return new SetReactiveIterator<V>(getIteratorPrefetchElements()) {
             @Override
             protected Publisher<ListScanResult<ScanObjectEntry>> scanIteratorReactive(RedisClient client, long nextIterPos) {
                 return RedissonSetCacheReactive.this.scanIterator(client, nextIterPos);
@@ -0,0 +1,202 @@
+/**
+ * Copyright 2018 Nikita Koksharov
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.redisson.reactive;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.redisson.ScanResult;
+import org.redisson.client.RedisClient;
+
+/**
+ * Subscription over SCAN-like command pages driven by subscriber demand.
+ * <p>
+ * Next page is loaded only if subscriber has requested more elements 
+ * than already loaded or if amount of loaded elements dropped 
+ * below <code>prefetchElements</code> watermark. Only one page is 
+ * loaded at a time and elements are emitted in serial manner.
+ * 
+ * @author Nikita Koksharov
+ *
+ * @param <V> value type
+ * @param <E> entry type
+ */
+abstract class ScanSubscription<V, E> implements Subscription {
+
+    private final Subscriber<? super V> subscriber;
+    private final int prefetchElements;
+    
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Queue<E> buffer = new ArrayDeque<E>();
+    private long demand;
+    private boolean requested;
+    private boolean fetching;
+    private boolean finished;
+    private Throwable error;
+    private volatile boolean cancelled;
+    
+    private RedisClient client;
+    private long nextIterPos;
+    
+    ScanSubscription(Subscriber<? super V> subscriber, int prefetchElements) {
+        this.subscriber = subscriber;
+        this.prefetchElements = prefetchElements;
+    }
+
+    protected abstract Publisher<? extends ScanResult<E>> scanIterator(RedisClient client, long nextIterPos);
+    
+    protected abstract V getValue(E entry);
+    
+    @Override
+    public void request(long n) {
+        synchronized (this) {
+            if (n <= 0) {
+                if (error == null) {
+                    error = new IllegalArgumentException("Amount of requested elements should be positive but was " + n);
+                }
+            } else {
+                requested = true;
+                demand += n;
+                if (demand < 0) {
+                    demand = Long.MAX_VALUE;
+                }
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        drain();
+    }
+    
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        
+        int missed = 1;
+        while (true) {
+            if (emit()) {
+                fetch();
+            }
+            
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    /*
+     * Returns true if next page should be loaded
+     */
+    private boolean emit() {
+        while (true) {
+            E entry = null;
+            Throwable cause = null;
+            synchronized (this) {
+                if (cancelled) {
+                    buffer.clear();
+                    return false;
+                }
+                
+                if (error != null) {
+                    cause = error;
+                    cancelled = true;
+                    buffer.clear();
+                } else if (demand > 0 && !buffer.isEmpty()) {
+                    entry = buffer.poll();
+                    if (demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                } else if (finished && buffer.isEmpty()) {
+                    cancelled = true;
+                } else {
+                    if (!fetching && !finished && requested
+                            && (demand > 0 || buffer.size() < prefetchElements)) {
+                        fetching = true;
+                        return true;
+                    }
+                    return false;
+                }
+            }
+            
+            if (cause != null) {
+                subscriber.onError(cause);
+                return false;
+            }
+            if (entry == null) {
+                subscriber.onComplete();
+                return false;
+            }
+            subscriber.onNext(getValue(entry));
+        }
+    }
+    
+    private void fetch() {
+        RedisClient currentClient;
+        long currentPos;
+        synchronized (this) {
+            currentClient = client;
+            currentPos = nextIterPos;
+        }
+        
+        scanIterator(currentClient, currentPos).subscribe(new Subscriber<ScanResult<E>>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(ScanResult<E> res) {
+                synchronized (ScanSubscription.this) {
+                    client = res.getRedisClient();
+                    nextIterPos = res.getPos();
+                    if (res.getPos() == 0) {
+                        finished = true;
+                    }
+                    if (!cancelled) {
+                        buffer.addAll(res.getValues());
+                    }
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                synchronized (ScanSubscription.this) {
+                    fetching = false;
+                    error = t;
+                }
+                drain();
+            }
+
+            @Override
+            public void onComplete() {
+                synchronized (ScanSubscription.this) {
+                    fetching = false;
+                }
+                drain();
+            }
+        });
+    }
+    
+}
@@ -17,13 +17,11 @@ package org.redisson.reactive;
 
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
-import org.reactivestreams.Subscription;
 import org.redisson.client.RedisClient;
 import org.redisson.client.protocol.decoder.ListScanResult;
 import org.redisson.client.protocol.decoder.ScanObjectEntry;
 
 import reactor.rx.Stream;
-import reactor.rx.subscription.ReactiveSubscription;
 
 /**
  * 
@@ -33,64 +31,26 @@ import reactor.rx.subscription.ReactiveSubscription;
  */
 public abstract class SetReactiveIterator<V> extends Stream<V> {
 
+    private final int prefetchElements;
+    
+    public SetReactiveIterator(int prefetchElements) {
+        this.prefetchElements = prefetchElements;
+    }
+    
     @Override
     public void subscribe(final Subscriber<? super V> t) {
-        t.onSubscribe(new ReactiveSubscription<V>(this, t) {
-
-            private long nextIterPos;
-            private RedisClient client;
-
-            private boolean finished;
+        t.onSubscribe(new ScanSubscription<V, ScanObjectEntry>(t, prefetchElements) {
 
             @Override
-            protected void onRequest(long n) {
-                nextValues();
+            protected Publisher<ListScanResult<ScanObjectEntry>> scanIterator(RedisClient client, long nextIterPos) {
+                return scanIteratorReactive(client, nextIterPos);
             }
-
-            protected void nextValues() {
-                final ReactiveSubscription<V> m = this;
-                scanIteratorReactive(client, nextIterPos).subscribe(new Subscriber<ListScanResult<ScanObjectEntry>>() {
-
-                    @Override
-                    public void onSubscribe(Subscription s) {
-                        s.request(Long.MAX_VALUE);
-                    }
-
-                    @Override
-                    public void onNext(ListScanResult<ScanObjectEntry> res) {
-                        if (finished) {
-                            client = null;
-                            nextIterPos = 0;
-                            return;
-                        }
-
-                        client = res.getRedisClient();
-                        nextIterPos = res.getPos();
-                        
-                        for (ScanObjectEntry val : res.getValues()) {
-                            m.onNext((V)val.getObj());
-                        }
-
-                        if (res.getPos() == 0) {
-                            finished = true;
-                            m.onComplete();
-                        }
-                    }
-
-                    @Override
-                    public void onError(Throwable error) {
-                        m.onError(error);
-                    }
-
-                    @Override
-                    public void onComplete() {
-                        if (finished) {
-                            return;
-                        }
-                        nextValues();
-                    }
-                });
+            
+            @Override
+            protected V getValue(ScanObjectEntry entry) {
+                return (V) entry.getObj();
             }
+            
         });
     }
     
@@ -15,15 +15,22 @@
  */
 package org.redisson.remote;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.redisson.misc.RPromise;
 
+import io.netty.util.internal.PlatformDependent;
+
 /**
+ * Pending responses of remote invocations mapped by request id.
+ * Each request id list is guarded by its own monitor, 
+ * so responses for different requests are correlated concurrently.
  * 
  * @author Nikita Koksharov
  *
@@ -51,7 +58,7 @@ public class ResponseEntry {
         
     }
     
-    private final Map<RequestId, List<Result>> responses = new HashMap<RequestId, List<Result>>();
+    private final ConcurrentMap<RequestId, List<Result>> responses = PlatformDependent.newConcurrentHashMap();
     private final AtomicBoolean started = new AtomicBoolean(); 
     
     public Map<RequestId, List<Result>> getResponses() {
@@ -62,4 +69,71 @@ public class ResponseEntry {
         return started;
     }
     
+    public void add(RequestId requestId, Result result, boolean insertFirst) {
+        while (true) {
+            List<Result> list = responses.get(requestId);
+            if (list == null) {
+                list = new ArrayList<Result>(3);
+                List<Result> oldList = responses.putIfAbsent(requestId, list);
+                if (oldList != null) {
+                    list = oldList;
+                }
+            }
+            
+            synchronized (list) {
+                if (responses.get(requestId) != list) {
+                    // list has been removed concurrently
+                    continue;
+                }
+                
+                if (insertFirst) {
+                    list.add(0, result);
+                } else {
+                    list.add(result);
+                }
+                return;
+            }
+        }
+    }
+    
+    public Result poll(RequestId requestId) {
+        List<Result> list = responses.get(requestId);
+        if (list == null) {
+            return null;
+        }
+        
+        synchronized (list) {
+            if (list.isEmpty()) {
+                return null;
+            }
+            
+            Result result = list.remove(0);
+            if (list.isEmpty()) {
+                responses.remove(requestId, list);
+            }
+            return result;
+        }
+    }
+    
+    public Result remove(RequestId requestId, RPromise<?> promise) {
+        List<Result> list = responses.get(requestId);
+        if (list == null) {
+            return null;
+        }
+        
+        synchronized (list) {
+            for (Iterator<Result> iterator = list.iterator(); iterator.hasNext();) {
+                Result result = iterator.next();
+                if (result.getPromise() == promise) {
+                    iterator.remove();
+                    if (list.isEmpty()) {
+                        responses.remove(requestId, list);
+                    }
+                    return result;
+                }
+            }
+            return null;
+        }
+    }
+    
 }
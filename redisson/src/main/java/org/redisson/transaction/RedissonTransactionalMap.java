@@ -106,6 +106,12 @@ public class RedissonTransactionalMap<K, V> extends RedissonMap<K, V> {
         throw new UnsupportedOperationException("mapReduce method is not supported in transaction");
     }
     
+    @Override
+    protected int getIteratorPrefetchSize() {
+        // scan results are merged with transaction state synchronously
+        return 0;
+    }
+    
     @Override
     public MapScanResult<ScanObjectEntry, ScanObjectEntry> scanIterator(String name, RedisClient client,
             long startPos, String pattern) {
@@ -155,6 +155,12 @@ public class RedissonTransactionalMapCache<K, V> extends RedissonMapCache<K, V>
         throw new UnsupportedOperationException("mapReduce method is not supported in transaction");
     }
     
+    @Override
+    protected int getIteratorPrefetchSize() {
+        // scan results are merged with transaction state synchronously
+        return 0;
+    }
+    
     @Override
     public MapScanResult<ScanObjectEntry, ScanObjectEntry> scanIterator(String name, RedisClient client,
             long startPos, String pattern) {
@@ -95,6 +95,12 @@ public class RedissonTransactionalSet<V> extends RedissonSet<V> {
         throw new UnsupportedOperationException("mapReduce method is not supported in transaction");
     }
 
+    @Override
+    protected int getIteratorPrefetchSize() {
+        // scan results are merged with transaction state synchronously
+        return 0;
+    }
+    
     @Override
     public ListScanResult<ScanObjectEntry> scanIterator(String name, RedisClient client, long startPos, String pattern) {
         checkState();
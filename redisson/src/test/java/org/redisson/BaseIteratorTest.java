@@ -0,0 +1,93 @@
+package org.redisson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.redisson.api.RFuture;
+import org.redisson.client.RedisClient;
+import org.redisson.client.protocol.decoder.ListScanResult;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+public class BaseIteratorTest {
+
+    @Test
+    public void testPrefetchWithoutAsyncIterator() {
+        final List<List<Integer>> pages = Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3), Arrays.asList(4, 5));
+        BaseIterator<Integer, Integer> iterator = new BaseIterator<Integer, Integer>(1) {
+            @Override
+            protected ScanResult<Integer> iterator(RedisClient client, long nextIterPos) {
+                int index = (int) nextIterPos;
+                long pos = 0;
+                if (index + 1 < pages.size()) {
+                    pos = index + 1;
+                }
+                return new ListScanResult<Integer>(pos, new ArrayList<Integer>(pages.get(index)));
+            }
+
+            @Override
+            protected Integer getValue(Integer entry) {
+                return entry;
+            }
+
+            @Override
+            protected void remove(Integer value) {
+            }
+        };
+
+        List<Integer> result = new ArrayList<Integer>();
+        while (iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        assertThat(result).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test(timeout = 5000)
+    public void testReadySkipsEmptyPage() {
+        final List<RPromise<ScanResult<Integer>>> promises = new ArrayList<RPromise<ScanResult<Integer>>>();
+        BaseIterator<Integer, Integer> iterator = new BaseIterator<Integer, Integer>(1) {
+            @Override
+            protected ScanResult<Integer> iterator(RedisClient client, long nextIterPos) {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            protected RFuture<? extends ScanResult<Integer>> iteratorAsync(RedisClient client, long nextIterPos) {
+                RPromise<ScanResult<Integer>> promise = new RedissonPromise<ScanResult<Integer>>();
+                promises.add(promise);
+                return promise;
+            }
+
+            @Override
+            protected Integer getValue(Integer entry) {
+                return entry;
+            }
+
+            @Override
+            protected void remove(Integer value) {
+            }
+        };
+
+        assertThat(iterator.isReady()).isFalse();
+        assertThat(promises).hasSize(1);
+
+        // empty page with non-zero cursor, like SCAN with MATCH returns
+        promises.get(0).trySuccess(new ListScanResult<Integer>(1L, new ArrayList<Integer>()));
+        assertThat(iterator.isReady()).isFalse();
+        assertThat(promises).hasSize(2);
+
+        promises.get(1).trySuccess(new ListScanResult<Integer>(0L, new ArrayList<Integer>(Arrays.asList(1, 2))));
+        assertThat(iterator.isReady()).isTrue();
+
+        List<Integer> result = new ArrayList<Integer>();
+        while (iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        assertThat(result).containsExactly(1, 2);
+    }
+
+}
@@ -22,6 +22,7 @@ import org.redisson.api.RFuture;
 import org.redisson.client.RedisClient;
 import org.redisson.client.RedisClientConfig;
 import org.redisson.client.RedisConnection;
+import org.redisson.client.RedisConnectionException;
 import org.redisson.client.RedisPubSubConnection;
 import org.redisson.client.RedisPubSubListener;
 import org.redisson.client.codec.LongCodec;
@@ -158,6 +159,70 @@ public class RedisClientTest {
         conn.sync(RedisCommands.FLUSHDB);
     }
 
+    @Test
+    public void testPipeliningLimit() throws InterruptedException, ExecutionException {
+        RedisClientConfig config = new RedisClientConfig();
+        config.setAddress(RedisRunner.getDefaultRedisServerBindAddressAndPort());
+        config.setPipeliningLimit(64);
+        RedisClient client = RedisClient.create(config);
+        RedisConnection conn = client.connect();
+
+        List<RFuture<Long>> futures = new ArrayList<RFuture<Long>>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(conn.async(StringCodec.INSTANCE, RedisCommands.INCR, "test"));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get()).isEqualTo(i + 1);
+        }
+
+        conn.sync(RedisCommands.FLUSHDB);
+        client.shutdown();
+    }
+
+    @Test
+    public void testPipelinedCommandsFailOnClose() throws InterruptedException {
+        RedisClientConfig config = new RedisClientConfig();
+        config.setAddress(RedisRunner.getDefaultRedisServerBindAddressAndPort());
+        config.setPipeliningLimit(64);
+        RedisClient client = RedisClient.create(config);
+        RedisConnection conn = client.connect();
+
+        // INCR stays in flight while BLPOP blocks the connection
+        conn.async(StringCodec.INSTANCE, RedisCommands.BLPOP_VALUE, "list", 0);
+        RFuture<Long> future = conn.async(StringCodec.INSTANCE, RedisCommands.INCR, "test");
+        Thread.sleep(200);
+        assertThat(future.isDone()).isFalse();
+
+        conn.closeAsync().syncUninterruptibly();
+        assertThat(future.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cause()).isInstanceOf(RedisConnectionException.class);
+
+        client.shutdown();
+    }
+
+    @Test
+    public void testPipeliningMixedReplies() throws InterruptedException, ExecutionException {
+        RedisClientConfig config = new RedisClientConfig();
+        config.setAddress(RedisRunner.getDefaultRedisServerBindAddressAndPort());
+        config.setPipeliningLimit(128);
+        RedisClient client = RedisClient.create(config);
+        RedisConnection conn = client.connect();
+
+        List<RFuture<Object>> futures = new ArrayList<RFuture<Object>>();
+        for (int i = 0; i < 1000; i++) {
+            conn.async(StringCodec.INSTANCE, RedisCommands.SET, "test" + i, "value" + i);
+            futures.add(conn.async(StringCodec.INSTANCE, RedisCommands.GET, "test" + i));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get()).isEqualTo("value" + i);
+        }
+
+        conn.sync(RedisCommands.FLUSHDB);
+        client.shutdown();
+    }
+
     @Test
     public void testBigRequest() throws InterruptedException, ExecutionException {
         RedisConnection conn = redisClient.connect();
@@ -3,6 +3,7 @@ package org.redisson;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -134,6 +135,44 @@ public class RedissonBatchTest extends BaseTest {
         assertThat(redisson.getBucket("A3").isExists()).isTrue();
     }
     
+    @Test
+    public void testAutoBatching() {
+        Config config = createConfig();
+        config.useSingleServer()
+                .setAutoBatchingInterval(500)
+                .setAutoBatchingSize(16);
+        RedissonClient redisson = Redisson.create(config);
+
+        List<RFuture<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(redisson.getBucket("test" + i).trySetAsync(i));
+        }
+        for (RFuture<Boolean> future : futures) {
+            assertThat(future.awaitUninterruptibly().getNow()).isTrue();
+        }
+        
+        for (int i = 0; i < 100; i++) {
+            assertThat(redisson.getBucket("test" + i).get()).isEqualTo(i);
+        }
+        assertThat(redisson.getBucket("test0").trySet(1)).isFalse();
+        
+        redisson.shutdown();
+    }
+    
+    @Test
+    public void testAutoBatchingAfterShutdown() {
+        Config config = createConfig();
+        config.useSingleServer()
+                .setAutoBatchingInterval(500)
+                .setAutoBatchingSize(16);
+        RedissonClient redisson = Redisson.create(config);
+        redisson.shutdown();
+
+        RFuture<Boolean> future = redisson.getBucket("test").trySetAsync(1);
+        assertThat(future.awaitUninterruptibly(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cause()).isInstanceOf(RedissonShutdownException.class);
+    }
+    
     @Test
     public void testBatchNPE() {
         RBatch batch = redisson.createBatch(BatchOptions.defaults());
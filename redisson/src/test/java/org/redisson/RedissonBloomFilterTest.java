@@ -1,5 +1,9 @@
 package org.redisson;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 import org.redisson.api.RBloomFilter;
 
@@ -84,4 +88,25 @@ public class RedissonBloomFilterTest extends BaseTest {
         assertThat(filter.count()).isEqualTo(2);
     }
 
+    @Test
+    public void testAddAll() {
+        RBloomFilter<String> filter = redisson.getBloomFilter("filter");
+        filter.tryInit(100000L, 0.01);
+
+        List<String> values = new ArrayList<String>();
+        for (int i = 0; i < 5000; i++) {
+            values.add("value" + i);
+        }
+
+        assertThat(filter.addAll(values)).isEqualTo(5000);
+        assertThat(filter.addAll(values)).isZero();
+        assertThat(filter.containsAll(values)).isTrue();
+        assertThat(filter.contains("value10")).isTrue();
+        assertThat(filter.count()).isBetween(4900L, 5100L);
+
+        assertThat(filter.containsEach(Arrays.asList("value1", "hflgs;jl;ao1-32471320o31803-24", "value2")))
+                    .containsExactly(true, false, true);
+        assertThat(filter.containsAll(Arrays.asList("value1", "hflgs;jl;ao1-32471320o31803-24"))).isFalse();
+    }
+
 }
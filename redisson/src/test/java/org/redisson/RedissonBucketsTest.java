@@ -1,13 +1,20 @@
 package org.redisson;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.redisson.ClusterRunner.ClusterProcesses;
+import org.redisson.RedisRunner.FailedToStartRedisException;
 import org.redisson.api.RBucket;
+import org.redisson.api.RBuckets;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
 
 public class RedissonBucketsTest extends BaseTest {
 
@@ -64,5 +71,52 @@ public class RedissonBucketsTest extends BaseTest {
         assertThat(r3.get()).isEqualTo(2);
     }
 
+    @Test
+    public void testCluster() throws FailedToStartRedisException, IOException, InterruptedException {
+        RedisRunner master1 = new RedisRunner().randomPort().randomDir().nosave();
+        RedisRunner master2 = new RedisRunner().randomPort().randomDir().nosave();
+        RedisRunner master3 = new RedisRunner().randomPort().randomDir().nosave();
+        RedisRunner slave1 = new RedisRunner().randomPort().randomDir().nosave();
+        RedisRunner slave2 = new RedisRunner().randomPort().randomDir().nosave();
+        RedisRunner slave3 = new RedisRunner().randomPort().randomDir().nosave();
+
+        ClusterRunner clusterRunner = new ClusterRunner()
+                .addNode(master1, slave1)
+                .addNode(master2, slave2)
+                .addNode(master3, slave3);
+        ClusterProcesses process = clusterRunner.run();
+        
+        Config config = new Config();
+        config.useClusterServers()
+        .addNodeAddress(process.getNodes().stream().findAny().get().getRedisServerAddressAndPort());
+        RedissonClient redisson = Redisson.create(config);
+        
+        RBuckets buckets = redisson.getBuckets();
+        Map<String, Integer> values = new HashMap<String, Integer>();
+        String[] keys = new String[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "test" + i;
+            values.put(keys[i], i);
+        }
+        buckets.set(values);
+        
+        Map<String, Integer> result = buckets.get(keys);
+        assertThat(result).isEqualTo(values);
+        assertThat(result.keySet()).containsExactly(keys);
+        
+        Map<String, Integer> newValues = new HashMap<String, Integer>();
+        newValues.put("new1", 1);
+        newValues.put("new2", 2);
+        newValues.put("test10", 10);
+        assertThat(buckets.trySet(newValues)).isFalse();
+        assertThat(buckets.get("new1", "new2")).isEmpty();
+        
+        newValues.remove("test10");
+        assertThat(buckets.trySet(newValues)).isTrue();
+        assertThat(buckets.get("new1", "new2")).containsOnly(entry("new1", 1), entry("new2", 2));
+        
+        redisson.shutdown();
+        process.shutdown();
+    }
     
 }
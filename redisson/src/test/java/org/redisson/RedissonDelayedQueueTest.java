@@ -2,7 +2,11 @@ package org.redisson;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
@@ -46,6 +50,45 @@ public class RedissonDelayedQueueTest extends BaseTest {
         assertThat(blockingFairQueue.isEmpty()).isTrue();
     }
 
+    @Test
+    public void testOfferAll() throws InterruptedException {
+        RBlockingQueue<Integer> blockingQueue = redisson.getBlockingQueue("delay_queue");
+        RDelayedQueue<Integer> delayedQueue = redisson.getDelayedQueue(blockingQueue);
+        
+        List<Integer> values = new ArrayList<Integer>();
+        for (int i = 0; i < 2500; i++) {
+            values.add(i);
+        }
+        delayedQueue.offerAll(values, 1, TimeUnit.SECONDS);
+        assertThat(delayedQueue.size()).isEqualTo(2500);
+        assertThat(blockingQueue.isEmpty()).isTrue();
+        
+        Thread.sleep(3000);
+        
+        assertThat(delayedQueue.isEmpty()).isTrue();
+        assertThat(blockingQueue.readAll()).containsExactlyInAnyOrderElementsOf(values);
+        
+        delayedQueue.destroy();
+    }
+
+    @Test
+    public void testOfferAllMap() throws InterruptedException {
+        RBlockingQueue<String> blockingQueue = redisson.getBlockingQueue("delay_queue");
+        RDelayedQueue<String> delayedQueue = redisson.getDelayedQueue(blockingQueue);
+        
+        Map<String, Long> values = new LinkedHashMap<String, Long>();
+        values.put("3", 3000L);
+        values.put("1", 1000L);
+        values.put("2", 2000L);
+        delayedQueue.offerAll(values, TimeUnit.MILLISECONDS);
+        assertThat(delayedQueue.readAll()).containsExactly("3", "1", "2");
+        
+        assertThat(blockingQueue.poll(2, TimeUnit.SECONDS)).isEqualTo("1");
+        assertThat(blockingQueue.poll(2, TimeUnit.SECONDS)).isEqualTo("2");
+        assertThat(blockingQueue.poll(2, TimeUnit.SECONDS)).isEqualTo("3");
+        
+        delayedQueue.destroy();
+    }
     
     @Test
     public void testDealyedQueueRetainAll() {
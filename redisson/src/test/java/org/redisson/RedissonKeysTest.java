@@ -52,6 +52,20 @@ public class RedissonKeysTest extends BaseTest {
         assertThat(redisson.getKeys().getType("test1")).isNull();
     }
     
+    @Test
+    public void testKeysByPatternParallel() {
+        for (int i = 0; i < 1000; i++) {
+            redisson.getBucket("test" + i).set(i);
+        }
+        redisson.getBucket("other").set(1);
+        
+        Set<String> keys = new HashSet<>();
+        for (String key : redisson.getKeys().getKeysByPatternParallel("test*", 10)) {
+            assertThat(keys.add(key)).isTrue();
+        }
+        assertThat(keys).hasSize(1000).doesNotContain("other");
+    }
+    
     @Test
     public void testEmptyKeys() {
         Iterable<String> keysIterator = redisson.getKeys().getKeysByPattern("test*", 10);
@@ -87,6 +101,12 @@ public class RedissonKeysTest extends BaseTest {
         
         assertThat(redisson.getKeys().count()).isEqualTo(size);
         
+        Set<String> parallelKeys = new HashSet<>();
+        for (String key : redisson.getKeys().getKeysByPatternParallel("test*", 100)) {
+            parallelKeys.add(key);
+        }
+        assertThat(parallelKeys).hasSize(size);
+        
         Long noOfKeysDeleted = 0L;
             int chunkSize = 20;
             Iterable<String> keysIterator = redisson.getKeys().getKeysByPattern("test*", chunkSize);
@@ -0,0 +1,88 @@
+package org.redisson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.redisson.RedissonLocalCachedMap.CacheValue;
+import org.redisson.api.LocalCachedMapOptions;
+import org.redisson.api.LocalCachedMapOptions.EvictionPolicy;
+import org.redisson.api.RLocalCachedMapCache;
+import org.redisson.api.RMapCache;
+import org.redisson.cache.Cache;
+import org.redisson.cache.CacheKey;
+
+import mockit.Deencapsulation;
+
+public class RedissonLocalCachedMapCacheTest extends BaseTest {
+
+    private final LocalCachedMapOptions<String, Integer> options = 
+            LocalCachedMapOptions.<String, Integer>defaults().evictionPolicy(EvictionPolicy.LRU).cacheSize(10);
+    
+    @Test
+    public void testLocalTTL() throws InterruptedException {
+        RLocalCachedMapCache<String, Integer> map = redisson.getLocalCachedMapCache("test", options);
+        Cache<CacheKey, CacheValue> cache = Deencapsulation.getField(map, "cache");
+        
+        map.put("1", 1, 500, TimeUnit.MILLISECONDS);
+        map.put("2", 2);
+        assertThat(map.get("1")).isEqualTo(1);
+        assertThat(map.get("2")).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+        
+        Thread.sleep(600);
+        
+        assertThat(cache.keySet()).hasSize(1);
+        assertThat(map.get("1")).isNull();
+        assertThat(map.get("2")).isEqualTo(2);
+    }
+    
+    @Test
+    public void testLocalMaxIdle() throws InterruptedException {
+        RLocalCachedMapCache<String, Integer> map = redisson.getLocalCachedMapCache("test", options);
+        Cache<CacheKey, CacheValue> cache = Deencapsulation.getField(map, "cache");
+        
+        map.put("1", 1, 0, null, 500, TimeUnit.MILLISECONDS);
+        assertThat(map.get("1")).isEqualTo(1);
+        Thread.sleep(300);
+        // served locally, so idle time in Redis isn't updated
+        assertThat(map.get("1")).isEqualTo(1);
+        Thread.sleep(300);
+        
+        assertThat(cache.keySet()).isEmpty();
+        assertThat(map.get("1")).isNull();
+    }
+    
+    @Test
+    public void testInvalidation() throws InterruptedException {
+        RLocalCachedMapCache<String, Integer> map1 = redisson.getLocalCachedMapCache("test", options);
+        RLocalCachedMapCache<String, Integer> map2 = redisson.getLocalCachedMapCache("test", options);
+        Cache<CacheKey, CacheValue> cache2 = Deencapsulation.getField(map2, "cache");
+        RMapCache<String, Integer> plainMap = redisson.getMapCache("test");
+        
+        map1.put("1", 1, 10, TimeUnit.SECONDS);
+        map1.put("2", 2, 10, TimeUnit.SECONDS);
+        assertThat(map2.get("1")).isEqualTo(1);
+        assertThat(map2.get("2")).isEqualTo(2);
+        assertThat(cache2.size()).isEqualTo(2);
+        
+        map1.put("1", 3);
+        plainMap.remove("2");
+        Thread.sleep(100);
+        
+        assertThat(cache2.size()).isZero();
+        assertThat(map2.get("1")).isEqualTo(3);
+        assertThat(map2.get("2")).isNull();
+        
+        map1.delete();
+        Thread.sleep(100);
+        
+        assertThat(cache2.size()).isZero();
+        assertThat(map2.get("1")).isNull();
+        
+        map1.destroy();
+        map2.destroy();
+    }
+    
+}
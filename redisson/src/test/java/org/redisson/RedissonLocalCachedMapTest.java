@@ -396,6 +396,24 @@ public class RedissonLocalCachedMapTest extends BaseMapTest {
         assertThat(map.values()).containsOnly(1, 2, 3, 4, 5, 6);
     }
     
+    @Test
+    public void testWTinyLFU() {
+        RLocalCachedMap<String, Integer> map = redisson.getLocalCachedMap("test", LocalCachedMapOptions.<String, Integer>defaults().evictionPolicy(EvictionPolicy.W_TINY_LFU).cacheSize(5));
+        Cache<CacheKey, CacheValue> cache = Deencapsulation.getField(map, "cache");
+
+        map.put("12", 1);
+        map.put("14", 2);
+        map.put("15", 3);
+        map.put("16", 4);
+        map.put("17", 5);
+        map.put("18", 6);
+        
+        assertThat(cache.size()).isEqualTo(5);
+        assertThat(map.size()).isEqualTo(6);
+        assertThat(map.keySet()).containsOnly("12", "14", "15", "16", "17", "18");
+        assertThat(map.values()).containsOnly(1, 2, 3, 4, 5, 6);
+    }
+    
     @Test
     public void testLRU() {
         RLocalCachedMap<String, Integer> map = redisson.getLocalCachedMap("test", LocalCachedMapOptions.<String, Integer>defaults().evictionPolicy(EvictionPolicy.LRU).cacheSize(5));
@@ -2,6 +2,8 @@ package org.redisson;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -11,6 +13,8 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.redisson.connection.LockRenewalScheduler;
 
 import static org.awaitility.Awaitility.*;
 
@@ -308,4 +312,76 @@ public class RedissonLockTest extends BaseConcurrentTest {
         Assert.assertEquals(iterations, lockedCounter.get());
     }
 
+    @Test
+    public void testSharedChannels() throws InterruptedException {
+        Config config = createConfig();
+        config.setSharedLockChannels(true);
+        RedissonClient r1 = Redisson.create(config);
+        RedissonClient r2 = Redisson.create(config);
+
+        RLock lock1 = r1.getLock("lock1");
+        RLock lock2 = r1.getLock("lock2");
+        lock1.lock();
+        lock2.lock();
+
+        CountDownLatch latch1 = new CountDownLatch(1);
+        CountDownLatch latch2 = new CountDownLatch(1);
+        Thread t1 = new Thread(() -> {
+            r2.getLock("lock1").lock();
+            latch1.countDown();
+            r2.getLock("lock1").unlock();
+        });
+        Thread t2 = new Thread(() -> {
+            RLock lock = r2.getReadWriteLock("rwlock").writeLock();
+            lock.lock();
+            lock.unlock();
+            r2.getLock("lock2").lock();
+            latch2.countDown();
+            r2.getLock("lock2").unlock();
+        });
+        t1.start();
+        t2.start();
+
+        Thread.sleep(500);
+        lock1.unlock();
+        // woken up by unlock message, not by lock expiration
+        assertThat(latch1.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(latch2.getCount()).isEqualTo(1);
+
+        lock2.unlock();
+        assertThat(latch2.await(2, TimeUnit.SECONDS)).isTrue();
+
+        t1.join();
+        t2.join();
+        r1.shutdown();
+        r2.shutdown();
+    }
+
+    @Test
+    public void testBatchedRenewal() throws InterruptedException {
+        Config config = createConfig();
+        config.setLockWatchdogTimeout(1000);
+        RedissonClient r = Redisson.create(config);
+
+        List<RLock> locks = new ArrayList<RLock>();
+        for (int i = 0; i < 200; i++) {
+            RLock lock = r.getLock("lock" + i);
+            lock.lock();
+            locks.add(lock);
+        }
+
+        Thread.sleep(3000);
+
+        LockRenewalScheduler scheduler = ((Redisson) r).getConnectionManager().getRenewalScheduler();
+        assertThat(scheduler.getScheduledLocks()).isEqualTo(200);
+        assertThat(scheduler.getRenewals()).isGreaterThanOrEqualTo(200);
+        for (RLock lock : locks) {
+            assertThat(lock.isLocked()).isTrue();
+            lock.unlock();
+        }
+        assertThat(scheduler.getScheduledLocks()).isZero();
+
+        r.shutdown();
+    }
+
 }
@@ -23,6 +23,7 @@ import org.junit.Test;
 import org.redisson.api.MapOptions;
 import org.redisson.api.RMap;
 import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
 import org.redisson.api.map.event.EntryCreatedListener;
 import org.redisson.api.map.event.EntryEvent;
 import org.redisson.api.map.event.EntryExpiredListener;
@@ -32,6 +33,9 @@ import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.DoubleCodec;
 import org.redisson.client.codec.LongCodec;
 import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import org.redisson.eviction.EvictionScheduler;
+import org.redisson.eviction.EvictionTask;
 
 public class RedissonMapCacheTest extends BaseMapTest {
 
@@ -585,6 +589,90 @@ public class RedissonMapCacheTest extends BaseMapTest {
 
     }
 
+    @Test
+    public void testAccessTimeFlush() throws InterruptedException {
+        MapOptions<String, String> options = MapOptions.<String, String>defaults().accessTimeFlushInterval(100, TimeUnit.MILLISECONDS);
+        RMapCache<String, String> map = redisson.getMapCache("simple", options);
+        map.put("1", "a", 0, null, 500, TimeUnit.MILLISECONDS);
+        map.put("2", "b", 0, null, 500, TimeUnit.MILLISECONDS);
+        
+        for (int i = 0; i < 6; i++) {
+            assertThat(map.get("1")).isEqualTo("a");
+            Thread.sleep(200);
+        }
+        assertThat(map.get("1")).isEqualTo("a");
+        assertThat(map.get("2")).isNull();
+        
+        Thread.sleep(700);
+        assertThat(map.get("1")).isNull();
+    }
+    
+    @Test
+    public void testSchedulerLease() throws InterruptedException {
+        RedissonClient r2 = createInstance();
+
+        RMapCache<String, String> map1 = redisson.getMapCache("leaseMap");
+        RMapCache<String, String> map2 = r2.getMapCache("leaseMap");
+        for (int i = 0; i < 10; i++) {
+            map1.put("" + i, "" + i, 1, TimeUnit.SECONDS);
+        }
+
+        Thread.sleep(7000);
+
+        assertThat(map2.size()).isZero();
+
+        EvictionScheduler scheduler1 = ((Redisson) redisson).getEvictionScheduler();
+        EvictionScheduler scheduler2 = ((Redisson) r2).getEvictionScheduler();
+        EvictionTask task1 = scheduler1.getTask("leaseMap");
+        EvictionTask task2 = scheduler2.getTask("leaseMap");
+        assertThat(task1.isOwner() ^ task2.isOwner()).isTrue();
+        assertThat(task1.getEvictedKeys() + task2.getEvictedKeys()).isEqualTo(10);
+        assertThat(task1.getRuns() + task2.getRuns()).isEqualTo(1);
+
+        r2.shutdown();
+    }
+
+    @Test
+    public void testSchedulerPassiveTask() throws InterruptedException {
+        Config config = createConfig();
+        config.setEvictionMaxTasks(1);
+        RedissonClient r = Redisson.create(config);
+        EvictionScheduler scheduler = ((Redisson) r).getEvictionScheduler();
+        
+        RMapCache<String, String> map1 = r.getMapCache("passiveMap1");
+        RMapCache<String, String> map2 = r.getMapCache("passiveMap2");
+        map1.put("1", "1", 1, TimeUnit.SECONDS);
+        map2.put("1", "1", 1, TimeUnit.SECONDS);
+        map2.put("2", "2", 1, TimeUnit.SECONDS);
+        
+        // active task which hasn't run yet isn't replaced
+        assertThat(scheduler.getTasks()).isEqualTo(2);
+        assertThat(scheduler.getActiveTasks()).isEqualTo(1);
+        assertThat(scheduler.getTask("passiveMap1").isPassive()).isFalse();
+        assertThat(scheduler.getTask("passiveMap2").isPassive()).isTrue();
+        
+        Thread.sleep(7000);
+        
+        assertThat(map1.size()).isZero();
+        assertThat(map2.size()).isZero();
+        
+        EvictionTask task1 = scheduler.getTask("passiveMap1");
+        assertThat(task1.getEvictedKeys()).isEqualTo(1);
+        assertThat(task1.isOwner()).isTrue();
+        assertThat(task1.isPassive()).isFalse();
+        
+        // passive task evicts once per run, but stays passive 
+        // since active task isn't idle and doesn't keep the lease
+        EvictionTask task2 = scheduler.getTask("passiveMap2");
+        assertThat(task2.getEvictedKeys()).isEqualTo(2);
+        assertThat(task2.isPassive()).isTrue();
+        assertThat(task2.isOwner()).isFalse();
+        assertThat(scheduler.getTasks()).isEqualTo(2);
+        assertThat(scheduler.getActiveTasks()).isEqualTo(1);
+        
+        r.shutdown();
+    }
+
     @Test
     public void testPutGetTTL() throws InterruptedException {
         RMapCache<SimpleKey, SimpleValue> map = redisson.getMapCache("simple04");
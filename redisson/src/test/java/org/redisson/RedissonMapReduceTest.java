@@ -15,15 +15,18 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.redisson.api.RExecutorService;
 import org.redisson.api.RFuture;
+import org.redisson.api.RListMultimap;
 import org.redisson.api.RMap;
 import org.redisson.api.RMapCache;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.annotation.RInject;
 import org.redisson.api.mapreduce.RCollator;
 import org.redisson.api.mapreduce.RCollector;
+import org.redisson.api.mapreduce.RCombiner;
 import org.redisson.api.mapreduce.RMapReduce;
 import org.redisson.api.mapreduce.RMapper;
 import org.redisson.api.mapreduce.RReducer;
+import org.redisson.mapreduce.Collector;
 import org.redisson.mapreduce.MapReduceTimeoutException;
 
 @RunWith(Parameterized.class)
@@ -205,6 +208,15 @@ public class RedissonMapReduceTest extends BaseTest {
         
     }
     
+    public static class WordCombiner implements RCombiner<String, Integer> {
+
+        @Override
+        public Integer combine(String key, Integer value, Integer newValue) {
+            return value + newValue;
+        }
+        
+    }
+    
     public static class WordReducerInject implements RReducer<String, Integer> {
 
         @RInject
@@ -242,6 +254,53 @@ public class RedissonMapReduceTest extends BaseTest {
         
     }
 
+    @Test
+    public void testCombiner() {
+        RMap<String, String> map = getMap();
+        for (int i = 0; i < 3000; i++) {
+            map.put("" + i, "Alice was beginning to get very tired Alice");
+        }
+        
+        Map<String, Integer> result = new HashMap<>();
+        result.put("Alice", 6000);
+        result.put("was", 3000);
+        result.put("beginning", 3000);
+        result.put("to", 3000);
+        result.put("get", 3000);
+        result.put("very", 3000);
+        result.put("tired", 3000);
+        
+        RMapReduce<String, String, String, Integer> mapReduce = map.<String, Integer>mapReduce()
+                                                                    .mapper(new WordMapper())
+                                                                    .combiner(new WordCombiner())
+                                                                    .reducer(new WordReducer());
+        assertThat(mapReduce.execute()).isEqualTo(result);
+        
+        RMapReduce<String, String, String, Integer> plainMapReduce = map.<String, Integer>mapReduce()
+                                                                    .mapper(new WordMapper())
+                                                                    .reducer(new WordReducer());
+        assertThat(plainMapReduce.execute()).isEqualTo(result);
+    }
+    
+    @Test
+    public void testCollectorExpiration() {
+        Collector<String, Integer> collector = new Collector<String, Integer>(redisson.getConfig().getCodec(), redisson, "collector", 2, 60000);
+        for (int i = 0; i < 10; i++) {
+            collector.emit("" + i, i);
+        }
+        collector.flush();
+        
+        int storedParts = 0;
+        for (int part = 0; part < 2; part++) {
+            RListMultimap<String, Integer> multimap = redisson.getListMultimap("collector:" + part);
+            if (multimap.size() > 0) {
+                assertThat(multimap.remainTimeToLive()).isPositive();
+                storedParts++;
+            }
+        }
+        assertThat(storedParts).isPositive();
+    }
+    
     @Test
     public void testCollatorTimeout() {
         RMap<String, String> map = getMap();
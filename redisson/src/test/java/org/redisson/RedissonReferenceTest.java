@@ -1,7 +1,9 @@
 package org.redisson;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import static org.junit.Assert.*;
 import org.junit.Test;
@@ -233,4 +235,27 @@ public class RedissonReferenceTest extends BaseTest {
         assertNotEquals(1, redisson.getKeys().count());
         assertEquals(3, redisson.getKeys().count());
     }
+
+    @Test
+    public void testReadAllMapWithReference() {
+        int size = 1000;
+        Map<String, Object> values = new HashMap<String, Object>();
+        for (int i = 0; i < size; i++) {
+            values.put("key" + i, "value" + i);
+        }
+        RMap<String, Object> map = redisson.getMap("map");
+        map.putAll(values);
+        assertEquals(values, map.readAllMap());
+        
+        RBucket<String> bucket = redisson.getBucket("bucket");
+        bucket.set("test");
+        map.put("key0", bucket);
+        
+        Map<String, Object> result = map.readAllMap();
+        assertEquals(size, result.size());
+        assertEquals("bucket", ((RBucket<String>) result.get("key0")).getName());
+        assertEquals("test", ((RBucket<String>) result.get("key0")).get());
+        assertEquals("value1", result.get("key1"));
+    }
+    
 }
@@ -250,6 +250,24 @@ public class RedissonRemoteServiceTest extends BaseTest {
         remoteService.deregister(RemoteInterface.class);
     }
 
+
+    @Test
+    public void testConcurrentAsyncInvocations() {
+        RRemoteService remoteService = redisson.getRemoteService();
+        remoteService.register(RemoteInterface.class, new RemoteImpl(), 8);
+        RemoteInterfaceAsync service = redisson.getRemoteService().get(RemoteInterfaceAsync.class);
+
+        int iterations = 5000;
+        List<RFuture<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < iterations; i++) {
+            futures.add(service.resultMethod((long) i));
+        }
+        for (int i = 0; i < iterations; i++) {
+            assertThat(futures.get(i).syncUninterruptibly().getNow()).isEqualTo(i * 2L);
+        }
+        
+        remoteService.deregister(RemoteInterface.class);
+    }
     
     @Test
     public void testCancelAsync() throws InterruptedException {
@@ -0,0 +1,108 @@
+package org.redisson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.Test;
+import org.redisson.api.RScoredPriorityQueue;
+import org.redisson.api.ScoreExtractor;
+
+public class RedissonScoredPriorityQueueTest extends BaseTest {
+
+    private static final ScoreExtractor<Integer> INTEGER_SCORE = new ScoreExtractor<Integer>() {
+        @Override
+        public double getScore(Integer value) {
+            return value;
+        }
+    };
+
+    @Test
+    public void testOfferPoll() {
+        RScoredPriorityQueue<Integer> queue = redisson.getScoredPriorityQueue("queue", INTEGER_SCORE);
+        assertThat(queue.offer(5)).isTrue();
+        assertThat(queue.offer(1)).isTrue();
+        assertThat(queue.offer(3)).isTrue();
+        assertThat(queue.offer(3)).isFalse();
+
+        assertThat(queue.peek()).isEqualTo(1);
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(5);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.peek()).isNull();
+    }
+
+    @Test
+    public void testReverseOrder() {
+        RScoredPriorityQueue<Integer> queue = redisson.getScoredPriorityQueue("queue", new ScoreExtractor<Integer>() {
+            @Override
+            public double getScore(Integer value) {
+                return -value;
+            }
+        });
+        queue.addAll(Arrays.asList(1, 4, 2, 3));
+
+        assertThat(queue).containsExactly(4, 3, 2, 1);
+        assertThat(queue.readAll()).containsExactly(4, 3, 2, 1);
+    }
+
+    @Test
+    public void testAddAll() {
+        RScoredPriorityQueue<Integer> queue = redisson.getScoredPriorityQueue("queue", INTEGER_SCORE);
+        assertThat(queue.addAll(Arrays.asList(3, 1, 2))).isTrue();
+        assertThat(queue.addAll(Arrays.asList(3, 1))).isFalse();
+
+        assertThat(queue).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void testContainsRemove() {
+        RScoredPriorityQueue<Integer> queue = redisson.getScoredPriorityQueue("queue", INTEGER_SCORE);
+        queue.add(2);
+        queue.add(1);
+
+        assertThat(queue.contains(2)).isTrue();
+        assertThat(queue.contains(3)).isFalse();
+        assertThat(queue.remove((Object) 2)).isTrue();
+        assertThat(queue.remove()).isEqualTo(1);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testRemoveEmpty() {
+        RScoredPriorityQueue<Integer> queue = redisson.getScoredPriorityQueue("queue", INTEGER_SCORE);
+        queue.remove();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testElementEmpty() {
+        RScoredPriorityQueue<Integer> queue = redisson.getScoredPriorityQueue("queue", INTEGER_SCORE);
+        queue.element();
+    }
+
+    @Test
+    public void testInsertOrder() {
+        Set<Integer> values = new TreeSet<Integer>();
+        RScoredPriorityQueue<Integer> queue = redisson.getScoredPriorityQueue("queue", INTEGER_SCORE);
+        for (int i = 0; i < 2000; i++) {
+            int value = ThreadLocalRandom.current().nextInt(1000000);
+            assertThat(queue.add(value)).isEqualTo(values.add(value));
+        }
+        assertThat(queue.size()).isEqualTo(values.size());
+
+        List<Integer> polled = new ArrayList<Integer>();
+        Integer value;
+        while ((value = queue.poll()) != null) {
+            polled.add(value);
+        }
+        assertThat(polled).containsExactlyElementsOf(values);
+    }
+
+}
@@ -1,16 +1,23 @@
 package org.redisson;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import static org.assertj.core.api.Assertions.*;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.redisson.api.RSetReactive;
 
 public class RedissonSetReactiveTest extends BaseReactiveTest {
@@ -125,6 +132,55 @@ public class RedissonSetReactiveTest extends BaseReactiveTest {
         checkIterator(set, setCopy);
     }
 
+    @Test
+    public void testIteratorBackpressure() throws InterruptedException {
+        RSetReactive<Long> set = redisson.getSet("set");
+        for (int i = 0; i < 1000; i++) {
+            sync(set.add(Long.valueOf(i)));
+        }
+
+        final List<Long> values = Collections.synchronizedList(new ArrayList<Long>());
+        final AtomicReference<Subscription> subscription = new AtomicReference<Subscription>();
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        set.iterator().subscribe(new Subscriber<Long>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+                s.request(5);
+            }
+
+            @Override
+            public void onNext(Long value) {
+                values.add(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                error.set(t);
+                completed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        assertThat(completed.await(500, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(error.get()).isNull();
+        assertThat(values).hasSize(5);
+
+        subscription.get().request(10);
+        assertThat(completed.await(500, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(values).hasSize(15);
+
+        subscription.get().request(Long.MAX_VALUE);
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(error.get()).isNull();
+        assertThat(new HashSet<Long>(values)).hasSize(1000);
+    }
+
     private void checkIterator(RSetReactive<Long> set, Set<Long> setCopy) {
         for (Iterator<Long> iterator = toIterator(set.iterator()); iterator.hasNext();) {
             Long value = iterator.next();
@@ -302,6 +302,34 @@ public class RedissonSetTest extends BaseTest {
         assertThat(set).contains(7);
     }
 
+    @Test
+    public void testIteratorPrefetch() {
+        for (int prefetchSize : new int[] {0, 1, 5}) {
+            Config config = createConfig();
+            config.setIteratorPrefetchSize(prefetchSize);
+            RedissonClient client = Redisson.create(config);
+            
+            RSet<Integer> set = client.getSet("set-" + prefetchSize);
+            for (int i = 0; i < 5000; i++) {
+                set.add(i);
+            }
+            
+            Set<Integer> values = new HashSet<Integer>();
+            for (Iterator<Integer> iterator = set.iterator(); iterator.hasNext();) {
+                Integer value = iterator.next();
+                assertThat(values.add(value)).isTrue();
+                if (value % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+            assertThat(values).hasSize(5000);
+            assertThat(set).hasSize(2500);
+            
+            set.delete();
+            client.shutdown();
+        }
+    }
+    
     @Test
     public void testIteratorRemove() {
         Set<String> list = redisson.getSet("list");
@@ -0,0 +1,92 @@
+package org.redisson.client.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.CommandData;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.misc.RPromise;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+
+public class CommandDecoderTest {
+
+    private static final int SEGMENT_SIZE = 1460;
+    
+    @Test
+    public void testReplyByteByByte() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandsQueue(), new CommandDecoder());
+        RPromise<Map<Object, Object>> promise = new RedissonPromise<Map<Object, Object>>();
+        channel.writeAndFlush(new CommandData<Map<Object, Object>, Map<Object, Object>>(promise, StringCodec.INSTANCE, RedisCommands.HGETALL, new Object[] {"map"}));
+
+        byte[] reply = "*4\r\n$2\r\nk1\r\n$2\r\nv1\r\n$2\r\nk2\r\n$-1\r\n".getBytes(CharsetUtil.UTF_8);
+        for (byte b : reply) {
+            assertThat(promise.isDone()).isFalse();
+            channel.writeInbound(Unpooled.wrappedBuffer(new byte[] {b}));
+        }
+
+        assertThat(promise.getNow()).containsEntry("k1", "v1").containsKey("k2").hasSize(2);
+        channel.finish();
+    }
+
+    @Test
+    public void testPipelinedReplies() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandsQueue(2), new CommandDecoder());
+        RPromise<List<Object>> promise1 = new RedissonPromise<List<Object>>();
+        channel.writeAndFlush(new CommandData<List<Object>, List<Object>>(promise1, StringCodec.INSTANCE, RedisCommands.LRANGE, new Object[] {"list", 0, -1}));
+        RPromise<String> promise2 = new RedissonPromise<String>();
+        channel.writeAndFlush(new CommandData<String, String>(promise2, StringCodec.INSTANCE, RedisCommands.PING, new Object[] {}));
+
+        channel.writeInbound(Unpooled.copiedBuffer("*2\r\n$1\r\na\r\n$1\r\nb\r\n+PONG\r\n", CharsetUtil.UTF_8));
+
+        assertThat(promise1.getNow()).isEqualTo(Arrays.asList("a", "b"));
+        assertThat(promise2.getNow()).isEqualTo("PONG");
+        channel.finish();
+    }
+
+    @Test
+    public void testSegmentedReply() throws Exception {
+        for (int size : new int[] {1024, 1024 * 1024}) {
+            decodeSegmentedReply(size, 1024);
+        }
+    }
+
+    private void decodeSegmentedReply(int replySize, int elementSize) {
+        int elements = replySize / elementSize;
+        byte[] element = new byte[elementSize];
+        Arrays.fill(element, (byte) 'x');
+        String value = new String(element, CharsetUtil.UTF_8);
+
+        ByteBuf reply = Unpooled.buffer(replySize + elements * 16);
+        reply.writeBytes(("*" + elements + "\r\n").getBytes(CharsetUtil.UTF_8));
+        for (int i = 0; i < elements; i++) {
+            reply.writeBytes(("$" + elementSize + "\r\n").getBytes(CharsetUtil.UTF_8));
+            reply.writeBytes(element);
+            reply.writeBytes("\r\n".getBytes(CharsetUtil.UTF_8));
+        }
+
+        EmbeddedChannel channel = new EmbeddedChannel(new CommandsQueue(), new CommandDecoder());
+        RPromise<List<Object>> promise = new RedissonPromise<List<Object>>();
+        channel.writeAndFlush(new CommandData<List<Object>, List<Object>>(promise, StringCodec.INSTANCE, RedisCommands.LRANGE, new Object[] {"list", 0, -1}));
+
+        while (reply.isReadable()) {
+            assertThat(promise.isDone()).isFalse();
+            int length = Math.min(SEGMENT_SIZE, reply.readableBytes());
+            channel.writeInbound(reply.readRetainedSlice(length));
+        }
+
+        assertThat(promise.getNow()).hasSize(elements).containsOnly(value);
+        reply.release();
+        channel.finish();
+    }
+
+}
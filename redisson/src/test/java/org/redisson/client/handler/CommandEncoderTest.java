@@ -0,0 +1,59 @@
+package org.redisson.client.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.CommandData;
+import org.redisson.client.protocol.RedisCommand;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.misc.RedissonPromise;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+
+public class CommandEncoderTest {
+
+    @Test
+    public void testParams() {
+        ByteBuf buf = Unpooled.copiedBuffer("buf", CharsetUtil.UTF_8);
+        String result = encode(RedisCommands.SET, "key", "value".getBytes(CharsetUtil.UTF_8), buf, 
+                -15L, 0, 123456789012L, 1.5, "\u00e9\u20ac", "\ud83d\ude00");
+        buf.release();
+        
+        assertThat(result).isEqualTo("*11\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n$3\r\nbuf\r\n"
+                + "$3\r\n-15\r\n$1\r\n0\r\n$12\r\n123456789012\r\n$3\r\n1.5\r\n"
+                + "$5\r\n\u00e9\u20ac\r\n$4\r\n\ud83d\ude00\r\n");
+    }
+
+    @Test
+    public void testSubName() {
+        String result = encode(RedisCommands.SCRIPT_LOAD, "return 1");
+        
+        assertThat(result).isEqualTo("*3\r\n$6\r\nSCRIPT\r\n$4\r\nLOAD\r\n$8\r\nreturn 1\r\n");
+    }
+
+    @Test
+    public void testLargeArgument() {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            value.append('a');
+        }
+        String result = encode(RedisCommands.GET, value.toString());
+        
+        assertThat(result).isEqualTo("*2\r\n$3\r\nGET\r\n$2000\r\n" + value + "\r\n");
+    }
+
+    private String encode(RedisCommand<?> command, Object... params) {
+        EmbeddedChannel channel = new EmbeddedChannel(CommandEncoder.INSTANCE);
+        channel.writeOutbound(new CommandData<Object, Object>(new RedissonPromise<Object>(), StringCodec.INSTANCE, command, params));
+        ByteBuf out = channel.readOutbound();
+        String result = out.toString(CharsetUtil.UTF_8);
+        out.release();
+        channel.finish();
+        return result;
+    }
+
+}
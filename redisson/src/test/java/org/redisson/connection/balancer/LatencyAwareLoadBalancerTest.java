@@ -0,0 +1,75 @@
+package org.redisson.connection.balancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.redisson.RedisRunner;
+import org.redisson.RedisRunner.RedisProcess;
+import org.redisson.Redisson;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.redisson.config.ReadMode;
+import org.redisson.connection.ClientConnectionsEntry;
+import org.redisson.connection.MasterSlaveEntry;
+
+public class LatencyAwareLoadBalancerTest {
+
+    @Test
+    public void testRequestsTracking() throws IOException, InterruptedException {
+        RedisProcess master = redisTestInstance();
+        RedisProcess slave1 = new RedisRunner()
+                .nosave()
+                .randomDir()
+                .randomPort()
+                .slaveof("127.0.0.1", master.getRedisServerPort())
+                .run();
+        RedisProcess slave2 = new RedisRunner()
+                .nosave()
+                .randomDir()
+                .randomPort()
+                .slaveof("127.0.0.1", master.getRedisServerPort())
+                .run();
+        
+        Config config = new Config();
+        config.useMasterSlaveServers()
+            .setReadMode(ReadMode.SLAVE)
+            .setMasterAddress(master.getRedisServerAddressAndPort())
+            .addSlaveAddress(slave1.getRedisServerAddressAndPort(), slave2.getRedisServerAddressAndPort())
+            .setLoadBalancer(new LatencyAwareLoadBalancer());
+        RedissonClient client = Redisson.create(config);
+        
+        try {
+            RBucket<String> bucket = client.getBucket("key");
+            bucket.set("value");
+            Thread.sleep(500);
+            
+            for (int i = 0; i < 1000; i++) {
+                assertThat(bucket.get()).isEqualTo("value");
+            }
+            
+            MasterSlaveEntry entry = ((Redisson) client).getConnectionManager().getEntrySet().iterator().next();
+            assertThat(entry.getSlaveEntries()).hasSize(2);
+            for (ClientConnectionsEntry slaveEntry : entry.getSlaveEntries()) {
+                assertThat(slaveEntry.getPendingRequests()).isZero();
+                assertThat(slaveEntry.getLatency()).isGreaterThan(0);
+            }
+        } finally {
+            client.shutdown();
+            slave1.stop();
+            slave2.stop();
+            master.stop();
+        }
+    }
+
+    private RedisProcess redisTestInstance() throws IOException, InterruptedException {
+        return new RedisRunner()
+                .nosave()
+                .randomDir()
+                .randomPort()
+                .run();
+    }
+    
+}
@@ -1,6 +1,7 @@
 package org.redisson.jcache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.io.IOException;
 import java.io.Serializable;
@@ -14,16 +15,20 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.cache.Cache;
 import javax.cache.Caching;
 import javax.cache.configuration.Configuration;
 import javax.cache.configuration.FactoryBuilder;
+import javax.cache.integration.CacheLoader;
+import javax.cache.integration.CacheLoaderException;
 import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
 import javax.cache.configuration.MutableConfiguration;
 import javax.cache.event.CacheEntryEvent;
 import javax.cache.event.CacheEntryExpiredListener;
 import javax.cache.event.CacheEntryListenerException;
+import javax.cache.expiry.AccessedExpiryPolicy;
 import javax.cache.expiry.CreatedExpiryPolicy;
 import javax.cache.expiry.Duration;
 
@@ -141,6 +146,70 @@ public class JCacheTest extends BaseTest {
         cache.close();
     }
 
+    public static class CountingLoader implements CacheLoader<String, String>, Serializable {
+
+        static final AtomicInteger LOADS = new AtomicInteger();
+        
+        @Override
+        public String load(String key) throws CacheLoaderException {
+            LOADS.incrementAndGet();
+            return "loaded-" + key;
+        }
+
+        @Override
+        public Map<String, String> loadAll(Iterable<? extends String> keys) throws CacheLoaderException {
+            Map<String, String> result = new HashMap<String, String>();
+            for (String key : keys) {
+                result.put(key, load(key));
+            }
+            return result;
+        }
+        
+    }
+    
+    @Test
+    public void testGetAccessExpiry() throws InterruptedException {
+        MutableConfiguration<String, String> config = new MutableConfiguration<>();
+        config.setExpiryPolicyFactory(AccessedExpiryPolicy.factoryOf(new Duration(TimeUnit.SECONDS, 1)));
+        Configuration<String, String> redissonConfig = RedissonConfiguration.fromInstance(redisson, config);
+        Cache<String, String> cache = Caching.getCachingProvider().getCacheManager()
+                .createCache("test", redissonConfig);
+        
+        cache.put("1", "2");
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(500);
+            assertThat(cache.get("1")).isEqualTo("2");
+        }
+        assertThat(cache.getAll(new HashSet<String>(Arrays.asList("1", "3")))).containsOnly(entry("1", "2"));
+        
+        Thread.sleep(1100);
+        assertThat(cache.get("1")).isNull();
+        
+        cache.close();
+    }
+    
+    @Test
+    public void testGetReadThrough() {
+        MutableConfiguration<String, String> config = new MutableConfiguration<>();
+        config.setReadThrough(true);
+        config.setCacheLoaderFactory(FactoryBuilder.factoryOf(CountingLoader.class));
+        Configuration<String, String> redissonConfig = RedissonConfiguration.fromInstance(redisson, config);
+        Cache<String, String> cache = Caching.getCachingProvider().getCacheManager()
+                .createCache("test", redissonConfig);
+        
+        CountingLoader.LOADS.set(0);
+        assertThat(cache.get("1")).isEqualTo("loaded-1");
+        assertThat(cache.get("1")).isEqualTo("loaded-1");
+        assertThat(CountingLoader.LOADS.get()).isEqualTo(1);
+        
+        cache.put("2", "value");
+        assertThat(cache.getAll(new HashSet<String>(Arrays.asList("1", "2", "3"))))
+                        .containsOnly(entry("1", "loaded-1"), entry("2", "value"), entry("3", "loaded-3"));
+        assertThat(CountingLoader.LOADS.get()).isEqualTo(2);
+        
+        cache.close();
+    }
+    
     @Test
     public void testExpiration() throws InterruptedException, IllegalArgumentException, URISyntaxException, FailedToStartRedisException, IOException {
         RedisProcess runner = new RedisRunner()
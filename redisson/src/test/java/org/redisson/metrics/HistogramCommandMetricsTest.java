@@ -0,0 +1,78 @@
+package org.redisson.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.management.ObjectName;
+
+import org.junit.Test;
+import org.redisson.BaseTest;
+import org.redisson.Redisson;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+
+public class HistogramCommandMetricsTest {
+
+    @Test
+    public void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getMax()).isEqualTo(1000);
+        assertThat(snapshot.getMean()).isEqualTo(500);
+        // log-linear buckets keep relative error within 1/16
+        assertThat(snapshot.getValueAtPercentile(50)).isBetween(500L, 532L);
+        assertThat(snapshot.getValueAtPercentile(99)).isBetween(990L, 1000L);
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(1000);
+    }
+    
+    @Test
+    public void testCommandStatistics() throws Exception {
+        HistogramCommandMetrics metrics = new HistogramCommandMetrics();
+        Config config = BaseTest.createConfig();
+        config.setCommandMetrics(metrics);
+        RedissonClient redisson = Redisson.create(config);
+        String id = ((Redisson) redisson).getConnectionManager().getId().toString();
+        
+        RBucket<String> bucket = redisson.getBucket("test");
+        for (int i = 0; i < 100; i++) {
+            bucket.set("value" + i);
+            bucket.get();
+        }
+        
+        List<CommandStatistics> stats = metrics.getCommandStatistics();
+        CommandStatistics set = find(stats, "SET");
+        assertThat(set.getCount()).isEqualTo(100);
+        assertThat(set.getErrors()).isZero();
+        assertThat(set.getMax()).isGreaterThanOrEqualTo(set.getP50());
+        assertThat(find(stats, "GET").getCount()).isEqualTo(100);
+        assertThat(metrics.getConnectionAcquireStatistics()).isNotEmpty();
+        assertThat(metrics.getWriteStatistics()).isNotEmpty();
+        
+        ObjectName name = new ObjectName("org.redisson:type=CommandMetrics,id=" + id);
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isTrue();
+        
+        metrics.reset();
+        assertThat(metrics.getCommandStatistics()).isEmpty();
+        
+        redisson.shutdown();
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isFalse();
+    }
+
+    private CommandStatistics find(List<CommandStatistics> stats, String command) {
+        for (CommandStatistics stat : stats) {
+            if (stat.getCommand().equals(command)) {
+                return stat;
+            }
+        }
+        throw new AssertionError(command + " not found in " + stats);
+    }
+    
+}
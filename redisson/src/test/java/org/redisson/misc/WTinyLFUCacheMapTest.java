@@ -0,0 +1,98 @@
+package org.redisson.misc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.redisson.cache.Cache;
+import org.redisson.cache.WTinyLFUCacheMap;
+
+public class WTinyLFUCacheMapTest {
+
+    @Test
+    public void testMaxIdleTimeEviction() throws InterruptedException {
+        Cache<Integer, Integer> map = new WTinyLFUCacheMap<Integer, Integer>(2, 0, 0);
+        map.put(1, 0, 0, TimeUnit.MILLISECONDS, 400, TimeUnit.MILLISECONDS);
+        assertThat(map.get(1)).isEqualTo(0);
+        Thread.sleep(200);
+        assertThat(map.get(1)).isEqualTo(0);
+        Thread.sleep(200);
+        assertThat(map.get(1)).isEqualTo(0);
+        Thread.sleep(200);
+        assertThat(map.get(1)).isEqualTo(0);
+        Thread.sleep(410);
+        assertThat(map.keySet()).isEmpty();
+    }
+
+    @Test
+    public void testTTLEviction() throws InterruptedException {
+        Cache<Integer, Integer> map = new WTinyLFUCacheMap<Integer, Integer>(2, 0, 0);
+        map.put(1, 0, 500, TimeUnit.MILLISECONDS, 0, TimeUnit.MILLISECONDS);
+        assertThat(map.get(1)).isEqualTo(0);
+        Thread.sleep(100);
+        assertThat(map.get(1)).isEqualTo(0);
+        assertThat(map.keySet()).containsOnly(1);
+        Thread.sleep(500);
+        assertThat(map.keySet()).isEmpty();
+    }
+
+    @Test
+    public void testSizeEviction() {
+        Cache<Integer, Integer> map = new WTinyLFUCacheMap<Integer, Integer>(2, 0, 0);
+        map.put(1, 0);
+        map.put(2, 0);
+
+        assertThat(map.keySet()).containsOnly(1, 2);
+
+        map.put(3, 0);
+
+        assertThat(map.keySet()).contains(3).hasSize(2);
+
+        map.put(4, 0);
+
+        assertThat(map.keySet()).contains(4).hasSize(2);
+    }
+
+    @Test
+    public void testScanResistance() {
+        Cache<Integer, Integer> map = new WTinyLFUCacheMap<Integer, Integer>(10, 0, 0);
+        for (int i = 0; i < 5; i++) {
+            map.put(i, i);
+        }
+        for (int j = 0; j < 10; j++) {
+            for (int i = 0; i < 5; i++) {
+                assertThat(map.get(i)).isEqualTo(i);
+            }
+        }
+
+        for (int i = 100; i < 1000; i++) {
+            map.put(i, i);
+            if (i % 10 == 0) {
+                for (int j = 0; j < 5; j++) {
+                    assertThat(map.get(j)).isEqualTo(j);
+                }
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(10);
+        assertThat(map.keySet()).contains(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void testClear() {
+        Cache<Integer, Integer> map = new WTinyLFUCacheMap<Integer, Integer>(5, 0, 0);
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+            map.get(i);
+        }
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+        assertThat(map.size()).isEqualTo(5);
+    }
+
+}
@@ -0,0 +1,168 @@
+package org.redisson.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class AsyncSemaphoreTest {
+
+    @Test
+    public void testAcquireRelease() {
+        AsyncSemaphore semaphore = new AsyncSemaphore(1);
+        AtomicInteger counter = new AtomicInteger();
+
+        semaphore.acquire(counter::incrementAndGet);
+        assertThat(counter.get()).isEqualTo(1);
+        assertThat(semaphore.getCounter()).isZero();
+
+        semaphore.acquire(counter::incrementAndGet);
+        assertThat(counter.get()).isEqualTo(1);
+        assertThat(semaphore.queueSize()).isEqualTo(1);
+        assertThat(semaphore.getQueuedAcquires()).isEqualTo(1);
+
+        semaphore.release();
+        assertThat(counter.get()).isEqualTo(2);
+        assertThat(semaphore.queueSize()).isZero();
+        assertThat(semaphore.getCounter()).isZero();
+
+        semaphore.release();
+        assertThat(semaphore.getCounter()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRemove() {
+        AsyncSemaphore semaphore = new AsyncSemaphore(0);
+        AtomicInteger counter = new AtomicInteger();
+        Runnable listener = counter::incrementAndGet;
+
+        semaphore.acquire(listener);
+        assertThat(semaphore.remove(listener)).isTrue();
+
+        semaphore.release();
+        assertThat(counter.get()).isZero();
+        assertThat(semaphore.getCounter()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDuplicateListener() {
+        AsyncSemaphore semaphore = new AsyncSemaphore(0);
+        AtomicInteger counter = new AtomicInteger();
+        Runnable listener = counter::incrementAndGet;
+
+        semaphore.acquire(listener);
+        semaphore.acquire(listener);
+        assertThat(semaphore.queueSize()).isEqualTo(1);
+
+        semaphore.release();
+        semaphore.release();
+        assertThat(counter.get()).isEqualTo(1);
+        assertThat(semaphore.getCounter()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRemoveAndAcquireAgain() {
+        AsyncSemaphore semaphore = new AsyncSemaphore(0);
+        AtomicInteger counter = new AtomicInteger();
+        Runnable listener = counter::incrementAndGet;
+
+        semaphore.acquire(listener);
+        assertThat(semaphore.remove(listener)).isTrue();
+        assertThat(semaphore.remove(listener)).isFalse();
+        assertThat(semaphore.queueSize()).isZero();
+
+        semaphore.acquire(listener);
+        semaphore.release();
+        semaphore.release();
+        assertThat(counter.get()).isEqualTo(1);
+        assertThat(semaphore.getCounter()).isEqualTo(1);
+        assertThat(semaphore.queueSize()).isZero();
+    }
+
+    @Test
+    public void testRemoveMany() {
+        AsyncSemaphore semaphore = new AsyncSemaphore(0);
+        AtomicInteger counter = new AtomicInteger();
+        List<Runnable> listeners = new ArrayList<Runnable>();
+        for (int i = 0; i < 5000; i++) {
+            Runnable listener = counter::incrementAndGet;
+            listeners.add(listener);
+            semaphore.acquire(listener);
+        }
+
+        for (int i = 0; i < listeners.size() - 1; i++) {
+            assertThat(semaphore.remove(listeners.get(i))).isTrue();
+        }
+        assertThat(semaphore.queueSize()).isEqualTo(1);
+
+        semaphore.release();
+        assertThat(counter.get()).isEqualTo(1);
+        assertThat(semaphore.queueSize()).isZero();
+        assertThat(semaphore.getCounter()).isZero();
+    }
+
+    @Test
+    public void testTryAcquire() {
+        AsyncSemaphore semaphore = new AsyncSemaphore(1);
+        assertThat(semaphore.tryAcquire(100)).isTrue();
+        assertThat(semaphore.tryAcquire(100)).isFalse();
+        assertThat(semaphore.queueSize()).isZero();
+
+        semaphore.release();
+        assertThat(semaphore.getCounter()).isEqualTo(1);
+    }
+
+    @Test
+    public void testConcurrentAcquire() throws InterruptedException {
+        for (int threads : new int[] {64, 256, 1024}) {
+            concurrentAcquire(threads, 64, 1000);
+        }
+    }
+
+    private void concurrentAcquire(int threads, int permits, int iterations) throws InterruptedException {
+        AsyncSemaphore semaphore = new AsyncSemaphore(permits);
+        AtomicInteger acquired = new AtomicInteger();
+        AtomicInteger maxAcquired = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(threads * iterations);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < iterations; j++) {
+                    CountDownLatch acquireLatch = new CountDownLatch(1);
+                    semaphore.acquire(() -> {
+                        int value = acquired.incrementAndGet();
+                        maxAcquired.accumulateAndGet(value, Math::max);
+                        acquireLatch.countDown();
+                    });
+                    try {
+                        acquireLatch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    acquired.decrementAndGet();
+                    semaphore.release();
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertThat(latch.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(maxAcquired.get()).isLessThanOrEqualTo(permits);
+        assertThat(semaphore.getCounter()).isEqualTo(permits);
+        assertThat(semaphore.queueSize()).isZero();
+        assertThat(semaphore.getQueuedAcquires()).isLessThanOrEqualTo((long) threads * iterations);
+    }
+
+}